@@ -0,0 +1,129 @@
+package com.oopopps.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oopopps.EventLogger;
+import com.oopopps.Player;
+import com.oopopps.command.AnswerCommand;
+import com.oopopps.command.RemoteControl;
+import com.oopopps.display.ScoreBoard;
+
+/**
+ * Compares feeding a block of answers through RemoteControl one command at a
+ * time with applying the same block through executeBatch, with a scoreboard
+ * and a CSV event log attached as in a real game. Scores are reported per answer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(BatchBenchmark.BATCH_SIZE)
+public class BatchBenchmark {
+    static final int BATCH_SIZE = 1024;
+
+    @Param({"4"})
+    int playerCount;
+
+    private TurnStreams.Turn[] turns;
+    private ScoreBoard scoreBoard;
+    private RemoteControl remote;
+    private Path dir;
+    private Path logFile;
+    private EventLogger logger;
+
+    /**
+     * Generates the turn stream and the scoreboard it updates.
+     * 
+     * @throws IOException if the log directory cannot be created
+     */
+    @Setup(Level.Trial)
+    public void generateTurns() throws IOException {
+        List<Player> players = TurnStreams.players(playerCount);
+        turns = TurnStreams.turns(players, QuestionBanks.questions(1000), BATCH_SIZE, 42);
+        scoreBoard = new ScoreBoard();
+        scoreBoard.initPlayers(players);
+        remote = new RemoteControl();
+        dir = Files.createTempDirectory("jeopardy-bench-batch");
+    }
+
+    /**
+     * Opens a fresh log for the iteration.
+     * 
+     * @throws Exception if the log cannot be opened
+     */
+    @Setup(Level.Iteration)
+    public void openLog() throws Exception {
+        logFile = dir.resolve("game_log.csv");
+        Files.deleteIfExists(logFile);
+        logger = new EventLogger(logFile.toString(), "GAME-BENCH");
+    }
+
+    /**
+     * Closes the iteration's log.
+     */
+    @TearDown(Level.Iteration)
+    public void closeLog() {
+        logger.close();
+    }
+
+    /**
+     * Deletes the log files.
+     * 
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteDirectory() throws IOException {
+        Files.deleteIfExists(logFile);
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * Executes the block one command at a time.
+     * 
+     * @return the number of commands left on the undo history
+     */
+    @Benchmark
+    public int perCommand() {
+        for (TurnStreams.Turn t : turns) {
+            remote.executeCommand(new AnswerCommand(t.player, t.question, t.answer, logger, scoreBoard));
+        }
+        return remote.getUndoDepth();
+    }
+
+    /**
+     * Executes the block as one batch.
+     * 
+     * @return the number of commands left on the undo history
+     */
+    @Benchmark
+    public int batched() {
+        List<AnswerCommand> commands = new ArrayList<>(turns.length);
+        for (TurnStreams.Turn t : turns) {
+            commands.add(new AnswerCommand(t.player, t.question, t.answer, logger, scoreBoard));
+        }
+        remote.executeBatch(commands);
+        return remote.getUndoDepth();
+    }
+}
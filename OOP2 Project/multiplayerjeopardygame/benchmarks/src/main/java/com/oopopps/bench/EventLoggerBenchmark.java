@@ -0,0 +1,110 @@
+package com.oopopps.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oopopps.EventLogger;
+import com.oopopps.log.AsyncEventSink;
+import com.oopopps.log.BinaryEventSink;
+import com.oopopps.log.CsvEventSink;
+import com.oopopps.log.EventSink;
+
+/**
+ * Measures the cost EventLogger.log adds to a turn for each kind of event sink.
+ * The log file is recreated for every iteration so it does not grow without bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventLoggerBenchmark {
+
+    @Param({"csv", "async-csv", "binary"})
+    String sink;
+
+    private Path dir;
+    private Path logFile;
+    private EventLogger logger;
+
+    /**
+     * Creates the directory holding the log files.
+     * 
+     * @throws IOException if the directory cannot be created
+     */
+    @Setup(Level.Trial)
+    public void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("jeopardy-bench-log");
+    }
+
+    /**
+     * Opens a fresh log for the iteration.
+     * 
+     * @throws IOException if the log cannot be opened
+     */
+    @Setup(Level.Iteration)
+    public void openLog() throws IOException {
+        logFile = dir.resolve("game_log." + (sink.equals("binary") ? "bin" : "csv"));
+        Files.deleteIfExists(logFile);
+
+        EventSink eventSink;
+        switch (sink) {
+            case "async-csv":
+                eventSink = new AsyncEventSink(new CsvEventSink(logFile.toString()));
+                break;
+
+            case "binary":
+                eventSink = new BinaryEventSink(logFile.toString());
+                break;
+
+            default:
+                eventSink = new CsvEventSink(logFile.toString());
+                break;
+        }
+        logger = new EventLogger(eventSink, "GAME-BENCH");
+    }
+
+    /**
+     * Closes the iteration's log, flushing anything still buffered.
+     */
+    @TearDown(Level.Iteration)
+    public void closeLog() {
+        logger.close();
+    }
+
+    /**
+     * Deletes the log files.
+     * 
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteDirectory() throws IOException {
+        Files.deleteIfExists(logFile);
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * Logs one answer event.
+     */
+    @Benchmark
+    public void logAnswer() {
+        logger.log("P1", "Answer Question", "Category 7", "300", "OptionB", "Correct", 1200);
+    }
+}
@@ -0,0 +1,94 @@
+package com.oopopps.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.oopopps.ParserFactory;
+import com.oopopps.Question;
+import com.oopopps.QuestionParser;
+
+/**
+ * Measures loading synthetic question banks of 1k, 100k and 1M questions in
+ * every supported file format, both into a list and as a stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParserBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"CSV", "JSON", "XML"})
+    String format;
+
+    private Path dir;
+    private Path file;
+    private QuestionParser parser;
+
+    /**
+     * Writes the question bank once per parameter combination.
+     * 
+     * @throws IOException if the bank cannot be written
+     */
+    @Setup(Level.Trial)
+    public void writeBank() throws IOException {
+        dir = Files.createTempDirectory("jeopardy-bench");
+        file = QuestionBanks.write(dir, format, size);
+        parser = ParserFactory.getParser(file);
+    }
+
+    /**
+     * Deletes the question bank.
+     * 
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteBank() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * Parses the whole bank into a list.
+     * 
+     * @return the parsed questions
+     * @throws Exception if parsing fails
+     */
+    @Benchmark
+    public List<Question> parse() throws Exception {
+        return parser.parse(file);
+    }
+
+    /**
+     * Streams the bank one question at a time.
+     * 
+     * @param bh consumes each question
+     * @throws Exception if parsing fails
+     */
+    @Benchmark
+    public void stream(Blackhole bh) throws Exception {
+        parser.stream(file, bh::consume);
+    }
+}
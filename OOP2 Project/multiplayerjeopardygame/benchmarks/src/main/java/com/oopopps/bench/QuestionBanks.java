@@ -0,0 +1,139 @@
+package com.oopopps.bench;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oopopps.Question;
+
+/**
+ * Generates synthetic question banks of any size.
+ * The same index always produces the same question, so runs on different
+ * builds parse identical input. Questions are spread over 50 categories
+ * with the usual 100-500 point values and four options each.
+ */
+public final class QuestionBanks {
+    private static final int CATEGORIES = 50;
+    private static final String[] LETTERS = {"A", "B", "C", "D"};
+
+    private QuestionBanks() {}
+
+    /**
+     * Builds the i-th synthetic question.
+     * 
+     * @param i the question index
+     * @return the question
+     */
+    public static Question question(int i) {
+        Question q = new Question(category(i), value(i), "Synthetic question " + i + ", which option is correct?");
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String letter : LETTERS) {
+            options.put("Option" + letter, "Answer " + letter + " to question " + i);
+        }
+        q.setOptions(options);
+        q.setCorrectAnswer(LETTERS[i % LETTERS.length]);
+        return q;
+    }
+
+    /**
+     * Builds an in-memory bank of synthetic questions.
+     * 
+     * @param count the number of questions
+     * @return the questions in index order
+     */
+    public static List<Question> questions(int count) {
+        List<Question> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(question(i));
+        }
+        return list;
+    }
+
+    /**
+     * Writes a synthetic bank in one of the supported question file formats.
+     * 
+     * @param dir the directory to write to
+     * @param format CSV, JSON or XML
+     * @param count the number of questions
+     * @return the written file
+     * @throws IOException if the file cannot be written
+     */
+    public static Path write(Path dir, String format, int count) throws IOException {
+        Path file = dir.resolve("bench_" + count + "." + format.toLowerCase());
+
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            switch (format) {
+                case "CSV":
+                    writeCsv(w, count);
+                    break;
+
+                case "JSON":
+                    writeJson(w, count);
+                    break;
+
+                case "XML":
+                    writeXml(w, count);
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("Unsupported format: " + format);
+            }
+        }
+        return file;
+    }
+
+    private static void writeCsv(BufferedWriter w, int count) throws IOException {
+        w.write("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+        for (int i = 0; i < count; i++) {
+            Question q = question(i);
+            w.write(q.getCategory() + "," + q.getValue() + ",\"" + q.getQuestionText() + "\"");
+            for (String option : q.getOptions().values()) {
+                w.write("," + option);
+            }
+            w.write("," + q.getCorrectAnswer() + "\n");
+        }
+    }
+
+    private static void writeJson(BufferedWriter w, int count) throws IOException {
+        w.write("[\n");
+        for (int i = 0; i < count; i++) {
+            Question q = question(i);
+            w.write("    {\"Category\": \"" + q.getCategory() + "\", \"Value\": " + q.getValue()
+                    + ", \"Question\": \"" + q.getQuestionText() + "\", \"Options\": {");
+            for (String letter : LETTERS) {
+                w.write((letter.equals("A") ? "" : ", ") + "\"" + letter + "\": \""
+                        + q.getOptions().get("Option" + letter) + "\"");
+            }
+            w.write("}, \"CorrectAnswer\": \"" + q.getCorrectAnswer() + "\"}" + (i + 1 < count ? ",\n" : "\n"));
+        }
+        w.write("]\n");
+    }
+
+    private static void writeXml(BufferedWriter w, int count) throws IOException {
+        w.write("<?xml version='1.0' encoding='utf-8'?>\n<JeopardyQuestions>");
+        for (int i = 0; i < count; i++) {
+            Question q = question(i);
+            w.write("<QuestionItem><Category>" + q.getCategory() + "</Category><Value>" + q.getValue()
+                    + "</Value><QuestionText>" + q.getQuestionText() + "</QuestionText><Options>");
+            for (Map.Entry<String, String> option : q.getOptions().entrySet()) {
+                w.write("<" + option.getKey() + ">" + option.getValue() + "</" + option.getKey() + ">");
+            }
+            w.write("</Options><CorrectAnswer>" + q.getCorrectAnswer() + "</CorrectAnswer></QuestionItem>\n");
+        }
+        w.write("</JeopardyQuestions>\n");
+    }
+
+    private static String category(int i) {
+        return "Category " + (i % CATEGORIES);
+    }
+
+    private static int value(int i) {
+        return 100 * (1 + (i / CATEGORIES) % 5);
+    }
+}
@@ -0,0 +1,103 @@
+package com.oopopps.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oopopps.Player;
+import com.oopopps.Question;
+import com.oopopps.command.AnswerCommand;
+import com.oopopps.report.PDFReportStrategy;
+import com.oopopps.report.QuestionRegistry;
+import com.oopopps.report.ReportStrategy;
+import com.oopopps.report.StreamingPDFReportStrategy;
+import com.oopopps.report.TextReportStrategy;
+import com.oopopps.report.TurnRecord;
+
+/**
+ * Measures writing the end-of-game report for games of different lengths
+ * with each ReportStrategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportBenchmark {
+
+    @Param({"25", "1000", "10000"})
+    int turnCount;
+
+    @Param({"text", "pdf", "pdf-streaming"})
+    String format;
+
+    private Path dir;
+    private Path report;
+    private ReportStrategy strategy;
+    private List<Player> players;
+    private TurnRecord turns;
+
+    /**
+     * Plays a synthetic game to produce the players and turn history to report on.
+     * 
+     * @throws IOException if the output directory cannot be created
+     */
+    @Setup(Level.Trial)
+    public void playGame() throws IOException {
+        dir = Files.createTempDirectory("jeopardy-bench-report");
+        boolean pdf = format.startsWith("pdf");
+        report = dir.resolve(pdf ? "game_report.pdf" : "game_report.txt");
+        if (format.equals("pdf-streaming")) {
+            strategy = new StreamingPDFReportStrategy();
+        } else {
+            strategy = pdf ? new PDFReportStrategy() : new TextReportStrategy();
+        }
+
+        players = TurnStreams.players(4);
+        List<Question> questions = QuestionBanks.questions(1000);
+        turns = new TurnRecord(new QuestionRegistry(questions));
+        for (TurnStreams.Turn t : TurnStreams.turns(players, questions, turnCount, 7)) {
+            AnswerCommand command = new AnswerCommand(t.player, t.question, t.answer, null, null);
+            command.execute();
+            turns.add(players.indexOf(t.player), t.question, t.answer, command.isCorrect(), t.player.getScore());
+        }
+    }
+
+    /**
+     * Deletes the report output.
+     * 
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteReport() throws IOException {
+        Files.deleteIfExists(report);
+        Files.deleteIfExists(dir);
+    }
+
+    /**
+     * Generates one report.
+     * 
+     * @throws Exception if the report cannot be written
+     */
+    @Benchmark
+    public void generate() throws Exception {
+        strategy.generate(report, "GAME-BENCH", players, turns);
+    }
+}
@@ -0,0 +1,89 @@
+package com.oopopps.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.oopopps.Player;
+import com.oopopps.command.AnswerCommand;
+import com.oopopps.command.RemoteControl;
+import com.oopopps.display.ScoreBoard;
+
+/**
+ * Measures processing a synthetic turn stream: grading the answer, updating
+ * the player's score and notifying the scoreboard, as AnswerCommand does on
+ * every turn of a game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TurnBenchmark {
+    private static final int STREAM_LENGTH = 4096;
+
+    @Param({"2", "4"})
+    int playerCount;
+
+    private TurnStreams.Turn[] turns;
+    private ScoreBoard scoreBoard;
+    private RemoteControl remote;
+    private int next;
+
+    /**
+     * Generates the turn stream and the scoreboard it updates.
+     */
+    @Setup(Level.Trial)
+    public void generateTurns() {
+        List<Player> players = TurnStreams.players(playerCount);
+        turns = TurnStreams.turns(players, QuestionBanks.questions(1000), STREAM_LENGTH, 42);
+        scoreBoard = new ScoreBoard();
+        scoreBoard.initPlayers(players);
+        remote = new RemoteControl();
+    }
+
+    /**
+     * Executes one answer turn.
+     * 
+     * @return the score change, so the work cannot be eliminated
+     */
+    @Benchmark
+    public int answer() {
+        TurnStreams.Turn t = nextTurn();
+        AnswerCommand command = new AnswerCommand(t.player, t.question, t.answer, null, scoreBoard);
+        command.execute();
+        return command.getDelta();
+    }
+
+    /**
+     * Executes one answer turn through the remote control and undoes it again.
+     * 
+     * @return the player's score after the undo
+     */
+    @Benchmark
+    public int answerAndUndo() {
+        TurnStreams.Turn t = nextTurn();
+        remote.executeCommand(new AnswerCommand(t.player, t.question, t.answer, null, scoreBoard));
+        remote.undoLast();
+        return t.player.getScore();
+    }
+
+    private TurnStreams.Turn nextTurn() {
+        TurnStreams.Turn t = turns[next];
+        next = (next + 1) & (STREAM_LENGTH - 1);
+        return t;
+    }
+}
@@ -0,0 +1,71 @@
+package com.oopopps.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.oopopps.Player;
+import com.oopopps.Question;
+
+/**
+ * Generates synthetic streams of game turns.
+ * Players answer in rotation; each turn picks a pseudo-random question and is
+ * answered correctly about half the time, alternating between the "A" and
+ * "OptionA" answer spellings the game accepts.
+ */
+public final class TurnStreams {
+    private static final String[] LETTERS = {"A", "B", "C", "D"};
+
+    private TurnStreams() {}
+
+    /**
+     * One synthetic turn: who answers which question with what.
+     */
+    public static final class Turn {
+        public final Player player;
+        public final Question question;
+        public final String answer;
+
+        private Turn(Player player, Question question, String answer) {
+            this.player = player;
+            this.question = question;
+            this.answer = answer;
+        }
+    }
+
+    /**
+     * Creates the players taking part in synthetic games.
+     * 
+     * @param count the number of players
+     * @return the players, with IDs P1..Pn
+     */
+    public static List<Player> players(int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            players.add(new Player("P" + i, "Player " + i));
+        }
+        return players;
+    }
+
+    /**
+     * Generates a turn stream over the given players and questions.
+     * 
+     * @param players the players answering in rotation
+     * @param questions the questions to draw from
+     * @param length the number of turns
+     * @param seed the random seed, so a stream can be reproduced exactly
+     * @return the turns in play order
+     */
+    public static Turn[] turns(List<Player> players, List<Question> questions, int length, long seed) {
+        Random random = new Random(seed);
+        Turn[] turns = new Turn[length];
+
+        for (int i = 0; i < length; i++) {
+            Question q = questions.get(random.nextInt(questions.size()));
+            String letter = random.nextBoolean() ? q.getCorrectAnswer() : LETTERS[random.nextInt(LETTERS.length)];
+            String answer = random.nextBoolean() ? letter : "Option" + letter;
+            turns[i] = new Turn(players.get(i % players.size()), q, answer);
+        }
+        return turns;
+    }
+}
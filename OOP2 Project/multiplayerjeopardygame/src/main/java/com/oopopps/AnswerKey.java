@@ -0,0 +1,126 @@
+package com.oopopps;
+
+import java.util.List;
+
+/**
+ * The correct answer of a question, resolved once to a canonical option id.
+ * The id is the answer trimmed and upper-cased, without an "Option" prefix, so
+ * "A", "OptionA" and " optiona " all share the id "A". A bare "Option" keeps its
+ * text as the id, and a blank answer matches nothing. Given answers are matched
+ * against the id character by character, without creating any strings, which
+ * keeps answer checking free of garbage no matter how many answers are graded.
+ */
+public final class AnswerKey {
+    private static final String PREFIX = "OPTION";
+
+    /** A key that matches no answer, used for questions without a correct answer. */
+    public static final AnswerKey NONE = new AnswerKey(null);
+
+    private final String id;
+
+    private AnswerKey(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Resolves an answer as written in a question file.
+     *
+     * @param correctAnswer the correct answer, such as "B" or "OptionB"
+     * @return the answer key, or {@link #NONE} if the answer is null or blank
+     */
+    public static AnswerKey of(String correctAnswer) {
+        if (correctAnswer == null) return NONE;
+
+        int start = start(correctAnswer);
+        int end = end(correctAnswer, start);
+        if (start == end) return NONE;
+
+        // Upper-cased per character, as matches() compares, so the result does not depend on the locale
+        char[] id = new char[end - start];
+        for (int i = 0; i < id.length; i++) {
+            id[i] = Character.toUpperCase(correctAnswer.charAt(start + i));
+        }
+        return new AnswerKey(new String(id));
+    }
+
+    /**
+     * Gets the canonical option id, such as "B".
+     *
+     * @return the id, or null for {@link #NONE}
+     */
+    public String getId() { return id; }
+
+    /**
+     * Checks whether a given answer names the correct option.
+     * Both the short ("B") and long ("OptionB") forms are accepted, in any case
+     * and with surrounding whitespace.
+     *
+     * @param given the answer to check
+     * @return true if the answer is correct
+     */
+    public boolean matches(CharSequence given) {
+        if (id == null || given == null) return false;
+
+        int start = start(given);
+        int end = end(given, start);
+        if (end - start != id.length()) return false;
+
+        for (int i = 0; i < id.length(); i++) {
+            if (Character.toUpperCase(given.charAt(start + i)) != id.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Grades a batch of answers, for example from an automated or replayed game.
+     *
+     * @param questions the questions answered
+     * @param answers the answer given to each question, in the same order
+     * @param correct receives whether each answer was correct; must be at least as long as the lists
+     * @return the number of correct answers
+     * @throws IllegalArgumentException if the lists differ in size or the result array is too short
+     */
+    public static int grade(List<Question> questions, List<? extends CharSequence> answers, boolean[] correct) {
+        if (questions.size() != answers.size() || correct.length < questions.size()) {
+            throw new IllegalArgumentException("Expected one answer and result slot per question");
+        }
+
+        int count = 0;
+        for (int i = 0; i < questions.size(); i++) {
+            correct[i] = questions.get(i).getAnswerKey().matches(answers.get(i));
+            if (correct[i]) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return id == null ? "<none>" : id;
+    }
+
+    /**
+     * Finds where the option id starts: after leading whitespace and an optional "Option"
+     * prefix. The prefix is only skipped when an id follows it.
+     */
+    private static int start(CharSequence s) {
+        int start = 0;
+        while (start < s.length() && Character.isWhitespace(s.charAt(start))) start++;
+
+        if (end(s, start) - start > PREFIX.length()) {
+            for (int i = 0; i < PREFIX.length(); i++) {
+                if (Character.toUpperCase(s.charAt(start + i)) != PREFIX.charAt(i)) return start;
+            }
+            start += PREFIX.length();
+        }
+        return start;
+    }
+
+    /**
+     * Finds where the option id ends: before trailing whitespace.
+     */
+    private static int end(CharSequence s, int start) {
+        int end = s.length();
+        while (end > start && Character.isWhitespace(s.charAt(end - 1))) end--;
+        return end;
+    }
+}
@@ -3,6 +3,7 @@ package com.oopopps;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Scanner;
+import java.util.concurrent.CompletionException;
 /**
  * Main application class that serves as the entry point for the Jeopardy game.
  * Handles initial setup, user input for question file selection, and game initialization.
@@ -54,6 +55,12 @@ public class App {
         try {
             GameEngine game = new GameEngine(filePath);
             game.run();
+
+            try {
+                game.getReports().join();
+            } catch (CompletionException reportError) {
+                // The game has already shown why its reports failed
+            }
         } 
         catch (Exception error) {
             System.out.println("Sorry, something went wrong!");
@@ -1,26 +1,32 @@
 package com.oopopps;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.LinkedHashMap;
-import java.io.BufferedReader;
+import java.util.function.Consumer;
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.FileReader;
-import java.nio.file.Files;
+import java.io.Reader;
 
 /**
  * Parses CSV files containing Jeopardy questions into Question objects.
  * Supports both classpath resource loading and filesystem access.
  * Handles quoted CSV fields and flexible column naming conventions.
+ *
+ * Rows are read one record at a time from a reusable character buffer, so
+ * {@link #stream(Path, Consumer)} runs in constant memory no matter how large the file is.
  */
 public class CSVQuestionParser implements QuestionParser {
 
     /**
      * Parses a CSV file and converts it into a list of Question objects.
-     * 
+     *
      * @param file the path to the CSV file to parse
      * @return a list of Question objects parsed from the file
      * @throws Exception if file cannot be read or parsed
@@ -28,57 +34,134 @@ public class CSVQuestionParser implements QuestionParser {
     @Override
     public List<Question> parse(Path file) throws Exception {
         List<Question> list = new ArrayList<>();
+        stream(file, list::add);
+        return list;
+    }
 
+    /**
+     * Streams the questions of a CSV file to the consumer one row at a time.
+     * The header is bound to column roles once, so each row is mapped without
+     * any per-row string comparisons.
+     *
+     * @param file the path to the CSV file to parse
+     * @param consumer receives each Question in file order
+     * @throws Exception if file cannot be read or parsed
+     */
+    @Override
+    public void stream(Path file, Consumer<Question> consumer) throws Exception {
         String fileName = file.getFileName().toString();
-        BufferedReader r = null;
-
-        // 1️⃣ Try loading from classpath (resources folder)
-        InputStream is = getClass().getClassLoader().getResourceAsStream(fileName);
-        if (is != null) {
-            r = new BufferedReader(new InputStreamReader(is));
-        } else {
-            // 2️⃣ Fallback to filesystem
-            Path resolved = file.toAbsolutePath().normalize();
-
-            if (!Files.exists(resolved)) {
-                throw new Exception("CSV file not found in resources or filesystem: " + fileName);
-            }
 
-            r = new BufferedReader(new FileReader(resolved.toString()));
+        // Try loading from classpath (resources folder), then fall back to the filesystem
+        InputStream is = QuestionFiles.open(file);
+        if (is == null) {
+            throw new Exception("CSV file not found in resources or filesystem: " + fileName);
         }
 
-        // Read header
-        String headerLine = r.readLine();
-        if (headerLine == null) {
-            r.close();
-            throw new Exception("CSV file is empty: " + fileName);
-        }
+        try (RecordReader records = new RecordReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            // Read header
+            if (!records.next()) {
+                throw new Exception("CSV file is empty: " + fileName);
+            }
 
-        String[] headers = splitCSV(headerLine);
+            ColumnBinding columns = ColumnBinding.bind(records);
+            while (records.next()) {
+                if (records.isBlank() || records.size() < columns.width())
+                    continue;
 
-        String line;
-        while ((line = r.readLine()) != null) {
+                consumer.accept(columns.toQuestion(records));
+            }
+        }
+    }
 
-            if (line.trim().isEmpty())
-                continue;
+    /**
+     * Maps each CSV column to the Question property it fills.
+     * Built once from the header row so that data rows are dispatched by column index.
+     */
+    static final class ColumnBinding {
+        private static final int IGNORED = 0;
+        private static final int CATEGORY = 1;
+        private static final int VALUE = 2;
+        private static final int QUESTION_TEXT = 3;
+        private static final int CORRECT_ANSWER = 4;
+        private static final int OPTION = 5;
 
-            String[] fields = splitCSV(line);
-            if (fields.length < headers.length)
-                continue;
+        private final int[] roles;
+        private final String[] headers;
 
-            Question q = new Question();
-            Map<String, String> opts = new LinkedHashMap<>();
+        private ColumnBinding(String[] headers) {
+            this.headers = headers;
+            this.roles = new int[headers.length];
 
             for (int i = 0; i < headers.length; i++) {
-                String header = headers[i].trim();
-                String value = fields[i].trim();
+                String header = headers[i];
 
                 switch (header) {
                     case "Category":
-                        q.setCategory(value);
+                        roles[i] = CATEGORY;
                         break;
 
                     case "Value":
+                        roles[i] = VALUE;
+                        break;
+
+                    case "Question":
+                    case "QuestionText":
+                        roles[i] = QUESTION_TEXT;
+                        break;
+
+                    case "CorrectAnswer":
+                        roles[i] = CORRECT_ANSWER;
+                        break;
+
+                    default:
+                        if (header.toLowerCase().startsWith("option") || header.matches("[A-D]")) {
+                            roles[i] = OPTION;
+                        }
+                        break;
+                }
+            }
+        }
+
+        /**
+         * Binds the columns described by the current (header) record of the reader.
+         *
+         * @param header a reader positioned on the header row
+         * @return the column binding for the file
+         */
+        static ColumnBinding bind(RecordReader header) {
+            String[] names = new String[header.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = header.field(i);
+            }
+            return new ColumnBinding(names);
+        }
+
+        /**
+         * Gets the number of columns declared by the header.
+         *
+         * @return the header width
+         */
+        int width() { return roles.length; }
+
+        /**
+         * Builds a Question from the current data record of the reader.
+         *
+         * @param record a reader positioned on a data row with at least {@link #width()} fields
+         * @return the mapped Question
+         */
+        Question toQuestion(RecordReader record) {
+            Question q = new Question();
+            Map<String, String> opts = new LinkedHashMap<>();
+
+            for (int i = 0; i < roles.length; i++) {
+                String value = record.field(i);
+
+                switch (roles[i]) {
+                    case CATEGORY:
+                        q.setCategory(value);
+                        break;
+
+                    case VALUE:
                         try {
                             q.setValue(Integer.parseInt(value));
                         } catch (Exception e) {
@@ -86,55 +169,201 @@ public class CSVQuestionParser implements QuestionParser {
                         }
                         break;
 
-                    case "Question":
-                    case "QuestionText":
+                    case QUESTION_TEXT:
                         q.setQuestionText(value);
                         break;
 
-                    case "CorrectAnswer":
+                    case CORRECT_ANSWER:
                         q.setCorrectAnswer(value);
                         break;
 
+                    case OPTION:
+                        opts.put(headers[i], value);
+                        break;
+
                     default:
-                        if (header.toLowerCase().startsWith("option") || header.matches("[A-D]")) {
-                            opts.put(header, value);
-                        }
                         break;
                 }
             }
 
             q.setOptions(opts);
-            list.add(q);
+            return q;
         }
-
-        r.close();
-        return list;
     }
 
-
     /**
-     * Safely splits a CSV line into tokens, handling quoted fields that may contain commas.
-     * 
-     * @param line the CSV line to split
-     * @return an array of tokenized field values
+     * Splits CSV text into records of trimmed fields.
+     * Characters are read straight into a reusable buffer and fields are cut out of it
+     * in place; only quoted fields go through an intermediate builder. Quoted fields may
+     * contain commas, line breaks and doubled ("") quote characters.
      */
-    private String[] splitCSV(String line) {
-        List<String> tokens = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (char c : line.toCharArray()) {
-            if (c == '\"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                tokens.add(sb.toString());
-                sb.setLength(0);
+    static final class RecordReader implements Closeable {
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final Reader in;
+        private final StringBuilder quoted = new StringBuilder();
+        private char[] buf = new char[BUFFER_SIZE];
+        private int pos;
+        private int limit;
+        private boolean eof;
+        private String[] fields = new String[16];
+        private int count;
+
+        /**
+         * Creates a record reader over the given character source.
+         *
+         * @param in the CSV text to read
+         */
+        RecordReader(Reader in) {
+            this.in = in;
+        }
+
+        /**
+         * Advances to the next record.
+         *
+         * @return true if a record was read, false at end of input
+         * @throws IOException if the underlying reader fails
+         */
+        boolean next() throws IOException {
+            count = 0;
+            int scan = pos;
+            boolean inQuotes = false;
+
+            while (true) {
+                if (scan == limit) {
+                    if (eof) break;
+                    int offset = scan - pos;
+                    fill();
+                    scan = pos + offset;
+                    continue;
+                }
+
+                char c = buf[scan];
+                if (c == '\"') {
+                    inQuotes = !inQuotes;
+                } else if (c == '\n' && !inQuotes) {
+                    break;
+                }
+                scan++;
+            }
+
+            if (scan == pos && scan == limit) {
+                return false;
+            }
+
+            int end = scan;
+            if (end > pos && buf[end - 1] == '\r') end--;
+            split(pos, end);
+
+            pos = scan < limit ? scan + 1 : scan;
+            return true;
+        }
+
+        /**
+         * Gets the number of fields in the current record.
+         *
+         * @return the field count
+         */
+        int size() { return count; }
+
+        /**
+         * Gets a trimmed field of the current record.
+         *
+         * @param i the zero-based column index
+         * @return the field value
+         */
+        String field(int i) { return fields[i]; }
+
+        /**
+         * Checks whether the current record is an empty or whitespace-only line.
+         *
+         * @return true if the record carries no data
+         */
+        boolean isBlank() { return count == 1 && fields[0].isEmpty(); }
+
+        /**
+         * Closes the underlying reader.
+         *
+         * @throws IOException if closing fails
+         */
+        @Override
+        public void close() throws IOException { in.close(); }
+
+        /**
+         * Moves the unread part of the buffer to the front (growing it if a single
+         * record fills it) and reads more characters.
+         */
+        private void fill() throws IOException {
+            if (pos > 0) {
+                System.arraycopy(buf, pos, buf, 0, limit - pos);
+                limit -= pos;
+                pos = 0;
+            } else if (limit == buf.length) {
+                buf = Arrays.copyOf(buf, buf.length * 2);
+            }
+
+            int n = in.read(buf, limit, buf.length - limit);
+            if (n < 0) {
+                eof = true;
             } else {
-                sb.append(c);
+                limit += n;
             }
         }
 
-        tokens.add(sb.toString());
-        return tokens.toArray(new String[0]);
+        /**
+         * Cuts the record occupying buf[start, end) into fields at unquoted commas.
+         */
+        private void split(int start, int end) {
+            boolean inQuotes = false;
+            boolean hasQuote = false;
+            int fieldStart = start;
+
+            for (int i = start; i < end; i++) {
+                char c = buf[i];
+                if (c == '\"') {
+                    inQuotes = !inQuotes;
+                    hasQuote = true;
+                } else if (c == ',' && !inQuotes) {
+                    addField(fieldStart, i, hasQuote);
+                    fieldStart = i + 1;
+                    hasQuote = false;
+                }
+            }
+
+            addField(fieldStart, end, hasQuote);
+        }
+
+        private void addField(int start, int end, boolean hasQuote) {
+            String value;
+
+            if (!hasQuote) {
+                while (start < end && buf[start] <= ' ') start++;
+                while (end > start && buf[end - 1] <= ' ') end--;
+                value = start == end ? "" : new String(buf, start, end - start);
+            } else {
+                quoted.setLength(0);
+                boolean inQuotes = false;
+
+                for (int i = start; i < end; i++) {
+                    char c = buf[i];
+                    if (c == '\"') {
+                        if (inQuotes && i + 1 < end && buf[i + 1] == '\"') {
+                            quoted.append('\"');
+                            i++;
+                        } else {
+                            inQuotes = !inQuotes;
+                        }
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+                value = quoted.toString().trim();
+            }
+
+            if (count == fields.length) {
+                fields = Arrays.copyOf(fields, count * 2);
+            }
+            fields[count++] = value;
+        }
     }
 }
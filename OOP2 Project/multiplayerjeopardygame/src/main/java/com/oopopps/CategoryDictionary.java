@@ -0,0 +1,75 @@
+package com.oopopps;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns category names into dense int ids.
+ * A question bank refers to each distinct category by its id, so the name is
+ * stored once no matter how many questions share it. Lookups by name and by id
+ * are lock-free; adding a new category takes a short lock. Ids are assigned in
+ * the order categories are first seen, starting at 0.
+ */
+public final class CategoryDictionary {
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[16];
+    private volatile int size;
+
+    /**
+     * Gets the id of a category, assigning the next id if it is new.
+     *
+     * @param name the category name; null is treated as the empty name
+     * @return the category id
+     */
+    public int idOf(String name) {
+        String key = name == null ? "" : name;
+        Integer id = ids.get(key);
+        return id != null ? id : add(key);
+    }
+
+    /**
+     * Gets the id of a category without adding it.
+     *
+     * @param name the category name
+     * @return the category id, or -1 if the category is unknown
+     */
+    public int find(String name) {
+        Integer id = ids.get(name == null ? "" : name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the name of a category.
+     *
+     * @param id the category id
+     * @return the category name
+     * @throws IndexOutOfBoundsException if no category has the id
+     */
+    public String nameOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Unknown category id: " + id);
+        }
+        return names[id];
+    }
+
+    /**
+     * Gets the number of distinct categories.
+     *
+     * @return the category count
+     */
+    public int size() { return size; }
+
+    private synchronized int add(String name) {
+        Integer existing = ids.get(name);
+        if (existing != null) return existing;
+
+        int id = size;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id * 2);
+        }
+        names[id] = name;
+        size = id + 1;
+        ids.put(name, id);
+        return id;
+    }
+}
@@ -0,0 +1,323 @@
+package com.oopopps;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, memory-compact form of {@link Question} for large question banks.
+ * The category is an id in a shared {@link CategoryDictionary}, options are held in
+ * parallel key and text arrays, and the correct answer is resolved to an option
+ * index when the question is created. Option key arrays are shared by every
+ * question with the same keys (typically OptionA-OptionD), so a bank of a million
+ * questions stores its option names, and their answer keys, once. Instances are
+ * safe to share between threads.
+ *
+ * A CompactQuestion is itself the Question the game plays with: its options are
+ * read straight from the arrays through a read-only map view made on request, and
+ * its setters throw {@link UnsupportedOperationException}. Question files that are
+ * not loaded through a {@link QuestionBankSnapshot} are held in this form.
+ */
+public final class CompactQuestion extends Question {
+    private static final String[] NO_OPTIONS = new String[0];
+    private static final OptionKeys NO_KEYS = new OptionKeys(NO_OPTIONS);
+    /** The most distinct option key sets shared; questions with other keys keep their own */
+    private static final int MAX_SHARED_KEY_SETS = 1024;
+    private static final Map<List<String>, OptionKeys> SHARED_KEYS = new ConcurrentHashMap<>();
+
+    private final CategoryDictionary categories;
+    private final int categoryId;
+    private final OptionKeys optionKeys;
+    private final String[] optionTexts;
+    private final int correctIndex;
+    private final String unresolvedAnswer;
+    private final AnswerKey answerKey;
+
+    private CompactQuestion(CategoryDictionary categories, int categoryId, int value, String questionText,
+                            OptionKeys optionKeys, String[] optionTexts, int correctIndex, String unresolvedAnswer) {
+        super(null, value, questionText, null);
+        this.categories = categories;
+        this.categoryId = categoryId;
+        this.optionKeys = optionKeys;
+        this.optionTexts = optionTexts;
+        this.correctIndex = correctIndex;
+        this.unresolvedAnswer = unresolvedAnswer;
+        this.answerKey = correctIndex >= 0 ? optionKeys.answers[correctIndex] : AnswerKey.of(unresolvedAnswer);
+    }
+
+    /**
+     * Creates the compact form of a question.
+     *
+     * @param q the question to convert
+     * @param categories the dictionary the question's category is interned into
+     * @return the compact question
+     */
+    public static CompactQuestion of(Question q, CategoryDictionary categories) {
+        Map<String, String> options = q.getOptions() == null ? Map.of() : q.getOptions();
+        OptionKeys keys = NO_KEYS;
+        String[] texts = NO_OPTIONS;
+
+        if (!options.isEmpty()) {
+            keys = share(options.keySet().toArray(new String[0]));
+            texts = options.values().toArray(new String[0]);
+        }
+
+        int correct = resolve(q.getCorrectAnswer(), keys.names);
+        return new CompactQuestion(categories, categories.idOf(q.getCategory()), q.getValue(),
+                q.getQuestionText(), keys, texts, correct, correct < 0 ? q.getCorrectAnswer() : null);
+    }
+
+    /**
+     * Views compact questions as the Questions the game engine plays with. The
+     * compact questions are the Questions, so no copy of any question is made.
+     *
+     * @param questions the compact questions
+     * @return a read-only list of the questions, in the same order
+     */
+    public static List<Question> asQuestions(List<CompactQuestion> questions) {
+        return List.copyOf(questions);
+    }
+
+    /**
+     * Copies this question into a mutable Question.
+     *
+     * @return a new Question with the same content
+     */
+    public Question toQuestion() {
+        Question q = new Question(getCategory(), getValue(), getQuestionText());
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < optionTexts.length; i++) {
+            options.put(optionKeys.names[i], optionTexts[i]);
+        }
+        q.setOptions(options);
+        q.setCorrectAnswer(getCorrectAnswer());
+        return q;
+    }
+
+    /**
+     * Gets the id of the question's category.
+     *
+     * @return the category id
+     */
+    public int getCategoryId() { return categoryId; }
+
+    /**
+     * Gets the question's category name.
+     *
+     * @return the category
+     */
+    @Override
+    public String getCategory() { return categories.nameOf(categoryId); }
+
+    /**
+     * Gets the answer options as a read-only view of the option arrays.
+     *
+     * @return the options, in file order
+     */
+    @Override
+    public Map<String, String> getOptions() { return new OptionMap(); }
+
+    /**
+     * Gets the number of answer options.
+     *
+     * @return the option count
+     */
+    public int getOptionCount() { return optionTexts.length; }
+
+    /**
+     * Gets the key of an option, such as "OptionA".
+     *
+     * @param index the option index, in file order
+     * @return the option key
+     */
+    public String getOptionKey(int index) { return optionKeys.names[index]; }
+
+    /**
+     * Gets the text of an option.
+     *
+     * @param index the option index, in file order
+     * @return the option text
+     */
+    public String getOptionText(int index) { return optionTexts[index]; }
+
+    /**
+     * Gets the index of the correct option.
+     *
+     * @return the option index, or -1 if the correct answer names no option
+     */
+    public int getCorrectIndex() { return correctIndex; }
+
+    /**
+     * Gets the correct answer: the key of the correct option, or the answer as
+     * written in the file if it names no option.
+     *
+     * @return the correct answer
+     */
+    @Override
+    public String getCorrectAnswer() {
+        return correctIndex >= 0 ? optionKeys.names[correctIndex] : unresolvedAnswer;
+    }
+
+    /**
+     * Gets the correct answer resolved to its canonical option id. Questions with
+     * the same option keys share their answer keys.
+     *
+     * @return the answer key
+     */
+    @Override
+    public AnswerKey getAnswerKey() { return answerKey; }
+
+    /**
+     * Compact questions are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setCategory(String category) { throw immutable(); }
+
+    /**
+     * Compact questions are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setValue(int value) { throw immutable(); }
+
+    /**
+     * Compact questions are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setQuestionText(String questionText) { throw immutable(); }
+
+    /**
+     * Compact questions are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setOptions(Map<String, String> options) { throw immutable(); }
+
+    /**
+     * Compact questions are immutable.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setCorrectAnswer(String correctAnswer) { throw immutable(); }
+
+    /**
+     * Returns a string representation of the question.
+     *
+     * @return a formatted string showing category, value, and question text
+     */
+    @Override
+    public String toString() {
+        return String.format("[%s] %d - %s", getCategory(), getValue(), getQuestionText());
+    }
+
+    @Override
+    boolean isImmutable() { return true; }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("Compact questions are immutable");
+    }
+
+    /**
+     * Gets the shared copy of an option key set, sharing it first if there is room.
+     */
+    private static OptionKeys share(String[] keys) {
+        List<String> key = List.of(keys);
+        OptionKeys shared = SHARED_KEYS.get(key);
+        if (shared != null) return shared;
+        if (SHARED_KEYS.size() >= MAX_SHARED_KEY_SETS) return new OptionKeys(keys);
+
+        OptionKeys created = new OptionKeys(keys);
+        shared = SHARED_KEYS.putIfAbsent(key, created);
+        return shared != null ? shared : created;
+    }
+
+    /**
+     * Finds the option an answer refers to. "A", "OptionA" and "optiona" all
+     * refer to an option keyed "A" or "OptionA".
+     */
+    private static int resolve(String answer, String[] keys) {
+        AnswerKey key = AnswerKey.of(answer);
+        for (int i = 0; i < keys.length; i++) {
+            if (key.matches(keys[i])) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * A set of option keys together with the answer key each of them resolves to.
+     */
+    private static final class OptionKeys {
+        private final String[] names;
+        private final AnswerKey[] answers;
+
+        private OptionKeys(String[] names) {
+            this.names = names;
+            this.answers = new AnswerKey[names.length];
+            for (int i = 0; i < names.length; i++) {
+                answers[i] = AnswerKey.of(names[i]);
+            }
+        }
+    }
+
+    /**
+     * The read-only map view of this question's options.
+     */
+    private final class OptionMap extends AbstractMap<String, String> {
+        @Override
+        public int size() { return optionTexts.length; }
+
+        @Override
+        public String get(Object key) {
+            int i = indexOf(key);
+            return i >= 0 ? optionTexts[i] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) { return indexOf(key) >= 0; }
+
+        @Override
+        public Set<Map.Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() { return optionTexts.length; }
+
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() { return next < optionTexts.length; }
+
+                        @Override
+                        public Map.Entry<String, String> next() {
+                            if (next >= optionTexts.length) throw new NoSuchElementException();
+                            int i = next++;
+                            return new AbstractMap.SimpleImmutableEntry<>(optionKeys.names[i], optionTexts[i]);
+                        }
+                    };
+                }
+            };
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < optionTexts.length; i++) {
+                if (optionKeys.names[i].equals(key)) return i;
+            }
+            return -1;
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.oopopps;
 
-import java.io.FileWriter;
-import java.io.PrintWriter;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import com.oopopps.log.CsvEventSink;
+import com.oopopps.log.EventSink;
+import com.oopopps.log.LogEvent;
 
 /**
  * Logs game events to a CSV file for auditing and analysis.
  * Records player actions, question attempts, and score changes with timestamps.
  * Uses a unique case ID to correlate events from the same game session.
+ * Several sessions can share one log file through {@link #forCase(String)}.
+ *
+ * Events are handed to an {@link EventSink}; wrapping the sink in an
+ * {@link com.oopopps.log.AsyncEventSink} moves the file writes off the game thread.
  */
 public class EventLogger {
     
-    private final PrintWriter out;
+    private final EventSink sink;
     private final String caseId;
+    private final boolean ownsSink;
     
     /**
      * Constructs an EventLogger that writes to the specified file.
@@ -23,13 +30,43 @@ public class EventLogger {
      * @throws Exception if the log file cannot be opened
      */
     public EventLogger(String path, String caseId) throws Exception {
-        this.out = new PrintWriter(new FileWriter(path, true));
+        this(new CsvEventSink(path), caseId);
+    }
+
+    /**
+     * Constructs an EventLogger that writes to the given sink.
+     * The logger takes ownership of the sink and closes it in {@link #close()}.
+     * 
+     * @param sink the destination for logged events
+     * @param caseId unique identifier for this game session
+     */
+    public EventLogger(EventSink sink, String caseId) {
+        this(sink, caseId, true);
+    }
+
+    private EventLogger(EventSink sink, String caseId, boolean ownsSink) {
+        this.sink = sink;
         this.caseId = caseId;
-        
-        // write header if file new - naive approach: caller should ensure new file or overwrite
-        out.println("Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play");
-        out.flush();
+        this.ownsSink = ownsSink;
     }
+
+    /**
+     * Creates a logger for another game session that writes to the same log file.
+     * Closing the returned logger leaves the shared file open.
+     * 
+     * @param caseId unique identifier for the other game session
+     * @return a logger sharing this logger's output
+     */
+    public EventLogger forCase(String caseId) {
+        return new EventLogger(sink, caseId, false);
+    }
+
+    /**
+     * Gets the case ID that correlates this session's events.
+     * 
+     * @return the case ID
+     */
+    public String getCaseId() { return caseId; }
     
     /**
      * Logs a game event with all relevant details.
@@ -43,13 +80,57 @@ public class EventLogger {
      * @param scoreAfter the player's score after this action
      */
     public void log(String playerId, String activity, String category, String qValue, String answer, String result, int scoreAfter) {
-        String ts = DateTimeFormatter.ISO_INSTANT.format(Instant.now());
-        out.printf("%s,%s,%s,%s,%s,%s,%s,%s,%d\n", caseId, playerId==null?"":playerId, activity, ts, category==null?"":category, qValue==null?"":qValue, answer==null?"":answer, result==null?"":result, scoreAfter);
-        out.flush();
+        sink.write(event(playerId, activity, category, qValue, answer, result, scoreAfter));
+    }
+
+    /**
+     * Logs an event created by {@link #event}.
+     * 
+     * @param event the event to log
+     */
+    public void log(LogEvent event) {
+        sink.write(event);
+    }
+
+    /**
+     * Creates an event of this session, stamped with the current time, without logging it.
+     * Collect events this way and write them together with {@link #logBatch(List)}.
+     * 
+     * @param playerId the ID of the player performing the action
+     * @param activity the type of activity being performed
+     * @param category the question category (if applicable)
+     * @param qValue the question value (if applicable)
+     * @param answer the answer given by the player (if applicable)
+     * @param result the result of the action (Correct/Incorrect)
+     * @param scoreAfter the player's score after this action
+     * @return the event
+     */
+    public LogEvent event(String playerId, String activity, String category, String qValue, String answer, String result, int scoreAfter) {
+        return new LogEvent(caseId, playerId, activity, Instant.now(), category, qValue, answer, result, scoreAfter);
+    }
+
+    /**
+     * Logs several events in one write, which the sink flushes at most once.
+     * 
+     * @param events the events to log, in order
+     */
+    public void logBatch(List<LogEvent> events) {
+        if (!events.isEmpty()) {
+            sink.writeAll(events);
+        }
     }
     
     /**
      * Closes the log file and releases resources.
+     * Loggers obtained from {@link #forCase(String)} leave the shared file open.
      */
-    public void close() { out.close(); }
+    public void close() {
+        if (!ownsSink) return;
+
+        try {
+            sink.close();
+        } catch (Exception e) {
+            System.err.println("Error closing event log: " + e.getMessage());
+        }
+    }
 }
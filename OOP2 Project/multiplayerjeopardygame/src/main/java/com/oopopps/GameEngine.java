@@ -3,41 +3,203 @@ import com.oopopps.command.*;
 import com.oopopps.display.*;
 import com.oopopps.report.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main game engine that orchestrates the Jeopardy game flow.
  * Manages players, questions, turns, and game state.
  * Implements the core game loop and coordinates between various components
  * including commands, observers, and reporting systems.
+ * 
+ * Input and output are pluggable, so many independent games can run in
+ * one process (see {@link com.oopopps.server.GameServer}).
+ * 
+ * A game given a {@link CommandJournal} records its players and answers in it.
+ * If the journal already holds a game, for example because the process died or
+ * the players disconnected, that game is resumed instead of starting a new one.
  */
 public class GameEngine {
     private final List<Question> questions;
+    private final QuestionRegistry questionRegistry;
     private final List<Player> players = new ArrayList<>();
     private final EventLogger logger;
     private final String gameId;
-    private final Scanner scanner = new Scanner(System.in);
-    private final RemoteControl remoteControl = new RemoteControl();
+    private final Scanner scanner;
+    private final PrintStream out;
+    private Path reportDirectory = Path.of("");
+    private final CommandJournal journal;
+    private RemoteControl remoteControl;
+    private volatile boolean over;
     private final ScoreBoard scoreBoard = new ScoreBoard();
+    private final ScoreObserverGroup scoreObservers = new ScoreObserverGroup(scoreBoard);
+    private volatile CompletableFuture<Void> reports = CompletableFuture.completedFuture(null);
 
     /**
      * Constructs a GameEngine with questions loaded from the specified file.
+     * Question sets are shared through {@link QuestionSetCache#shared()}, and files on
+     * disk are loaded through their compiled snapshot (see {@link QuestionBankSnapshot}).
+     * The game is journaled to a file named after the question file next to it, or in
+     * a "jeopardy-journals" folder of the temporary directory for question files only
+     * found on the classpath, and a game left unfinished there is resumed.
      * 
      * @param questionFile the path to the file containing game questions
-     * @throws Exception if questions cannot be loaded or parsed
+     * @throws Exception if questions cannot be loaded or parsed, or the journal cannot be opened
      */
     public GameEngine(Path questionFile) throws Exception {
-        this.gameId = "GAME-" + System.currentTimeMillis();
+        this(questionFile, defaultJournalDirectory(questionFile));
+    }
+
+    /**
+     * Constructs a GameEngine with questions loaded from the specified file, journaled
+     * to a file named after the question file in the given directory. A game left
+     * unfinished there is resumed if the question file has not changed since.
+     * 
+     * @param questionFile the path to the file containing game questions
+     * @param journalDirectory the directory the journal is kept in, created if needed
+     * @throws Exception if questions cannot be loaded or parsed, or the journal cannot be opened
+     */
+    public GameEngine(Path questionFile, Path journalDirectory) throws Exception {
+        this(QuestionSetCache.shared().get(questionFile), questionFile, journalDirectory);
+    }
 
+    private GameEngine(List<Question> questions, Path questionFile, Path journalDirectory) throws Exception {
         // Parser will now correctly load from /resources
-        QuestionParser parser = ParserFactory.getParser(questionFile);
-        this.questions = parser.parse(questionFile);
+        this(questions, new EventLogger("game_log.csv", "GAME-" + System.currentTimeMillis()),
+                System.in, System.out,
+                CommandJournal.open(
+                        Files.createDirectories(journalDirectory).resolve(questionFile.getFileName() + ".journal"),
+                        questions, QuestionSetStamp.of(questions, modifiedTime(questionFile))));
+    }
+
+    /**
+     * Gets the directory a question file's journal is kept in by default: the file's
+     * own directory, or the temporary directory if the file is not on disk.
+     */
+    private static Path defaultJournalDirectory(Path questionFile) {
+        Path resolved = questionFile.toAbsolutePath().normalize();
+        if (Files.isRegularFile(resolved)) {
+            return resolved.getParent();
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"), "jeopardy-journals");
+    }
+
+    /**
+     * Gets the modification time of a question file that is read from disk.
+     */
+    private static long modifiedTime(Path questionFile) throws IOException {
+        Path resolved = questionFile.toAbsolutePath().normalize();
+        if (QuestionFiles.isResource(questionFile) || !Files.isRegularFile(resolved)) {
+            return QuestionSetStamp.UNKNOWN_MODIFIED;
+        }
+        return Files.getLastModifiedTime(resolved).toMillis();
+    }
+
+    /**
+     * Constructs a GameEngine over an already loaded question set and the given
+     * input and output channels. The question list is only read, never modified,
+     * so one list can be shared by many concurrent games.
+     * 
+     * @param questions the questions for this game
+     * @param logger the event logger for this game; its case ID becomes the game ID
+     * @param in the channel player input is read from
+     * @param out the channel game output is written to
+     */
+    public GameEngine(List<Question> questions, EventLogger logger, InputStream in, PrintStream out) {
+        this(questions, logger, in, out, null);
+    }
+
+    /**
+     * Constructs a GameEngine that records the game in the given journal, or
+     * resumes the game the journal already holds. The game takes over the journal:
+     * it is deleted once the game is over and closed if the game is cut short.
+     * 
+     * @param questions the questions for this game, in the order the journal was opened with
+     * @param logger the event logger for this game; its case ID becomes the game ID
+     * @param in the channel player input is read from
+     * @param out the channel game output is written to
+     * @param journal the journal of this game, or null to keep the game in memory only
+     */
+    public GameEngine(List<Question> questions, EventLogger logger, InputStream in, PrintStream out,
+            CommandJournal journal) {
+        this(new QuestionRegistry(questions), logger, in, out, journal);
+    }
+
+    /**
+     * Constructs a GameEngine over an already indexed question set. Building the
+     * registry once and passing it to every game played with the same questions
+     * saves indexing the set again for each game.
+     * 
+     * @param registry the questions for this game, in the order the journal was opened with
+     * @param logger the event logger for this game; its case ID becomes the game ID
+     * @param in the channel player input is read from
+     * @param out the channel game output is written to
+     * @param journal the journal of this game, or null to keep the game in memory only
+     */
+    public GameEngine(QuestionRegistry registry, EventLogger logger, InputStream in, PrintStream out,
+            CommandJournal journal) {
+        this.questions = registry.getQuestions();
+        this.questionRegistry = registry;
+        this.logger = logger;
+        this.gameId = logger.getCaseId();
+        this.scanner = new Scanner(in, StandardCharsets.UTF_8);
+        this.out = out;
+        this.journal = journal;
+        this.remoteControl = journal != null ? new RemoteControl(journal) : new RemoteControl();
 
-        this.logger = new EventLogger("game_log.csv", gameId);
         logger.log(null, "Game Started", null, null, null, "", 0);
     }
 
+    /**
+     * Sets the directory the end-of-game reports are written to.
+     * Defaults to the current working directory.
+     * 
+     * @param reportDirectory the directory for game_report.txt and game_report.pdf
+     */
+    public void setReportDirectory(Path reportDirectory) {
+        this.reportDirectory = reportDirectory;
+    }
+
+    /**
+     * Adds an observer that is notified of every score change in this game,
+     * alongside the game's own scoreboard.
+     * 
+     * @param observer the observer to notify, for example a shared leaderboard
+     */
+    public void addScoreObserver(ScoreObserver observer) {
+        scoreObservers.add(observer);
+    }
+
+    /**
+     * Gets the unique identifier of this game.
+     * 
+     * @return the game ID
+     */
+    public String getGameId() { return gameId; }
+
+    /**
+     * Gets the completion of this game's end-of-game reports. The reports are
+     * rendered in the background after {@link #run()} returns; the future completes
+     * once they have been written and the game's event logger has been closed.
+     * 
+     * @return the future of the reports, already complete if none were started
+     */
+    public CompletableFuture<Void> getReports() { return reports; }
+
+    /**
+     * Tells whether the game was played to its end or quit, rather than cut short,
+     * for example by a player disconnecting.
+     * 
+     * @return true once the game is over
+     */
+    public boolean isOver() { return over; }
+
     /**
      * Starts and runs the main game loop.
      * Handles player setup, turn management, question selection,
@@ -45,100 +207,135 @@ public class GameEngine {
      */
     public void run() {
         try {
-            setupPlayers();
+            QuestionBoard board = new QuestionBoard(questions);
+            TurnRecord turns = new TurnRecord(questionRegistry);
+            int currentPlayerIndex = setupGame(board, turns);
             scoreBoard.initPlayers(players);
 
-            List<String> turnHistory = new ArrayList<>();
-            int currentPlayerIndex = 0;
-            List<Question> remainingQuestions = new ArrayList<>(questions);
-
-            while (!remainingQuestions.isEmpty()) {
+            while (!board.isEmpty()) {
                 Player currentPlayer = players.get(currentPlayerIndex);
 
-                System.out.println("\n===================================================================");
-                System.out.println("                      " + currentPlayer.getName() + "'s Turn\n");
-                System.out.println("Current Score: " + currentPlayer.getScore());
-                System.out.println(scoreBoard.render());
+                out.println("\n===================================================================");
+                out.println("                      " + currentPlayer.getName() + "'s Turn\n");
+                out.println("Current Score: " + currentPlayer.getScore());
+                out.println(scoreBoard.render());
 
-                showAvailableQuestions(remainingQuestions);
+                showAvailableQuestions(board);
 
-                System.out.print("Choose a category (or type 'quit' to end game): ");
-                String chosenCategory = scanner.nextLine().trim();
+                out.print("Choose a category (or type 'quit' to end game): ");
+                String chosenCategory = readLine().trim();
 
                 if (chosenCategory.equalsIgnoreCase("quit")) {
                     logger.log(currentPlayer.getId(), "Exit Game", null, null, null, "", currentPlayer.getScore());
                     break;
                 }
 
-                System.out.print("Choose a value: ");
-                int chosenValue = Integer.parseInt(scanner.nextLine().trim());
+                out.print("Choose a value: ");
+                int chosenValue = Integer.parseInt(readLine().trim());
 
-                Question selectedQuestion = findQuestion(remainingQuestions, chosenCategory, chosenValue);
+                Question selectedQuestion = board.find(chosenCategory, chosenValue);
                 if (selectedQuestion == null) {
-                    System.out.println("Question not found. Try again.");
+                    out.println("Question not found. Try again.");
                     continue;
                 }
 
-                System.out.println("\nQuestion: " + selectedQuestion.getQuestionText());
-                System.out.println("Options:");
+                out.println("\nQuestion: " + selectedQuestion.getQuestionText());
+                out.println("Options:");
 
                 Map<String, String> options = selectedQuestion.getOptions();
                 for (String optionKey : options.keySet()) {
-                    System.out.println("  " + optionKey + ": " + options.get(optionKey));
+                    out.println("  " + optionKey + ": " + options.get(optionKey));
                 }
 
-                System.out.print("Your answer (A, B, C, etc.): ");
-                String playerAnswer = scanner.nextLine().trim().toUpperCase();
+                out.print("Your answer (A, B, C, etc.): ");
+                String playerAnswer = readLine().trim().toUpperCase();
 
                 AnswerCommand answerCommand = new AnswerCommand(
-                        currentPlayer, selectedQuestion, playerAnswer, logger, scoreBoard
+                        currentPlayer, selectedQuestion, playerAnswer, logger, scoreObservers
                 );
 
                 remoteControl.executeCommand(answerCommand);
 
                 boolean correct = answerCommand.isCorrect();
-                int pointsChange = correct ? selectedQuestion.getValue() : -selectedQuestion.getValue();
-
-                String turnResult = String.format(
-                        "%s: %s for %d points — %s (%+d points)",
-                        currentPlayer.getName(), chosenCategory, chosenValue,
-                        correct ? "CORRECT" : "WRONG", pointsChange
-                );
-
-                turnHistory.add(turnResult);
+                turns.add(currentPlayerIndex, selectedQuestion, playerAnswer, correct, currentPlayer.getScore());
 
-                System.out.println("Result: " + (correct ? "Correct!" : "Wrong!"));
-                System.out.println("Correct answer: " + selectedQuestion.getCorrectAnswer());
-                System.out.println(currentPlayer.getName() + "'s new score: " + currentPlayer.getScore());
+                out.println("Result: " + (correct ? "Correct!" : "Wrong!"));
+                out.println("Correct answer: " + selectedQuestion.getCorrectAnswer());
+                out.println(currentPlayer.getName() + "'s new score: " + currentPlayer.getScore());
 
-                remainingQuestions.remove(selectedQuestion);
+                board.remove(selectedQuestion);
                 currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
 
             }
 
-            System.out.println("\n=== GAME OVER ===");
+            over = true;
+            out.println("\n=== GAME OVER ===");
             showFinalScores();
-            generateReports(turnHistory);
+            generateReports(turns);
 
+        } catch (InputClosedException e) {
+            // The players disconnected; a journaled game can be resumed later
+            logger.log(null, "Game Interrupted", null, null, null, "", 0);
         } catch (Exception e) {
-            System.out.println("Error during game: " + e.getMessage());
-            e.printStackTrace();
+            out.println("Error during game: " + e.getMessage());
+            logger.log(null, "Game Error", null, null, null, e.getClass().getSimpleName(), 0);
         } finally {
             scanner.close();
-            logger.close();
+            closeJournal();
+            reports = reports.whenComplete((ignored, failure) -> logger.close());
         }
     }
 
+    /**
+     * Resumes the game held by the journal, if there is one: its players with their
+     * scores and the turns already played are restored, and the questions already
+     * played are taken off the board. Otherwise sets up the players of a new game.
+     * 
+     * The recovered answers only notify the game's own scoreboard; other observers,
+     * such as a shared leaderboard, already counted them before the game was cut short.
+     * 
+     * @param board the board of questions, from which played questions are removed
+     * @param turns the record the turns already played are added to
+     * @return the index of the player whose turn is next
+     */
+    private int setupGame(QuestionBoard board, TurnRecord turns) {
+        if (journal != null && journal.isDiscarded()) {
+            out.println("An unfinished game was saved with other questions and cannot be resumed.");
+            logger.log(null, "Journal Discarded", null, null, null, "", 0);
+        }
+        if (journal != null) {
+            CommandJournal.Recovery recovery = journal.recover(scoreBoard);
+            if (!recovery.getPlayers().isEmpty()) {
+                players.addAll(recovery.getPlayers());
+                remoteControl = recovery.getRemoteControl();
+                for (Question q : recovery.getAnsweredQuestions()) {
+                    board.remove(q);
+                }
+                for (CommandJournal.Turn turn : recovery.getTurns()) {
+                    turns.add(players.indexOf(turn.getPlayer()), turn.getQuestion(), turn.getAnswer(),
+                            turn.isCorrect(), turn.getScoreAfter());
+                }
+
+                out.println("Resuming game " + gameId + " with " + board.size() + " questions left.");
+                logger.log(null, "Game Resumed", null, null, null, "", 0);
+                return recovery.getAnsweredQuestions().size() % players.size();
+            }
+        }
+        setupPlayers();
+        return 0;
+    }
+
     /**
      * Sets up players for the game by collecting names and initializing Player objects.
+     * The players are journaled once all of them have joined.
      */
     private void setupPlayers() {
-        System.out.print("How many players? (1 - 4): ");
-        int numPlayers = Integer.parseInt(scanner.nextLine().trim());
+        out.print("How many players? (1 - 4): ");
+        int numPlayers = Integer.parseInt(readLine().trim());
 
         for (int i = 1; i <= numPlayers; i++) {
-            System.out.print("Enter name for Player " + i + ": ");
-            String name = scanner.nextLine().trim();
+            out.print("Enter name for Player " + i + ": ");
+            String name = readLine().trim();
 
             String playerId = "P" + i;
             Player player = new Player(playerId, name);
@@ -146,92 +343,112 @@ public class GameEngine {
 
             logger.log(playerId, "Player Joined", null, null, name, "", 0);
         }
+
+        if (journal != null) {
+            for (Player player : players) {
+                journal.playerJoined(player);
+            }
+        }
     }
 
     /**
-     * Displays all available questions grouped by category with their point values.
-     * 
-     * @param questions the list of remaining questions to display
+     * Deletes the journal of a game that is over, or closes it so that a game cut
+     * short can be resumed.
      */
-    private void showAvailableQuestions(List<Question> questions) {
-        Map<String, List<Integer>> categories = new LinkedHashMap<>();
+    private void closeJournal() {
+        if (journal == null) return;
 
-        for (Question q : questions) {
-            categories.computeIfAbsent(q.getCategory(), k -> new ArrayList<>()).add(q.getValue());
-        }
-
-        System.out.println("-------------- AVAILABLE QUESTIONS --------------\n");
-        
-        for (String category : categories.keySet()) {
-            List<Integer> values = categories.get(category);
-            Collections.sort(values);
-            StringBuilder valueStr = new StringBuilder();
-            
-            for (Integer val : values) {
-                valueStr.append(String.format("%4d", val)); 
+        try {
+            if (over) {
+                journal.delete();
+            } else {
+                journal.close();
             }
+        } catch (IOException e) {
+            out.println("Error closing game journal: " + e.getMessage());
+        }
+    }
 
-            System.out.printf(" %-25s : %s%n", category, valueStr.toString());
-            System.out.println();
+    /**
+     * Flushes any pending prompt and reads the next line of player input.
+     * 
+     * @return the line entered by the player
+     * @throws InputClosedException if the input has ended, for example because the players disconnected
+     */
+    private String readLine() {
+        out.flush();
+        if (!scanner.hasNextLine()) {
+            throw new InputClosedException();
         }
+        return scanner.nextLine();
     }
 
     /**
-     * Finds a specific question by category and point value.
+     * Displays all available questions grouped by category with their point values.
      * 
-     * @param list the list of questions to search
-     * @param category the category to match
-     * @param value the point value to match
-     * @return the matching Question or null if not found
+     * @param board the board of remaining questions to display
      */
-    private Question findQuestion(List<Question> list, String category, int value) {
-        String inputLower = category.toLowerCase();
-        return list.stream()
-            .filter(q -> q.getCategory().toLowerCase().equals(inputLower) && q.getValue() == value)
-            .findFirst()
-            .orElse(null);
+    private void showAvailableQuestions(QuestionBoard board) {
+        out.print(board.render());
     }
 
     /**
      * Displays final scores and announces the winner.
      */
     private void showFinalScores() {
-        System.out.println("Final Scores:");
+        out.println("Final Scores:");
         for (Player p : players) {
-            System.out.println("  " + p.getName() + ": " + p.getScore());
+            out.println("  " + p.getName() + ": " + p.getScore());
         }
 
         Player winner = players.stream().max(Comparator.comparingInt(Player::getScore)).get();
-        System.out.println("Winner: " + winner.getName() + "!");
+        out.println("Winner: " + winner.getName() + "!");
     }
 
     /**
-     * Generates game reports in multiple formats using the Strategy pattern.
+     * Starts generating game reports in multiple formats using the Strategy pattern.
+     * The reports are rendered in parallel in the background (see
+     * {@link ReportGenerator#generateAsync(String, List, TurnRecord, Map)}), so the
+     * game ends without waiting for them; {@link #getReports()} tracks their completion.
      * 
-     * @param turnHistory the history of all turns taken during the game
+     * @param turns the turns taken during the game
      */
-    private void generateReports(List<String> turnHistory) {
+    private void generateReports(TurnRecord turns) {
         try {
-            System.out.println("Generating reports...");
-
-            ReportGenerator.generate(
-                    Path.of("game_report.txt"),
-                    gameId, players, turnHistory,
-                    new TextReportStrategy()
-            );
+            out.println("Generating reports...");
+
+            Files.createDirectories(reportDirectory.toAbsolutePath());
+
+            Map<Path, ReportStrategy> formats = new LinkedHashMap<>();
+            formats.put(reportDirectory.resolve("game_report.txt"), new TextReportStrategy());
+            formats.put(reportDirectory.resolve("game_report.pdf"), new PDFReportStrategy());
+
+            reports = ReportGenerator.generateAsync(gameId, players, turns, formats)
+                    .whenComplete((ignored, failure) -> {
+                        if (failure == null) {
+                            out.println("Reports generated: game_report.txt, game_report.pdf");
+                            logger.log(null, "Reports Generated", null, null, null, "", 0);
+                        } else {
+                            Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+                            out.println("Error generating reports: " + cause.getMessage());
+                            logger.log(null, "Report Error", null, null, null, cause.getClass().getSimpleName(), 0);
+                        }
+                    });
 
-            ReportGenerator.generate(
-                    Path.of("game_report.pdf"),
-                    gameId, players, turnHistory,
-                    new PDFReportStrategy()
-            );
+        } catch (Exception e) {
+            out.println("Error generating reports: " + e.getMessage());
+            logger.log(null, "Report Error", null, null, null, e.getClass().getSimpleName(), 0);
+        }
+    }
 
-            System.out.println("Reports generated: game_report.txt, game_report.pdf");
-            logger.log(null, "Reports Generated", null, null, null, "", 0);
+    /**
+     * Thrown when player input ends before the game does.
+     */
+    private static final class InputClosedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
 
-        } catch (Exception e) {
-            System.out.println("Error generating reports: " + e.getMessage());
-            e.printStackTrace();
+        private InputClosedException() {
+            super("Player input has ended");
         }
     }
 }
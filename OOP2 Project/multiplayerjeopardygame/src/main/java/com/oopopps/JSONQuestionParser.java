@@ -63,36 +63,46 @@ public class JSONQuestionParser implements QuestionParser {
 
         // Parse questions
         for (int i = 0; i < arr.length(); i++) {
-            JSONObject qObj = arr.getJSONObject(i);
-            Question q = new Question();
+            list.add(toQuestion(arr.getJSONObject(i)));
+        }
+
+        return list;
+    }
+
+    /**
+     * Converts one question object into a Question.
+     * Shared with {@link StreamingJSONQuestionParser} so both parsers map fields identically.
+     * 
+     * @param qObj the JSON object describing one question
+     * @return the mapped Question
+     */
+    static Question toQuestion(JSONObject qObj) {
+        Question q = new Question();
 
-            q.setCategory(getSafeString(qObj, "Category"));
-            q.setValue(getSafeInt(qObj, "Value"));
+        q.setCategory(getSafeString(qObj, "Category"));
+        q.setValue(getSafeInt(qObj, "Value"));
 
-            // Support both "QuestionText" and "Question"
-            if (qObj.has("QuestionText"))
-                q.setQuestionText(qObj.getString("QuestionText"));
-            else if (qObj.has("Question"))
-                q.setQuestionText(qObj.getString("Question"));
-            else
-                q.setQuestionText("");
+        // Support both "QuestionText" and "Question"
+        if (qObj.has("QuestionText"))
+            q.setQuestionText(qObj.getString("QuestionText"));
+        else if (qObj.has("Question"))
+            q.setQuestionText(qObj.getString("Question"));
+        else
+            q.setQuestionText("");
 
-            q.setCorrectAnswer(getSafeString(qObj, "CorrectAnswer"));
+        q.setCorrectAnswer(getSafeString(qObj, "CorrectAnswer"));
 
-            Map<String, String> options = new LinkedHashMap<>();
-            if (qObj.has("Options")) {
-                JSONObject opts = qObj.getJSONObject("Options");
+        Map<String, String> options = new LinkedHashMap<>();
+        if (qObj.has("Options")) {
+            JSONObject opts = qObj.getJSONObject("Options");
 
-                for (String key : opts.keySet()) {
-                    options.put(key, opts.getString(key));
-                }
+            for (String key : opts.keySet()) {
+                options.put(key, opts.getString(key));
             }
-
-            q.setOptions(options);
-            list.add(q);
         }
 
-        return list;
+        q.setOptions(options);
+        return q;
     }
 
     /**
@@ -102,7 +112,7 @@ public class JSONQuestionParser implements QuestionParser {
      * @param key the key to look up
      * @return the string value or empty string if key doesn't exist
      */
-    private String getSafeString(JSONObject obj, String key) {
+    private static String getSafeString(JSONObject obj, String key) {
         return obj.has(key) ? obj.getString(key) : "";
     }
 
@@ -113,7 +123,7 @@ public class JSONQuestionParser implements QuestionParser {
      * @param key the key to look up
      * @return the integer value or 0 if key doesn't exist
      */
-    private int getSafeInt(JSONObject obj, String key) {
+    private static int getSafeInt(JSONObject obj, String key) {
         return obj.has(key) ? obj.getInt(key) : 0;
     }
 }
@@ -0,0 +1,480 @@
+package com.oopopps;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parses large question files on several cores at once.
+ * The file is memory-mapped and a single linear byte scan cuts it into chunks of
+ * roughly equal size at record boundaries: CSV rows (respecting quoted fields),
+ * JSON array elements, or XML QuestionItem elements. The chunks are then parsed
+ * concurrently on a fork/join pool by the same code the streaming parsers use,
+ * and the results are merged in file order.
+ *
+ * Files that are only available on the classpath, are too large to map in one
+ * piece, or are XML in a UTF-16 encoding that cannot be split byte by byte, are
+ * parsed sequentially with the streaming parser for their type.
+ */
+public class ParallelQuestionParser implements QuestionParser {
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    private static final byte[] ITEM_START = "<QuestionItem".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ITEM_END = "</QuestionItem>".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DECLARATION_START = "<?xml".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DECLARATION_END = "?>".getBytes(StandardCharsets.UTF_8);
+
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a parser using the common fork/join pool and the default chunk size.
+     */
+    public ParallelQuestionParser() {
+        this(DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a parser with an explicit chunk size and pool.
+     *
+     * @param chunkSize the approximate number of bytes parsed by one task
+     * @param pool the pool the chunks are parsed on
+     */
+    public ParallelQuestionParser(int chunkSize, ForkJoinPool pool) {
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Parses a question file (XML, JSON, or CSV) in parallel.
+     *
+     * @param file the path to the question file
+     * @return the questions in file order
+     * @throws Exception if the file cannot be read or parsed
+     */
+    @Override
+    public List<Question> parse(Path file) throws Exception {
+        Path resolved = file.toAbsolutePath().normalize();
+        if (QuestionFiles.isResource(file) || !Files.exists(resolved)
+                || Files.size(resolved) > Integer.MAX_VALUE) {
+            return ParserFactory.getStreamingParser(file).parse(file);
+        }
+
+        String suffix = file.toString().toLowerCase();
+        Format format;
+        if (suffix.endsWith(".xml")) format = new XmlFormat();
+        else if (suffix.endsWith(".json")) format = new JsonFormat();
+        else if (suffix.endsWith(".csv")) format = new CsvFormat();
+        else throw new IllegalArgumentException("Unsupported file type: " + file);
+
+        MappedByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(resolved, StandardOpenOption.READ)) {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        List<int[]> chunks = format.split(buf, file.getFileName().toString());
+        if (chunks == null) return ParserFactory.getStreamingParser(file).parse(file);
+        if (chunks.isEmpty()) return new ArrayList<>();
+
+        try {
+            return pool.invoke(new ChunkTask(format, buf, chunks, 0, chunks.size()));
+        } catch (ChunkFailure e) {
+            Throwable cause = e;
+            while (cause instanceof ChunkFailure && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * Knows where records start and end in one file format and how to parse a chunk of records.
+     */
+    private abstract class Format {
+
+        /**
+         * Scans the file and returns the [start, end) byte ranges of its chunks,
+         * or null if the file cannot be split and must be parsed sequentially.
+         */
+        abstract List<int[]> split(ByteBuffer buf, String fileName) throws Exception;
+
+        /**
+         * Parses the records in buf[start, end).
+         */
+        abstract List<Question> parse(ByteBuffer buf, int start, int end) throws Exception;
+
+        /**
+         * Adds a chunk ending at end if the current chunk has reached the chunk size.
+         *
+         * @return the start of the next chunk
+         */
+        int cut(List<int[]> chunks, int chunkStart, int end, int nextStart) {
+            if (end - chunkStart < chunkSize) return chunkStart;
+            chunks.add(new int[] {chunkStart, end});
+            return nextStart;
+        }
+    }
+
+    /**
+     * CSV rows, bound to the header row once for the whole file.
+     */
+    private final class CsvFormat extends Format {
+        private CSVQuestionParser.ColumnBinding columns;
+
+        @Override
+        List<int[]> split(ByteBuffer buf, String fileName) throws Exception {
+            List<int[]> chunks = new ArrayList<>();
+            int limit = buf.limit();
+            boolean inQuotes = false;
+            int headerEnd = -1;
+            int chunkStart = -1;
+
+            for (int i = 0; i < limit; i++) {
+                byte b = buf.get(i);
+                if (b == '\"') {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n' && !inQuotes) {
+                    if (headerEnd < 0) {
+                        headerEnd = i + 1;
+                        chunkStart = headerEnd;
+                    } else {
+                        chunkStart = cut(chunks, chunkStart, i + 1, i + 1);
+                    }
+                }
+            }
+
+            if (headerEnd < 0) headerEnd = chunkStart = limit;
+            try (CSVQuestionParser.RecordReader header = new CSVQuestionParser.RecordReader(
+                    new InputStreamReader(slice(buf, 0, headerEnd), StandardCharsets.UTF_8))) {
+                if (!header.next()) {
+                    throw new Exception("CSV file is empty: " + fileName);
+                }
+                columns = CSVQuestionParser.ColumnBinding.bind(header);
+            }
+
+            if (chunkStart < limit) chunks.add(new int[] {chunkStart, limit});
+            return chunks;
+        }
+
+        @Override
+        List<Question> parse(ByteBuffer buf, int start, int end) throws Exception {
+            List<Question> list = new ArrayList<>();
+            try (CSVQuestionParser.RecordReader records = new CSVQuestionParser.RecordReader(
+                    new InputStreamReader(slice(buf, start, end), StandardCharsets.UTF_8))) {
+                while (records.next()) {
+                    if (records.isBlank() || records.size() < columns.width())
+                        continue;
+
+                    list.add(columns.toQuestion(records));
+                }
+            }
+            return list;
+        }
+    }
+
+    /**
+     * Elements of the question array, either the root array or the
+     * "JeopardyQuestions"/"questions" member of the root object.
+     * Each chunk is parsed as an array of its own.
+     */
+    private final class JsonFormat extends Format {
+        private final StreamingJSONQuestionParser parser = new StreamingJSONQuestionParser();
+
+        @Override
+        List<int[]> split(ByteBuffer buf, String fileName) throws Exception {
+            int pos = skipWhitespace(buf, 0);
+            if (pos < buf.limit() && buf.get(pos) == '{') {
+                pos = findQuestionArray(buf, pos + 1);
+                if (pos < 0) {
+                    throw new Exception("JSON does not contain 'JeopardyQuestions' or 'questions' array");
+                }
+            } else if (pos >= buf.limit() || buf.get(pos) != '[') {
+                throw new Exception("A JSON array or object text must begin with '[' or '{': " + fileName);
+            }
+
+            List<int[]> chunks = new ArrayList<>();
+            pos = skipWhitespace(buf, pos + 1);
+            int chunkStart = pos;
+            while (pos < buf.limit() && buf.get(pos) != ']') {
+                int end = skipValue(buf, pos);
+                pos = skipWhitespace(buf, end);
+                if (pos < buf.limit() && buf.get(pos) == ',') {
+                    chunkStart = cut(chunks, chunkStart, end, pos + 1);
+                    pos = skipWhitespace(buf, pos + 1);
+                } else {
+                    chunks.add(new int[] {chunkStart, end});
+                    break;
+                }
+            }
+            return chunks;
+        }
+
+        @Override
+        List<Question> parse(ByteBuffer buf, int start, int end) throws Exception {
+            List<Question> list = new ArrayList<>();
+            parser.stream(new InputStreamReader(wrap("[", slice(buf, start, end), "]"), StandardCharsets.UTF_8),
+                    list::add);
+            return list;
+        }
+
+        /**
+         * Finds the opening bracket of the question array among the members of the root object.
+         *
+         * @return the bracket's position, or -1 if the object has no question array
+         */
+        private int findQuestionArray(ByteBuffer buf, int pos) {
+            while (true) {
+                pos = skipWhitespace(buf, pos);
+                if (pos >= buf.limit() || buf.get(pos) != '\"') return -1;
+
+                int keyEnd = skipValue(buf, pos);
+                String key = StandardCharsets.UTF_8.decode(view(buf, pos + 1, keyEnd - 1)).toString();
+                pos = skipWhitespace(buf, keyEnd);
+                if (pos >= buf.limit() || buf.get(pos) != ':') return -1;
+                pos = skipWhitespace(buf, pos + 1);
+
+                if ((key.equals("JeopardyQuestions") || key.equals("questions"))
+                        && pos < buf.limit() && buf.get(pos) == '[') {
+                    return pos;
+                }
+
+                pos = skipWhitespace(buf, skipValue(buf, pos));
+                if (pos >= buf.limit() || buf.get(pos) != ',') return -1;
+                pos++;
+            }
+        }
+
+        /**
+         * Returns the position just past the JSON value starting at pos.
+         */
+        private int skipValue(ByteBuffer buf, int pos) {
+            int limit = buf.limit();
+            byte first = buf.get(pos);
+
+            if (first == '\"') {
+                for (int i = pos + 1; i < limit; i++) {
+                    byte b = buf.get(i);
+                    if (b == '\\') i++;
+                    else if (b == '\"') return i + 1;
+                }
+                return limit;
+            }
+
+            if (first == '{' || first == '[') {
+                int depth = 0;
+                boolean inString = false;
+                for (int i = pos; i < limit; i++) {
+                    byte b = buf.get(i);
+                    if (inString) {
+                        if (b == '\\') i++;
+                        else if (b == '\"') inString = false;
+                    } else if (b == '\"') {
+                        inString = true;
+                    } else if (b == '{' || b == '[') {
+                        depth++;
+                    } else if ((b == '}' || b == ']') && --depth == 0) {
+                        return i + 1;
+                    }
+                }
+                return limit;
+            }
+
+            int i = pos;
+            while (i < limit) {
+                byte b = buf.get(i);
+                if (b == ',' || b == '}' || b == ']' || b <= ' ') break;
+                i++;
+            }
+            return i;
+        }
+
+        private int skipWhitespace(ByteBuffer buf, int pos) {
+            while (pos < buf.limit() && buf.get(pos) <= ' ') pos++;
+            return pos;
+        }
+    }
+
+    /**
+     * QuestionItem elements. Each chunk runs from the start of its first item to the
+     * end of its last one and is parsed inside a synthetic root element, after the
+     * file's XML declaration so that the chunk is decoded in the file's encoding.
+     */
+    private final class XmlFormat extends Format {
+        private final StreamingXMLQuestionParser parser = new StreamingXMLQuestionParser();
+        private String declaration = "";
+
+        @Override
+        List<int[]> split(ByteBuffer buf, String fileName) {
+            // UTF-16 text (with a byte order mark or starting with a zero byte) has no ASCII markup to find
+            if (buf.limit() >= 2) {
+                int b0 = buf.get(0) & 0xFF;
+                int b1 = buf.get(1) & 0xFF;
+                if ((b0 == 0xFE && b1 == 0xFF) || (b0 == 0xFF && b1 == 0xFE) || b0 == 0 || b1 == 0) {
+                    return null;
+                }
+            }
+
+            int start = buf.limit() >= 3 && (buf.get(0) & 0xFF) == 0xEF && (buf.get(1) & 0xFF) == 0xBB
+                    && (buf.get(2) & 0xFF) == 0xBF ? 3 : 0;
+            if (indexOf(buf, DECLARATION_START, start) == start) {
+                int end = indexOf(buf, DECLARATION_END, start);
+                if (end > 0) {
+                    declaration = StandardCharsets.ISO_8859_1.decode(
+                            view(buf, start, end + DECLARATION_END.length)).toString();
+                }
+            }
+
+            List<int[]> chunks = new ArrayList<>();
+            int chunkStart = indexOfItem(buf, start);
+            if (chunkStart < 0) return chunks;
+
+            int lastEnd = -1;
+            for (int i = indexOf(buf, ITEM_END, chunkStart); i >= 0; i = indexOf(buf, ITEM_END, lastEnd)) {
+                lastEnd = i + ITEM_END.length;
+                chunkStart = cut(chunks, chunkStart, lastEnd, lastEnd);
+            }
+
+            if (lastEnd > chunkStart) chunks.add(new int[] {chunkStart, lastEnd});
+            return chunks;
+        }
+
+        @Override
+        List<Question> parse(ByteBuffer buf, int start, int end) throws Exception {
+            List<Question> list = new ArrayList<>();
+            parser.stream(wrap(declaration + "<JeopardyQuestions>", slice(buf, start, end), "</JeopardyQuestions>"),
+                    list::add);
+            return list;
+        }
+
+        /**
+         * Finds the next QuestionItem start tag, skipping longer names such as QuestionItems.
+         */
+        private int indexOfItem(ByteBuffer buf, int from) {
+            for (int i = indexOf(buf, ITEM_START, from); i >= 0; i = indexOf(buf, ITEM_START, i + 1)) {
+                int next = i + ITEM_START.length;
+                if (next >= buf.limit()) return -1;
+
+                byte b = buf.get(next);
+                if (b == '>' || b == '/' || b == ' ' || b == '\t' || b == '\r' || b == '\n') return i;
+            }
+            return -1;
+        }
+
+        private int indexOf(ByteBuffer buf, byte[] pattern, int from) {
+            int last = buf.limit() - pattern.length;
+            outer:
+            for (int i = from; i <= last; i++) {
+                for (int j = 0; j < pattern.length; j++) {
+                    if (buf.get(i + j) != pattern[j]) continue outer;
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Parses chunks [from, to), splitting the range in half until a single chunk remains,
+     * and concatenates the results in chunk order.
+     */
+    private static final class ChunkTask extends RecursiveTask<List<Question>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Format format;
+        private final ByteBuffer buf;
+        private final List<int[]> chunks;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(Format format, ByteBuffer buf, List<int[]> chunks, int from, int to) {
+            this.format = format;
+            this.buf = buf;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Question> compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                ChunkTask left = new ChunkTask(format, buf, chunks, from, mid);
+                left.fork();
+                List<Question> right = new ChunkTask(format, buf, chunks, mid, to).compute();
+                List<Question> merged = left.join();
+                merged.addAll(right);
+                return merged;
+            }
+
+            if (from == to) return Collections.emptyList();
+            int[] chunk = chunks.get(from);
+            try {
+                return format.parse(buf, chunk[0], chunk[1]);
+            } catch (Exception e) {
+                throw new ChunkFailure(e);
+            }
+        }
+    }
+
+    /**
+     * Carries a parse failure out of a fork/join task.
+     */
+    private static final class ChunkFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private ChunkFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Returns an independent view of buf[start, end).
+     */
+    private static ByteBuffer view(ByteBuffer buf, int start, int end) {
+        ByteBuffer view = buf.duplicate();
+        view.limit(end).position(start);
+        return view;
+    }
+
+    /**
+     * Streams buf[start, end) without copying it.
+     */
+    private static InputStream slice(ByteBuffer buf, int start, int end) {
+        ByteBuffer view = view(buf, start, end);
+
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (!view.hasRemaining()) return -1;
+                int n = Math.min(len, view.remaining());
+                view.get(b, off, n);
+                return n;
+            }
+        };
+    }
+
+    /**
+     * Surrounds a stream with the given prefix and suffix.
+     */
+    private static InputStream wrap(String prefix, InputStream body, String suffix) {
+        return new SequenceInputStream(new ByteArrayInputStream(prefix.getBytes(StandardCharsets.UTF_8)),
+                new SequenceInputStream(body, new ByteArrayInputStream(suffix.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -23,4 +23,37 @@ public class ParserFactory {
         if (suffix.endsWith(".csv")) return new CSVQuestionParser();
         throw new IllegalArgumentException("Unsupported file type: " + p);
     }
+
+    /**
+     * Returns a QuestionParser for the given file that reads it incrementally,
+     * so that large question banks can be loaded in bounded memory.
+     * 
+     * @param p the path to the question file
+     * @return a streaming QuestionParser implementation suitable for the file type
+     * @throws IllegalArgumentException if the file type is not supported
+     */
+    public static QuestionParser getStreamingParser(Path p) {
+        String suffix = p.toString().toLowerCase();
+
+        if (suffix.endsWith(".xml")) return new StreamingXMLQuestionParser();
+        if (suffix.endsWith(".json")) return new StreamingJSONQuestionParser();
+        return getParser(p);
+    }
+
+    /**
+     * Returns a QuestionParser that splits the given file into chunks and parses them
+     * on several cores, for loading large question banks quickly.
+     * 
+     * @param p the path to the question file
+     * @return a parallel QuestionParser for the file
+     * @throws IllegalArgumentException if the file type is not supported
+     */
+    public static QuestionParser getParallelParser(Path p) {
+        String suffix = p.toString().toLowerCase();
+
+        if (!suffix.endsWith(".xml") && !suffix.endsWith(".json") && !suffix.endsWith(".csv")) {
+            throw new IllegalArgumentException("Unsupported file type: " + p);
+        }
+        return new ParallelQuestionParser();
+    }
 }
@@ -1,12 +1,16 @@
 package com.oopopps;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Represents a player in the Jeopardy game.
  * Manages player identity, score tracking, and provides access to player data.
+ * The score is updated atomically, so several threads may score for the same
+ * player at once (for example in a buzz-in round) without losing updates.
  */
 public class Player {
     private final String name;
-    private int score = 0;
+    private final AtomicInteger score = new AtomicInteger();
     private final String id;
 
     /**
@@ -32,14 +36,15 @@ public class Player {
      * 
      * @return the current score
      */
-    public int getScore() { return score; }
+    public int getScore() { return score.get(); }
     
     /**
      * Updates the player's score by adding the specified delta.
      * 
      * @param delta the points to add (can be negative)
+     * @return the score after this update
      */
-    public void updateScore(int delta) { score += delta; }
+    public int updateScore(int delta) { return score.addAndGet(delta); }
     
     /**
      * Gets the player's unique identifier.
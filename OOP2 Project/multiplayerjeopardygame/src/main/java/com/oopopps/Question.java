@@ -11,13 +11,16 @@ public class Question {
     private String category;
     private int value;
     private String questionText;
-    private Map<String, String> options = new LinkedHashMap<>();
+    private Map<String, String> options;
     private String correctAnswer;
+    private AnswerKey answerKey = AnswerKey.NONE;
 
     /**
      * Default constructor for Question.
      */
-    public Question() {}
+    public Question() {
+        this.options = new LinkedHashMap<>();
+    }
 
     /**
      * Constructs a Question with basic information.
@@ -27,9 +30,23 @@ public class Question {
      * @param questionText the text of the question
      */
     public Question(String category, int value, String questionText) {
+        this(category, value, questionText, new LinkedHashMap<>());
+    }
+
+    /**
+     * Constructs a Question with the given options map. Subclasses that keep their
+     * options elsewhere pass null and override {@link #getOptions()}.
+     * 
+     * @param category the question category
+     * @param value the point value of the question
+     * @param questionText the text of the question
+     * @param options the options map, or null
+     */
+    Question(String category, int value, String questionText, Map<String, String> options) {
         this.category = category;
         this.value = value;
         this.questionText = questionText;
+        this.options = options;
     }
 
     // getters and setters
@@ -102,7 +119,27 @@ public class Question {
      * 
      * @param correctAnswer the correct answer to set
      */
-    public void setCorrectAnswer(String correctAnswer) { this.correctAnswer = correctAnswer; }
+    public void setCorrectAnswer(String correctAnswer) {
+        this.correctAnswer = correctAnswer;
+        this.answerKey = AnswerKey.of(correctAnswer);
+    }
+
+    /**
+     * Gets the correct answer resolved to its canonical option id.
+     * The key is computed once when the correct answer is set, so checking
+     * an answer against it allocates nothing.
+     * 
+     * @return the answer key
+     */
+    public AnswerKey getAnswerKey() { return answerKey; }
+
+    /**
+     * Tells whether this question can never change, so it may be shared between
+     * games. Plain Questions are mutable; read-only subclasses return true.
+     * 
+     * @return true if the setters of this question throw
+     */
+    boolean isImmutable() { return false; }
 
     /**
      * Returns a string representation of the question.
@@ -0,0 +1,456 @@
+package com.oopopps;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import com.oopopps.util.VarInts;
+
+/**
+ * Compiles question files into a binary snapshot that loads without parsing.
+ * The snapshot is written next to the source file as {@code <file>.qsnap} and
+ * is memory-mapped when loaded. Only the category and value of each question
+ * are read up front, straight from the index; the question text, options and
+ * answer are decoded the first time a question is actually looked at. Building
+ * a game's board still visits every question's category and value, so startup
+ * is linear in the size of the bank, but no question text is parsed or decoded.
+ *
+ * Layout (all numbers big-endian):
+ * <pre>
+ * header     magic "QSNP", version, source size, source mtime, source CRC32C
+ * records    per question: text, correct answer, option count, option key/value pairs
+ *            (strings are varint length + 1, then UTF-8 bytes; 0 means null)
+ * categories varint count, then each distinct category name as a string
+ * index      per question: int record offset, int category id, int value
+ * footer     long categories offset, long index offset, int count, magic "QIDX"
+ * </pre>
+ *
+ * A snapshot is used as-is when the source's size and modification time still
+ * match its header. Otherwise the source is hashed: an unchanged hash only
+ * refreshes the recorded time, and a changed hash rebuilds the snapshot. A
+ * snapshot that cannot be read is deleted and rebuilt once before loading falls
+ * back to parsing the source.
+ * Question files served from the classpath, and files whose snapshot cannot be
+ * written or mapped, are parsed into {@link CompactQuestion}s instead.
+ */
+public final class QuestionBankSnapshot {
+    /** File name suffix of snapshot files. */
+    public static final String SUFFIX = ".qsnap";
+
+    private static final int MAGIC = 0x51534E50;        // "QSNP"
+    private static final int FOOTER_MAGIC = 0x51494458; // "QIDX"
+    private static final int VERSION = 1;
+    private static final int MTIME_OFFSET = 16;
+    private static final int HEADER_SIZE = 32;
+    private static final int FOOTER_SIZE = 24;
+    private static final int INDEX_ENTRY_SIZE = 12;
+
+    private QuestionBankSnapshot() {}
+
+    /**
+     * Loads the questions of a question file through its snapshot,
+     * compiling or rebuilding the snapshot first if necessary.
+     *
+     * @param source the question file (XML, JSON, or CSV)
+     * @return the questions in file order; the list is read-only
+     * @throws Exception if the questions cannot be loaded
+     */
+    public static List<Question> load(Path source) throws Exception {
+        Path resolved = source.toAbsolutePath().normalize();
+        if (QuestionFiles.isResource(source) || !Files.isRegularFile(resolved)) {
+            return parseCompact(source);
+        }
+
+        Path snapshot = snapshotPath(resolved);
+        try {
+            if (!isCurrent(resolved, snapshot)) {
+                compile(resolved, snapshot);
+            }
+            try {
+                return open(snapshot);
+            } catch (IOException e) {
+                // Damaged or truncated snapshot: rebuild it once
+                Files.deleteIfExists(snapshot);
+                compile(resolved, snapshot);
+                return open(snapshot);
+            }
+        } catch (IOException e) {
+            // Read-only directory or unmappable file: fall back to the text parser
+            return parseCompact(source);
+        }
+    }
+
+    /**
+     * Parses a question file into compact questions, viewed as Questions.
+     */
+    private static List<Question> parseCompact(Path source) throws Exception {
+        return CompactQuestion.asQuestions(ParserFactory.getParser(source).parseCompact(source, new CategoryDictionary()));
+    }
+
+    /**
+     * Gets the path of the snapshot that belongs to a question file.
+     *
+     * @param source the question file
+     * @return the sidecar snapshot path
+     */
+    public static Path snapshotPath(Path source) {
+        return source.resolveSibling(source.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Parses a question file and writes its snapshot.
+     * The snapshot is written to a temporary file and moved into place, so a
+     * concurrent reader never sees a partly written snapshot.
+     *
+     * @param source the question file
+     * @param snapshot where to write the snapshot
+     * @throws Exception if the source cannot be parsed or the snapshot cannot be written
+     */
+    public static void compile(Path source, Path snapshot) throws Exception {
+        long size = Files.size(source);
+        long mtime = Files.getLastModifiedTime(source).toMillis();
+        long hash = hash(source);
+
+        Path temp = Files.createTempFile(snapshot.toAbsolutePath().getParent(), snapshot.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(size);
+                out.writeLong(mtime);
+                out.writeLong(hash);
+
+                RecordWriter records = new RecordWriter(out);
+                ParserFactory.getStreamingParser(source).stream(source, records);
+                records.finish();
+            }
+
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Checks whether a snapshot still describes its source, refreshing the
+     * recorded modification time when only the time has changed.
+     */
+    private static boolean isCurrent(Path source, Path snapshot) throws IOException {
+        if (!Files.isRegularFile(snapshot) || Files.size(snapshot) < HEADER_SIZE + FOOTER_SIZE) return false;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the whole header
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) return false;
+
+        long size = header.getLong();
+        long mtime = header.getLong();
+        long hash = header.getLong();
+        long sourceMtime = Files.getLastModifiedTime(source).toMillis();
+        if (size != Files.size(source)) return false;
+        if (mtime == sourceMtime) return true;
+        if (hash != hash(source)) return false;
+
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putLong(0, sourceMtime), MTIME_OFFSET);
+        }
+        return true;
+    }
+
+    /**
+     * Maps a snapshot and reads its footer, category table and index.
+     *
+     * @throws IOException if the snapshot cannot be mapped or its layout is damaged
+     */
+    private static List<Question> open(Path snapshot) throws IOException {
+        MappedByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Question snapshot too large to map: " + snapshot);
+            }
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            int footer = buf.limit() - FOOTER_SIZE;
+            if (footer < HEADER_SIZE || buf.getInt(footer + 20) != FOOTER_MAGIC) {
+                throw new IOException("Corrupt question snapshot: " + snapshot);
+            }
+            long categoriesOffset = buf.getLong(footer);
+            long indexOffset = buf.getLong(footer + 8);
+            int count = buf.getInt(footer + 16);
+            if (categoriesOffset < HEADER_SIZE || categoriesOffset > indexOffset || count < 0
+                    || indexOffset + (long) count * INDEX_ENTRY_SIZE != footer) {
+                throw new IOException("Corrupt question snapshot: " + snapshot);
+            }
+
+            ByteBuffer table = buf.duplicate();
+            table.position((int) categoriesOffset).limit((int) indexOffset);
+            long categoryCount = VarInts.readUnsigned(table);
+            if (categoryCount > table.remaining()) {
+                throw new IOException("Corrupt question snapshot: " + snapshot);
+            }
+            String[] categories = new String[(int) categoryCount];
+            for (int i = 0; i < categories.length; i++) {
+                categories[i] = readString(table);
+            }
+
+            return new SnapshotList(buf, categories, (int) indexOffset, count);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException | IllegalStateException
+                | BufferUnderflowException e) {
+            throw new IOException("Corrupt question snapshot: " + snapshot, e);
+        }
+    }
+
+    /**
+     * Computes the CRC32C of a file's content.
+     */
+    private static long hash(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] chunk = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int n; (n = in.read(chunk)) > 0;) {
+                crc.update(chunk, 0, n);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            VarInts.writeUnsigned(out, 0);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        VarInts.writeUnsigned(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buf) {
+        int length = (int) VarInts.readUnsigned(buf) - 1;
+        if (length < 0) return null;
+
+        String s;
+        if (buf.hasArray()) {
+            s = new String(buf.array(), buf.arrayOffset() + buf.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            buf.get(buf.position(), bytes);
+            s = new String(bytes, StandardCharsets.UTF_8);
+        }
+        buf.position(buf.position() + length);
+        return s;
+    }
+
+    /**
+     * Writes the records of a snapshot as the parser streams questions in,
+     * collecting the category table and index to write after the last record.
+     */
+    private static final class RecordWriter implements Consumer<Question> {
+        private final DataOutputStream out;
+        private final Map<String, Integer> categoryIds = new HashMap<>();
+        private final List<String> categories = new ArrayList<>();
+        private ByteBuffer index = ByteBuffer.allocate(64 * INDEX_ENTRY_SIZE);
+        private int count;
+        private IOException failure;
+
+        private RecordWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void accept(Question q) {
+            if (failure != null) return;
+
+            try {
+                // DataOutputStream.size() saturates at Integer.MAX_VALUE
+                if (out.size() == Integer.MAX_VALUE) {
+                    throw new IOException("Question bank too large for a snapshot");
+                }
+
+                String category = q.getCategory() == null ? "" : q.getCategory();
+                Integer id = categoryIds.get(category);
+                if (id == null) {
+                    id = categories.size();
+                    categoryIds.put(category, id);
+                    categories.add(category);
+                }
+
+                if (index.remaining() < INDEX_ENTRY_SIZE) {
+                    index.flip();
+                    index = ByteBuffer.allocate(index.capacity() * 2).put(index);
+                }
+                index.putInt(out.size()).putInt(id).putInt(q.getValue());
+
+                writeString(out, q.getQuestionText());
+                writeString(out, q.getCorrectAnswer());
+                Map<String, String> options = q.getOptions() == null ? Map.of() : q.getOptions();
+                VarInts.writeUnsigned(out, options.size());
+                for (Map.Entry<String, String> option : options.entrySet()) {
+                    writeString(out, option.getKey());
+                    writeString(out, option.getValue());
+                }
+                count++;
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        /**
+         * Writes the category table, index and footer.
+         */
+        void finish() throws IOException {
+            if (failure != null) throw failure;
+
+            long categoriesOffset = out.size();
+            VarInts.writeUnsigned(out, categories.size());
+            for (String category : categories) {
+                writeString(out, category);
+            }
+
+            long indexOffset = out.size();
+            out.write(index.array(), 0, index.position());
+
+            out.writeLong(categoriesOffset);
+            out.writeLong(indexOffset);
+            out.writeInt(count);
+            out.writeInt(FOOTER_MAGIC);
+        }
+    }
+
+    /**
+     * The read-only question list backed by a mapped snapshot.
+     * Questions are created on first access and then reused, so every caller
+     * sees the same Question object for a given index.
+     */
+    private static final class SnapshotList extends AbstractList<Question> implements RandomAccess {
+        private final ByteBuffer buf;
+        private final String[] categories;
+        private final int indexOffset;
+        private final AtomicReferenceArray<Question> questions;
+
+        private SnapshotList(ByteBuffer buf, String[] categories, int indexOffset, int count) {
+            this.buf = buf;
+            this.categories = categories;
+            this.indexOffset = indexOffset;
+            this.questions = new AtomicReferenceArray<>(count);
+        }
+
+        @Override
+        public Question get(int i) {
+            Question q = questions.get(i);
+            if (q != null) return q;
+
+            int entry = indexOffset + i * INDEX_ENTRY_SIZE;
+            q = new SnapshotQuestion(buf, buf.getInt(entry), categories[buf.getInt(entry + 4)], buf.getInt(entry + 8));
+            return questions.compareAndSet(i, null, q) ? q : questions.get(i);
+        }
+
+        @Override
+        public int size() { return questions.length(); }
+    }
+
+    /**
+     * A question whose category and value come from the snapshot index and whose
+     * text, options and answer are decoded from the mapped record when first needed.
+     * Snapshot questions are shared by every game that loads the file, so they are
+     * read-only: their setters throw and their options map cannot be modified.
+     */
+    private static final class SnapshotQuestion extends Question {
+        private final ByteBuffer buf;
+        private final int record;
+        private volatile boolean loaded;
+
+        private SnapshotQuestion(ByteBuffer buf, int record, String category, int value) {
+            super(category, value, null, null);
+            this.buf = buf;
+            this.record = record;
+        }
+
+        @Override
+        public String getQuestionText() { load(); return super.getQuestionText(); }
+
+        @Override
+        public void setCategory(String category) { throw immutable(); }
+
+        @Override
+        public void setValue(int value) { throw immutable(); }
+
+        @Override
+        public void setQuestionText(String questionText) { throw immutable(); }
+
+        @Override
+        public Map<String, String> getOptions() { load(); return super.getOptions(); }
+
+        @Override
+        public void setOptions(Map<String, String> options) { throw immutable(); }
+
+        @Override
+        public String getCorrectAnswer() { load(); return super.getCorrectAnswer(); }
+
+        @Override
+        public void setCorrectAnswer(String correctAnswer) { throw immutable(); }
+
+        @Override
+        public AnswerKey getAnswerKey() { load(); return super.getAnswerKey(); }
+
+        @Override
+        boolean isImmutable() { return true; }
+
+        @Override
+        public String toString() {
+            return String.format("[%s] %d - %s", getCategory(), getValue(), getQuestionText());
+        }
+
+        private static UnsupportedOperationException immutable() {
+            return new UnsupportedOperationException("Snapshot questions are immutable");
+        }
+
+        private void load() {
+            if (loaded) return;
+
+            synchronized (this) {
+                if (loaded) return;
+
+                ByteBuffer in = buf.duplicate();
+                in.position(record);
+                super.setQuestionText(readString(in));
+                super.setCorrectAnswer(readString(in));
+
+                int optionCount = (int) VarInts.readUnsigned(in);
+                Map<String, String> options = new LinkedHashMap<>();
+                for (int i = 0; i < optionCount; i++) {
+                    options.put(readString(in), readString(in));
+                }
+                super.setOptions(Collections.unmodifiableMap(options));
+                loaded = true;
+            }
+        }
+    }
+}
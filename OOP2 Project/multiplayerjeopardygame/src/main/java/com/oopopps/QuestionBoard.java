@@ -0,0 +1,173 @@
+package com.oopopps;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Holds the questions that are still available during a game.
+ * Questions are indexed by normalized (lower-case) category and point value, so
+ * selecting, removing and displaying questions never scans the whole board.
+ * Each category keeps its values sorted and caches its rendered row, which is
+ * only rebuilt when a question is taken from that category.
+ */
+public class QuestionBoard {
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private int size = 0;
+    private String rendered;
+
+    /**
+     * Constructs a board containing the given questions.
+     * Categories appear in the order they are first seen.
+     *
+     * @param questions the questions to place on the board
+     */
+    public QuestionBoard(Collection<Question> questions) {
+        for (Question q : questions) {
+            add(q);
+        }
+    }
+
+    /**
+     * Adds a question to the board.
+     *
+     * @param q the question to add
+     */
+    public void add(Question q) {
+        String category = q.getCategory() == null ? "" : q.getCategory();
+        Column column = columns.computeIfAbsent(normalize(category), k -> new Column(category));
+        column.byValue.computeIfAbsent(q.getValue(), k -> new ArrayDeque<>()).addLast(q);
+        column.row = null;
+        rendered = null;
+        size++;
+    }
+
+    /**
+     * Finds an available question by category and point value.
+     * Category matching is case-insensitive.
+     *
+     * @param category the category to match
+     * @param value the point value to match
+     * @return the first matching Question or null if none is available
+     */
+    public Question find(String category, int value) {
+        Column column = columns.get(normalize(category));
+        if (column == null) return null;
+
+        ArrayDeque<Question> questions = column.byValue.get(value);
+        return questions == null ? null : questions.peekFirst();
+    }
+
+    /**
+     * Removes a question from the board, typically once it has been answered.
+     *
+     * @param q the question to remove
+     * @return true if the question was on the board
+     */
+    public boolean remove(Question q) {
+        String key = normalize(q.getCategory());
+        Column column = columns.get(key);
+        if (column == null) return false;
+
+        ArrayDeque<Question> questions = column.byValue.get(q.getValue());
+        if (questions == null || !removeFirst(questions, q)) return false;
+
+        if (questions.isEmpty()) {
+            column.byValue.remove(q.getValue());
+            if (column.byValue.isEmpty()) {
+                columns.remove(key);
+            }
+        }
+
+        column.row = null;
+        rendered = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * Checks whether any questions are left on the board.
+     *
+     * @return true if the board is empty
+     */
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Gets the number of questions left on the board.
+     *
+     * @return the number of available questions
+     */
+    public int size() { return size; }
+
+    /**
+     * Renders all available questions grouped by category with their sorted point values.
+     * Rows of unchanged categories are reused from the previous render.
+     *
+     * @return the formatted board
+     */
+    public String render() {
+        if (rendered != null) return rendered;
+
+        String nl = System.lineSeparator();
+        StringBuilder sb = new StringBuilder();
+        sb.append("-------------- AVAILABLE QUESTIONS --------------").append(nl).append(nl);
+
+        for (Column column : columns.values()) {
+            if (column.row == null) {
+                StringBuilder valueStr = new StringBuilder();
+                for (Map.Entry<Integer, ArrayDeque<Question>> entry : column.byValue.entrySet()) {
+                    String val = String.format("%4d", entry.getKey());
+                    for (int i = 0; i < entry.getValue().size(); i++) {
+                        valueStr.append(val);
+                    }
+                }
+                column.row = String.format(" %-25s : %s%n", column.name, valueStr) + nl;
+            }
+            sb.append(column.row);
+        }
+
+        rendered = sb.toString();
+        return rendered;
+    }
+
+    /**
+     * Normalizes a category name for lookups.
+     */
+    private static String normalize(String category) {
+        return category == null ? "" : category.toLowerCase();
+    }
+
+    /**
+     * Removes the given question (by identity) from a bucket of same-valued questions.
+     */
+    private static boolean removeFirst(ArrayDeque<Question> questions, Question q) {
+        if (questions.peekFirst() == q) {
+            questions.pollFirst();
+            return true;
+        }
+
+        for (Iterator<Question> it = questions.iterator(); it.hasNext();) {
+            if (it.next() == q) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The available questions of one category, bucketed by value in ascending order.
+     */
+    private static final class Column {
+        private final String name;
+        private final TreeMap<Integer, ArrayDeque<Question>> byValue = new TreeMap<>();
+        private String row;
+
+        private Column(String name) {
+            this.name = name;
+        }
+    }
+}
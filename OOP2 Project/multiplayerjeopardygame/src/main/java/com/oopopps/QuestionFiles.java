@@ -0,0 +1,45 @@
+package com.oopopps;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Locates question files for the parsers.
+ * Looks in the classpath (resources folder) first and falls back to the filesystem,
+ * which is the lookup order every QuestionParser implementation uses.
+ */
+final class QuestionFiles {
+
+    private QuestionFiles() {}
+
+    /**
+     * Opens the given question file for reading.
+     * 
+     * @param file the path to the question file
+     * @return an input stream over the file, or null if it exists neither on the classpath nor on disk
+     * @throws IOException if the file exists but cannot be opened
+     */
+    static InputStream open(Path file) throws IOException {
+        InputStream is = QuestionFiles.class.getClassLoader()
+                .getResourceAsStream(file.getFileName().toString());
+        if (is != null) {
+            return is;
+        }
+
+        Path resolved = file.toAbsolutePath().normalize();
+        return Files.exists(resolved) ? Files.newInputStream(resolved) : null;
+    }
+
+    /**
+     * Checks whether the given question file is served from the classpath,
+     * which takes precedence over a file of the same name on disk.
+     * 
+     * @param file the path to the question file
+     * @return true if a classpath resource with the file's name exists
+     */
+    static boolean isResource(Path file) {
+        return QuestionFiles.class.getClassLoader().getResource(file.getFileName().toString()) != null;
+    }
+}
@@ -1,7 +1,9 @@
 package com.oopopps;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Defines the contract for parsing questions from various file formats.
@@ -17,4 +19,36 @@ public interface QuestionParser {
      * @throws Exception if the file cannot be read or parsed
      */
     List<Question> parse(Path file) throws Exception;
+
+    /**
+     * Streams questions from the specified file, handing each one to the consumer
+     * as soon as it has been read. Parsers that can read incrementally override this
+     * so that very large question banks never have to be held on the heap at once;
+     * the default implementation simply parses the whole file first.
+     * 
+     * @param file the path to the file containing questions
+     * @param consumer receives each Question in file order
+     * @throws Exception if the file cannot be read or parsed
+     */
+    default void stream(Path file, Consumer<Question> consumer) throws Exception {
+        for (Question q : parse(file)) {
+            consumer.accept(q);
+        }
+    }
+
+    /**
+     * Parses questions from the specified file into their compact, immutable form.
+     * Questions are converted one at a time as the file is streamed, so the mutable
+     * form of the whole bank is never held at once.
+     * 
+     * @param file the path to the file containing questions
+     * @param categories the dictionary categories are interned into
+     * @return a list of CompactQuestion objects in file order
+     * @throws Exception if the file cannot be read or parsed
+     */
+    default List<CompactQuestion> parseCompact(Path file, CategoryDictionary categories) throws Exception {
+        List<CompactQuestion> list = new ArrayList<>();
+        stream(file, q -> list.add(CompactQuestion.of(q, categories)));
+        return list;
+    }
 }
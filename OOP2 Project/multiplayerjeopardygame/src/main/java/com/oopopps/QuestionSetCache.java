@@ -0,0 +1,266 @@
+package com.oopopps;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Process-wide cache of loaded question sets, so that many games using the same
+ * question file share one copy instead of each parsing the file.
+ *
+ * Entries are keyed by the file's real path together with its size and
+ * modification time, so an edited file is loaded afresh while unchanged files are
+ * served from memory, and looking up a file never reads its content. This is the
+ * same check {@link QuestionBankSnapshot} uses to tell whether a snapshot is
+ * current. Question files on the classpath cannot change and are keyed by name.
+ * Concurrent requests for a file that is still loading wait for that one
+ * load instead of starting their own. The cache holds at most a configured number
+ * of questions in total and evicts the least recently used sets beyond that.
+ *
+ * Cached questions are immutable, since every game holding a set sees the same
+ * objects. A loader that returns mutable Questions has them converted to
+ * {@link CompactQuestion}s before they are cached.
+ */
+public class QuestionSetCache {
+    private static final long DEFAULT_MAX_QUESTIONS = 1_000_000;
+    private static final QuestionSetCache SHARED = new QuestionSetCache(DEFAULT_MAX_QUESTIONS);
+
+    private final long maxQuestions;
+    private final Loader loader;
+    private final Object lock = new Object();
+    private final LinkedHashMap<Key, CompletableFuture<List<Question>>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Loads the questions of a file on a cache miss.
+     */
+    interface Loader {
+        List<Question> load(Path file) throws Exception;
+    }
+
+    /**
+     * Constructs a cache holding at most the given number of questions.
+     *
+     * @param maxQuestions the total number of questions over all cached sets
+     */
+    public QuestionSetCache(long maxQuestions) {
+        this(maxQuestions, QuestionBankSnapshot::load);
+    }
+
+    /**
+     * Constructs a cache with a custom loader.
+     *
+     * @param maxQuestions the total number of questions over all cached sets
+     * @param loader loads a question set on a miss
+     */
+    QuestionSetCache(long maxQuestions, Loader loader) {
+        this.maxQuestions = maxQuestions;
+        this.loader = loader;
+    }
+
+    /**
+     * Gets the cache shared by the whole process.
+     *
+     * @return the shared cache
+     */
+    public static QuestionSetCache shared() { return SHARED; }
+
+    /**
+     * Gets the questions of a question file, loading them if they are not cached.
+     * The returned list is unmodifiable and shared with other callers. Its
+     * questions are shared as well, and their setters throw
+     * {@link UnsupportedOperationException}.
+     *
+     * @param file the question file (XML, JSON, or CSV)
+     * @return the questions in file order
+     * @throws Exception if the questions cannot be loaded
+     */
+    public List<Question> get(Path file) throws Exception {
+        Key key = keyOf(file);
+        CompletableFuture<List<Question>> future;
+        boolean owner = false;
+
+        synchronized (lock) {
+            future = entries.get(key);
+            if (future != null) {
+                hits++;
+            } else {
+                misses++;
+                future = new CompletableFuture<>();
+                entries.put(key, future);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            try {
+                List<Question> questions = immutable(loader.load(file));
+                synchronized (lock) {
+                    weight += questions.size();
+                    future.complete(questions);
+                    evict(key);
+                }
+                return questions;
+            } catch (Exception e) {
+                synchronized (lock) {
+                    entries.remove(key, future);
+                }
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Removes every cached question set.
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            entries.values().removeIf(CompletableFuture::isDone);
+            weight = 0;
+        }
+    }
+
+    /**
+     * Gets the number of requests served from the cache, including requests
+     * that waited for a load already in progress.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        synchronized (lock) { return hits; }
+    }
+
+    /**
+     * Gets the number of requests that had to load their question set.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        synchronized (lock) { return misses; }
+    }
+
+    /**
+     * Gets the number of question sets removed to stay within the size bound
+     * or because their file changed.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        synchronized (lock) { return evictions; }
+    }
+
+    /**
+     * Gets the total number of questions currently cached.
+     *
+     * @return the cached question count
+     */
+    public long getWeight() {
+        synchronized (lock) { return weight; }
+    }
+
+    /**
+     * Evicts sets of files whose content has changed, then least recently used
+     * sets until the cache is within its bound. The set just added is kept even
+     * if it alone exceeds the bound. Must be called holding the lock.
+     */
+    private void evict(Key added) {
+        entries.entrySet().removeIf(entry -> entry.getKey().path.equals(added.path)
+                && !entry.getKey().equals(added) && remove(entry.getValue()));
+
+        Iterator<Map.Entry<Key, CompletableFuture<List<Question>>>> it = entries.entrySet().iterator();
+        while (weight > maxQuestions && it.hasNext()) {
+            Map.Entry<Key, CompletableFuture<List<Question>>> entry = it.next();
+            if (!entry.getKey().equals(added) && remove(entry.getValue())) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Accounts for removing a loaded set. Sets still loading are never removed.
+     *
+     * @return true if the set may be removed
+     */
+    private boolean remove(CompletableFuture<List<Question>> future) {
+        if (!future.isDone() || future.isCompletedExceptionally()) return false;
+
+        weight -= future.join().size();
+        evictions++;
+        return true;
+    }
+
+    /**
+     * Makes a loaded set safe to share: an unmodifiable list of immutable questions.
+     */
+    private static List<Question> immutable(List<Question> loaded) {
+        for (Question q : loaded) {
+            if (!q.isImmutable()) {
+                CategoryDictionary categories = new CategoryDictionary();
+                List<CompactQuestion> compact = new ArrayList<>(loaded.size());
+                for (Question each : loaded) {
+                    compact.add(each instanceof CompactQuestion ? (CompactQuestion) each : CompactQuestion.of(each, categories));
+                }
+                return CompactQuestion.asQuestions(compact);
+            }
+        }
+        return Collections.unmodifiableList(loaded);
+    }
+
+    /**
+     * Builds the cache key of a file from its real path, size and modification time.
+     */
+    private static Key keyOf(Path file) throws IOException {
+        if (QuestionFiles.isResource(file)) {
+            return new Key("classpath:" + file.getFileName(), -1, -1);
+        }
+
+        Path real = file.toRealPath();
+        return new Key(real.toString(), Files.size(real), Files.getLastModifiedTime(real).toMillis());
+    }
+
+    /**
+     * Identifies one version of a question file.
+     */
+    private static final class Key {
+        private final String path;
+        private final long size;
+        private final long mtime;
+
+        private Key(String path, long size, long mtime) {
+            this.path = path;
+            this.size = size;
+            this.mtime = mtime;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return size == other.size && mtime == other.mtime && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, mtime);
+        }
+    }
+}
@@ -1,15 +1,33 @@
 package com.oopopps;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import com.oopopps.report.*;
 
 /**
  * Generates game reports using the Strategy pattern.
  * Delegates actual report generation to specific strategy implementations.
+ *
+ * Reports can also be generated asynchronously with
+ * {@link #generateAsync(String, List, TurnRecord, Map)}, which renders every
+ * requested report in parallel on a bounded pool of background threads, so a
+ * game can end without waiting for its reports and many games' reports can be
+ * rendered at once.
  */
 public class ReportGenerator {
-    
+    /** The number of report tasks that may wait for a thread before callers run them themselves */
+    private static final int QUEUE_CAPACITY = 256;
+
     /**
      * Generates a game report using the specified strategy.
      * 
@@ -23,4 +41,99 @@ public class ReportGenerator {
     public static void generate(Path path, String caseId, List<Player> players, List<String> turns, ReportStrategy strategy) throws Exception {
         strategy.generate(path, caseId, players, turns);
     }
+
+    /**
+     * Generates a game report from a structured turn record using the specified strategy.
+     * 
+     * @param path the file path where the report will be saved
+     * @param caseId the unique identifier for this game session
+     * @param players the list of players who participated
+     * @param turns the turns taken during the game
+     * @param strategy the report generation strategy to use
+     * @throws Exception if report generation fails
+     */
+    public static void generate(Path path, String caseId, List<Player> players, TurnRecord turns, ReportStrategy strategy) throws Exception {
+        strategy.generate(path, caseId, players, turns);
+    }
+
+    /**
+     * Generates several reports of one game in parallel on the shared report pool.
+     * The players and turns are copied before this method returns, so the game may
+     * carry on changing them while the reports are rendered.
+     * 
+     * The pool has one thread per processor and a bounded queue; when the queue is
+     * full, the calling thread renders the report itself, which slows producers
+     * down instead of letting pending reports pile up.
+     * 
+     * @param caseId the unique identifier for this game session
+     * @param players the list of players who participated
+     * @param turns the turns taken during the game
+     * @param reports the strategy to render each report file with
+     * @return a future that completes when every report has been written, or
+     *         completes exceptionally with the first failure
+     */
+    public static CompletableFuture<Void> generateAsync(String caseId, List<Player> players, TurnRecord turns,
+            Map<Path, ReportStrategy> reports) {
+        return generateAsync(caseId, players, turns, reports, Pool.EXECUTOR);
+    }
+
+    /**
+     * Generates several reports of one game in parallel on the given executor.
+     * The players and turns are copied before this method returns, so the game may
+     * carry on changing them while the reports are rendered.
+     * 
+     * @param caseId the unique identifier for this game session
+     * @param players the list of players who participated
+     * @param turns the turns taken during the game
+     * @param reports the strategy to render each report file with
+     * @param executor the executor each report is rendered on
+     * @return a future that completes when every report has been written, or
+     *         completes exceptionally with the first failure
+     */
+    public static CompletableFuture<Void> generateAsync(String caseId, List<Player> players, TurnRecord turns,
+            Map<Path, ReportStrategy> reports, Executor executor) {
+        List<Player> playerSnapshot = new ArrayList<>(players.size());
+        for (Player p : players) {
+            Player copy = new Player(p.getId(), p.getName());
+            copy.updateScore(p.getScore());
+            playerSnapshot.add(copy);
+        }
+        List<Player> snapshotPlayers = List.copyOf(playerSnapshot);
+        TurnRecord snapshotTurns = turns.copy();
+
+        CompletableFuture<?>[] rendering = new CompletableFuture<?>[reports.size()];
+        int i = 0;
+        for (Map.Entry<Path, ReportStrategy> report : reports.entrySet()) {
+            rendering[i++] = CompletableFuture.runAsync(() -> {
+                try {
+                    report.getValue().generate(report.getKey(), caseId, snapshotPlayers, snapshotTurns);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(rendering);
+    }
+
+    /**
+     * Holds the shared report pool, created on first use.
+     */
+    private static final class Pool {
+        private static final ExecutorService EXECUTOR = create();
+
+        private static ExecutorService create() {
+            int threads = Runtime.getRuntime().availableProcessors();
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(QUEUE_CAPACITY),
+                    task -> {
+                        Thread t = new Thread(task, "jeopardy-report-" + threadCount.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    },
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package com.oopopps;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * Parses JSON files containing Jeopardy questions into Question objects one element at a time.
+ * Accepts the same shapes as {@link JSONQuestionParser}: a raw array of questions, or an
+ * object holding them under "JeopardyQuestions" or "questions". The file is tokenized
+ * straight from a reader and only the current question object is ever materialized, so
+ * peak memory is proportional to one question rather than to the whole file.
+ *
+ * If an object contains both arrays, the one that appears first in the file is used.
+ */
+public class StreamingJSONQuestionParser implements QuestionParser {
+
+    /**
+     * Parses a JSON file and converts it into a list of Question objects.
+     * 
+     * @param file the path to the JSON file to parse
+     * @return a list of Question objects parsed from the file
+     * @throws Exception if file cannot be read or parsed
+     */
+    @Override
+    public List<Question> parse(Path file) throws Exception {
+        List<Question> list = new ArrayList<>();
+        stream(file, list::add);
+        return list;
+    }
+
+    /**
+     * Streams the questions of a JSON file to the consumer as each array element is read.
+     * 
+     * @param file the path to the JSON file to parse
+     * @param consumer receives each Question in file order
+     * @throws Exception if file cannot be read or parsed
+     */
+    @Override
+    public void stream(Path file, Consumer<Question> consumer) throws Exception {
+        InputStream is = QuestionFiles.open(file);
+        if (is == null) {
+            throw new Exception("JSON file not found in resources or filesystem: " + file.getFileName());
+        }
+
+        try (Reader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            stream(reader, consumer);
+        }
+    }
+
+    /**
+     * Streams the questions of a JSON document.
+     * 
+     * @param reader the JSON text
+     * @param consumer receives each Question in document order
+     * @throws Exception if the document is malformed or has no question array
+     */
+    void stream(Reader reader, Consumer<Question> consumer) throws Exception {
+        JSONTokener tokener = new JSONTokener(reader);
+
+        switch (tokener.nextClean()) {
+            case '[':
+                readArray(tokener, consumer);
+                break;
+
+            case '{':
+                if (!readRoot(tokener, consumer)) {
+                    throw new Exception("JSON does not contain 'JeopardyQuestions' or 'questions' array");
+                }
+                break;
+
+            default:
+                throw tokener.syntaxError("A JSON array or object text must begin with '[' or '{'");
+        }
+    }
+
+    /**
+     * Reads the members of the root object, streaming the first question array found
+     * and skipping everything else.
+     * 
+     * @return true if a question array was found
+     */
+    private boolean readRoot(JSONTokener tokener, Consumer<Question> consumer) {
+        boolean found = false;
+
+        char c = tokener.nextClean();
+        if (c == '}') return false;
+        tokener.back();
+
+        while (true) {
+            String key = tokener.nextValue().toString();
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
+            }
+
+            if (!found && (key.equals("JeopardyQuestions") || key.equals("questions"))) {
+                if (tokener.nextClean() != '[') {
+                    throw tokener.syntaxError("JSONObject[\"" + key + "\"] is not a JSONArray");
+                }
+                readArray(tokener, consumer);
+                found = true;
+            } else {
+                tokener.nextValue();
+            }
+
+            c = tokener.nextClean();
+            if (c == '}') return found;
+            if (c != ',') {
+                throw tokener.syntaxError("Expected a ',' or '}'");
+            }
+        }
+    }
+
+    /**
+     * Reads the question objects of an array whose opening bracket has been consumed.
+     */
+    private void readArray(JSONTokener tokener, Consumer<Question> consumer) {
+        char c = tokener.nextClean();
+        if (c == ']') return;
+        tokener.back();
+
+        while (true) {
+            if (tokener.nextClean() != '{') {
+                throw tokener.syntaxError("Expected a question object");
+            }
+            tokener.back();
+            consumer.accept(JSONQuestionParser.toQuestion(new JSONObject(tokener)));
+
+            c = tokener.nextClean();
+            if (c == ']') return;
+            if (c != ',') {
+                throw tokener.syntaxError("Expected a ',' or ']'");
+            }
+        }
+    }
+}
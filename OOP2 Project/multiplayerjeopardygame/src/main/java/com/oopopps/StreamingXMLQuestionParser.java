@@ -0,0 +1,182 @@
+package com.oopopps;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Parses XML files containing Jeopardy questions into Question objects using StAX.
+ * Unlike {@link XMLQuestionParser}, no document tree is built: each Question is
+ * emitted as soon as its QuestionItem element closes, so memory use stays bounded
+ * by the size of one question regardless of the size of the file.
+ *
+ * DTDs and external entities are disabled, so untrusted question files cannot
+ * pull in other files or expand into huge documents.
+ */
+public class StreamingXMLQuestionParser implements QuestionParser {
+    private static final XMLInputFactory FACTORY = newFactory();
+
+    /**
+     * Parses an XML file and converts it into a list of Question objects.
+     * 
+     * @param file the path to the XML file to parse
+     * @return a list of Question objects parsed from the file
+     * @throws Exception if file cannot be read or parsed
+     */
+    @Override
+    public List<Question> parse(Path file) throws Exception {
+        List<Question> list = new ArrayList<>();
+        stream(file, list::add);
+        return list;
+    }
+
+    /**
+     * Streams the questions of an XML file to the consumer as each QuestionItem is read.
+     * 
+     * @param file the path to the XML file to parse
+     * @param consumer receives each Question in document order
+     * @throws Exception if file cannot be read or parsed
+     */
+    @Override
+    public void stream(Path file, Consumer<Question> consumer) throws Exception {
+        InputStream is = QuestionFiles.open(file);
+        if (is == null) {
+            throw new FileNotFoundException("Resource not found: " + file.getFileName());
+        }
+
+        try (is) {
+            stream(is, consumer);
+        }
+    }
+
+    /**
+     * Streams the QuestionItem elements found anywhere in an XML document.
+     * 
+     * @param in the XML document
+     * @param consumer receives each Question in document order
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    void stream(InputStream in, Consumer<Question> consumer) throws XMLStreamException {
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && reader.getLocalName().equals("QuestionItem")) {
+                    consumer.accept(readItem(reader));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads one QuestionItem, leaving the reader on its end tag.
+     * Fields that are missing read as empty strings, as with the DOM parser.
+     */
+    private Question readItem(XMLStreamReader reader) throws XMLStreamException {
+        Question q = new Question();
+        q.setCategory("");
+        q.setQuestionText("");
+        q.setCorrectAnswer("");
+        String value = "";
+        Map<String, String> options = new LinkedHashMap<>();
+
+        while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+            if (reader.getEventType() != XMLStreamConstants.START_ELEMENT) continue;
+
+            switch (reader.getLocalName()) {
+                case "Category":
+                    q.setCategory(textContent(reader));
+                    break;
+
+                case "Value":
+                    value = textContent(reader);
+                    break;
+
+                case "QuestionText":
+                    q.setQuestionText(textContent(reader));
+                    break;
+
+                case "CorrectAnswer":
+                    q.setCorrectAnswer(textContent(reader));
+                    break;
+
+                case "Options":
+                    readOptions(reader, options);
+                    break;
+
+                default:
+                    textContent(reader);
+                    break;
+            }
+        }
+
+        q.setValue(Integer.parseInt(value.trim()));
+        q.setOptions(options);
+        return q;
+    }
+
+    /**
+     * Reads the option elements of an Options element in document order.
+     */
+    private void readOptions(XMLStreamReader reader, Map<String, String> options) throws XMLStreamException {
+        while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+            if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                options.put(name, textContent(reader));
+            }
+        }
+    }
+
+    /**
+     * Collects all text inside the current element, including nested elements,
+     * and leaves the reader on its end tag.
+     */
+    private String textContent(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int depth = 1;
+
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    sb.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+
+                default:
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Creates a StAX factory with DTD processing and external entities disabled.
+     */
+    private static XMLInputFactory newFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,82 @@
+package com.oopopps.analytics;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses ISO-8601 UTC timestamps, as written by {@code DateTimeFormatter.ISO_INSTANT}
+ * (for example {@code 2025-11-30T18:04:05.123456Z}), straight from bytes.
+ */
+final class IsoInstants {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private IsoInstants() {}
+
+    /**
+     * Parses the timestamp in buf[start, end).
+     * 
+     * @param buf the buffer holding the timestamp
+     * @param start the first byte of the timestamp
+     * @param end one past the last byte of the timestamp
+     * @return nanoseconds since the epoch, or Long.MIN_VALUE if the text is not a UTC instant
+     */
+    static long parseEpochNanos(ByteBuffer buf, int start, int end) {
+        if (end - start < 20 || buf.get(end - 1) != 'Z'
+                || buf.get(start + 4) != '-' || buf.get(start + 7) != '-' || buf.get(start + 10) != 'T'
+                || buf.get(start + 13) != ':' || buf.get(start + 16) != ':') {
+            return Long.MIN_VALUE;
+        }
+
+        int year = digits(buf, start, 4);
+        int month = digits(buf, start + 5, 2);
+        int day = digits(buf, start + 8, 2);
+        int hour = digits(buf, start + 11, 2);
+        int minute = digits(buf, start + 14, 2);
+        int second = digits(buf, start + 17, 2);
+        if ((year | month | day | hour | minute | second) < 0) {
+            return Long.MIN_VALUE;
+        }
+
+        long nanos = 0;
+        int pos = start + 19;
+        if (pos < end - 1) {
+            if (buf.get(pos) != '.') return Long.MIN_VALUE;
+            long scale = NANOS_PER_SECOND;
+            for (pos++; pos < end - 1; pos++) {
+                int d = buf.get(pos) - '0';
+                if (d < 0 || d > 9) return Long.MIN_VALUE;
+                scale /= 10;
+                nanos += d * scale;
+            }
+        }
+
+        long seconds = daysFromCivil(year, month, day) * 86_400L + hour * 3600L + minute * 60L + second;
+        return seconds * NANOS_PER_SECOND + nanos;
+    }
+
+    /**
+     * Reads a fixed-width run of decimal digits.
+     * 
+     * @return the value, or -1 if a non-digit is found
+     */
+    private static int digits(ByteBuffer buf, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int d = buf.get(i) - '0';
+            if (d < 0 || d > 9) return -1;
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    /**
+     * Counts days from 1970-01-01 to the given proleptic Gregorian date.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        year -= month <= 2 ? 1 : 0;
+        long era = Math.floorDiv(year, 400);
+        long yearOfEra = year - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+}
@@ -0,0 +1,283 @@
+package com.oopopps.analytics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes statistics over the 9-column CSV event log written by EventLogger.
+ * The file is memory-mapped and cut into line-aligned chunks that are parsed in
+ * parallel on a fork/join pool. Fields are read directly from the mapped bytes:
+ * activity, category and case names are only decoded once per distinct value,
+ * and timestamps are parsed without creating strings, so large logs are
+ * scanned at I/O speed rather than being limited by garbage collection.
+ *
+ * Header rows (one per time the log was opened) are skipped wherever they appear.
+ */
+public class LogAnalyzer {
+    private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+    private static final int COLUMNS = 9;
+    private static final int CASE_ID = 0;
+    private static final int ACTIVITY = 2;
+    private static final int TIMESTAMP = 3;
+    private static final int CATEGORY = 4;
+    private static final int RESULT = 7;
+    private static final byte[] HEADER_START = "Case_ID,".getBytes();
+    private static final byte[] CORRECT = "correct".getBytes();
+
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an analyzer using the common fork/join pool and the default chunk size.
+     */
+    public LogAnalyzer() {
+        this(DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an analyzer with an explicit chunk size and pool.
+     * 
+     * @param chunkSize the approximate number of bytes parsed by one task
+     * @param pool the pool the chunks are parsed on
+     */
+    public LogAnalyzer(int chunkSize, ForkJoinPool pool) {
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Analyzes a CSV event log.
+     * 
+     * @param logFile the log to analyze
+     * @return the aggregated statistics
+     * @throws IOException if the file cannot be read
+     */
+    public LogSummary analyze(Path logFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            long[] bounds = chunkBoundaries(channel);
+            return pool.invoke(new ChunkTask(channel, bounds, 0, bounds.length - 1));
+        }
+    }
+
+    /**
+     * Picks chunk boundaries roughly chunkSize bytes apart, each moved forward to
+     * just after the next line break.
+     */
+    private long[] chunkBoundaries(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long next = chunkSize;
+        while (next < size) {
+            long lineEnd = -1;
+            long pos = next;
+            while (lineEnd < 0 && pos < size) {
+                probe.clear();
+                int n = channel.read(probe, pos);
+                if (n <= 0) break;
+                for (int i = 0; i < n; i++) {
+                    if (probe.get(i) == '\n') {
+                        lineEnd = pos + i + 1;
+                        break;
+                    }
+                }
+                pos += n;
+            }
+            if (lineEnd < 0 || lineEnd >= size) break;
+
+            bounds.add(lineEnd);
+            next = lineEnd + chunkSize;
+        }
+
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Parses chunks [from, to) of the file, splitting the range in half until a single chunk remains.
+     */
+    private static final class ChunkTask extends RecursiveTask<LogSummary> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long[] bounds;
+        private final int from;
+        private final int to;
+
+        private ChunkTask(FileChannel channel, long[] bounds, int from, int to) {
+            this.channel = channel;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LogSummary compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                ChunkTask left = new ChunkTask(channel, bounds, from, mid);
+                left.fork();
+                LogSummary right = new ChunkTask(channel, bounds, mid, to).compute();
+                LogSummary merged = left.join();
+                merged.merge(right);
+                return merged;
+            }
+
+            ChunkStats stats = new ChunkStats();
+            long start = bounds[from];
+            long length = bounds[to] - start;
+            if (length > 0) {
+                try {
+                    MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                    stats.parse(buf);
+                } catch (IOException e) {
+                    throw new IllegalStateException("Cannot map log chunk at offset " + start, e);
+                }
+            }
+            return stats.toSummary();
+        }
+    }
+
+    /**
+     * Statistics for one chunk, keyed by dense ids rather than strings while scanning.
+     */
+    private static final class ChunkStats {
+        private final SliceTable activities = new SliceTable();
+        private final SliceTable categories = new SliceTable();
+        private final SliceTable cases = new SliceTable();
+        private long[] activityCounts = new long[16];
+        private long[] attempts = new long[16];
+        private long[] correct = new long[16];
+        private long[] caseStart = new long[16];
+        private long[] caseEnd = new long[16];
+        private int knownCases;
+        private long events;
+
+        /**
+         * Scans every line of a mapped chunk.
+         */
+        void parse(ByteBuffer buf) {
+            int[] starts = new int[COLUMNS];
+            int[] ends = new int[COLUMNS];
+            int limit = buf.limit();
+            int pos = 0;
+
+            while (pos < limit) {
+                int field = 0;
+                starts[0] = pos;
+                int i = pos;
+                while (i < limit) {
+                    byte b = buf.get(i);
+                    if (b == '\n') break;
+                    if (b == ',' && field < COLUMNS - 1) {
+                        ends[field++] = i;
+                        starts[field] = i + 1;
+                    }
+                    i++;
+                }
+                ends[field] = i > pos && buf.get(i - 1) == '\r' ? i - 1 : i;
+                pos = i + 1;
+
+                if (field == COLUMNS - 1 && !startsWith(buf, starts[0], ends[COLUMNS - 1], HEADER_START)) {
+                    record(buf, starts, ends);
+                }
+            }
+        }
+
+        private void record(ByteBuffer buf, int[] starts, int[] ends) {
+            events++;
+
+            int activity = activities.idOf(buf, starts[ACTIVITY], ends[ACTIVITY]);
+            activityCounts = ensure(activityCounts, activity);
+            activityCounts[activity]++;
+
+            if (ends[CATEGORY] > starts[CATEGORY] && ends[RESULT] > starts[RESULT]) {
+                int category = categories.idOf(buf, starts[CATEGORY], ends[CATEGORY]);
+                attempts = ensure(attempts, category);
+                correct = ensure(correct, category);
+                attempts[category]++;
+                if (equalsIgnoreCase(buf, starts[RESULT], ends[RESULT], CORRECT)) {
+                    correct[category]++;
+                }
+            }
+
+            long time = IsoInstants.parseEpochNanos(buf, starts[TIMESTAMP], ends[TIMESTAMP]);
+            if (time == Long.MIN_VALUE) return;
+
+            int caseId = cases.idOf(buf, starts[CASE_ID], ends[CASE_ID]);
+            if (caseId == knownCases) {
+                caseStart = ensure(caseStart, caseId);
+                caseEnd = ensure(caseEnd, caseId);
+                caseStart[caseId] = Long.MAX_VALUE;
+                caseEnd[caseId] = Long.MIN_VALUE;
+                knownCases++;
+            }
+            caseStart[caseId] = Math.min(caseStart[caseId], time);
+            caseEnd[caseId] = Math.max(caseEnd[caseId], time);
+        }
+
+        /**
+         * Converts the chunk's id-keyed statistics into a string-keyed summary.
+         * Each distinct activity, category and case is decoded once here.
+         */
+        LogSummary toSummary() {
+            LogSummary summary = new LogSummary();
+            summary.addEvents(events);
+            for (int id = 0; id < activities.size(); id++) {
+                summary.addActivity(activities.keyOf(id), activityCounts[id]);
+            }
+            for (int id = 0; id < categories.size(); id++) {
+                summary.addCategory(categories.keyOf(id), attempts[id], correct[id]);
+            }
+            for (int id = 0; id < cases.size(); id++) {
+                summary.addCaseSpan(cases.keyOf(id), caseStart[id], caseEnd[id]);
+            }
+            return summary;
+        }
+
+        private static long[] ensure(long[] array, int index) {
+            return index < array.length ? array : Arrays.copyOf(array, Math.max(index + 1, array.length * 2));
+        }
+
+        private static boolean startsWith(ByteBuffer buf, int start, int end, byte[] prefix) {
+            if (end - start < prefix.length) return false;
+            for (int i = 0; i < prefix.length; i++) {
+                if (buf.get(start + i) != prefix[i]) return false;
+            }
+            return true;
+        }
+
+        private static boolean equalsIgnoreCase(ByteBuffer buf, int start, int end, byte[] lowerCase) {
+            if (end - start != lowerCase.length) return false;
+            for (int i = 0; i < lowerCase.length; i++) {
+                byte b = buf.get(start + i);
+                if (b >= 'A' && b <= 'Z') b += 'a' - 'A';
+                if (b != lowerCase[i]) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Analyzes a log from the command line and prints the summary.
+     * 
+     * @param args the log file to analyze (defaults to game_log.csv)
+     * @throws IOException if the file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        Path logFile = Paths.get(args.length > 0 ? args[0] : "game_log.csv");
+        System.out.print(new LogAnalyzer().analyze(logFile));
+    }
+}
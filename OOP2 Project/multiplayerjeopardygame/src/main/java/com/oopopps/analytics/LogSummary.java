@@ -0,0 +1,159 @@
+package com.oopopps.analytics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated statistics over one or more game event logs:
+ * how often each activity occurred, how often each category's questions were
+ * answered correctly, and how long each game session (case) lasted.
+ */
+public class LogSummary {
+    private long eventCount;
+    private final Map<String, Long> activityCounts = new TreeMap<>();
+    private final Map<String, long[]> categoryResults = new TreeMap<>();
+    private final Map<String, long[]> caseSpans = new TreeMap<>();
+
+    /**
+     * Gets the number of events (data rows) analyzed.
+     * 
+     * @return the event count
+     */
+    public long getEventCount() { return eventCount; }
+
+    /**
+     * Gets the number of times each activity was logged.
+     * 
+     * @return activity counts keyed by activity name
+     */
+    public Map<String, Long> getActivityCounts() {
+        return Collections.unmodifiableMap(activityCounts);
+    }
+
+    /**
+     * Gets the categories that had at least one answered question.
+     * 
+     * @return the category names in alphabetical order
+     */
+    public Iterable<String> getCategories() {
+        return Collections.unmodifiableSet(categoryResults.keySet());
+    }
+
+    /**
+     * Gets the number of answers given in a category.
+     * 
+     * @param category the category name
+     * @return the number of answers, or 0 if the category never appeared
+     */
+    public long getAttempts(String category) {
+        long[] r = categoryResults.get(category);
+        return r == null ? 0 : r[0];
+    }
+
+    /**
+     * Gets the fraction of answers in a category that were correct.
+     * 
+     * @param category the category name
+     * @return the correct ratio between 0 and 1, or 0 if the category never appeared
+     */
+    public double getCorrectRatio(String category) {
+        long[] r = categoryResults.get(category);
+        return r == null || r[0] == 0 ? 0 : (double) r[1] / r[0];
+    }
+
+    /**
+     * Gets the case IDs of all sessions in the log.
+     * 
+     * @return the case IDs in alphabetical order
+     */
+    public Iterable<String> getCaseIds() {
+        return Collections.unmodifiableSet(caseSpans.keySet());
+    }
+
+    /**
+     * Gets the time between the first and last event of a session.
+     * 
+     * @param caseId the session's case ID
+     * @return the session duration, or zero if the case never appeared
+     */
+    public Duration getCaseDuration(String caseId) {
+        long[] span = caseSpans.get(caseId);
+        return span == null ? Duration.ZERO : Duration.ofNanos(span[1] - span[0]);
+    }
+
+    /**
+     * Adds events to the totals.
+     */
+    void addEvents(long count) {
+        eventCount += count;
+    }
+
+    /**
+     * Adds occurrences of an activity.
+     */
+    void addActivity(String activity, long count) {
+        activityCounts.merge(activity, count, Long::sum);
+    }
+
+    /**
+     * Adds answer results for a category.
+     */
+    void addCategory(String category, long attempts, long correct) {
+        long[] r = categoryResults.computeIfAbsent(category, k -> new long[2]);
+        r[0] += attempts;
+        r[1] += correct;
+    }
+
+    /**
+     * Widens a session's time span to include [startNanos, endNanos].
+     */
+    void addCaseSpan(String caseId, long startNanos, long endNanos) {
+        long[] span = caseSpans.get(caseId);
+        if (span == null) {
+            caseSpans.put(caseId, new long[] { startNanos, endNanos });
+        } else {
+            span[0] = Math.min(span[0], startNanos);
+            span[1] = Math.max(span[1], endNanos);
+        }
+    }
+
+    /**
+     * Adds another summary's totals to this one.
+     */
+    void merge(LogSummary other) {
+        eventCount += other.eventCount;
+        other.activityCounts.forEach(this::addActivity);
+        other.categoryResults.forEach((category, r) -> addCategory(category, r[0], r[1]));
+        other.caseSpans.forEach((caseId, span) -> addCaseSpan(caseId, span[0], span[1]));
+    }
+
+    /**
+     * Renders the summary as a plain-text report.
+     * 
+     * @return the formatted summary
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Events: ").append(eventCount).append('\n');
+
+        sb.append("\nActivity Counts:\n");
+        for (Map.Entry<String, Long> e : activityCounts.entrySet()) {
+            sb.append(String.format("  %-25s %d%n", e.getKey(), e.getValue()));
+        }
+
+        sb.append("\nCategory Correct Ratios:\n");
+        for (String category : categoryResults.keySet()) {
+            sb.append(String.format("  %-30s %5.1f%% of %d%n", category,
+                    getCorrectRatio(category) * 100, getAttempts(category)));
+        }
+
+        sb.append("\nSession Durations:\n");
+        for (String caseId : caseSpans.keySet()) {
+            sb.append(String.format("  %-30s %s%n", caseId, getCaseDuration(caseId)));
+        }
+        return sb.toString();
+    }
+}
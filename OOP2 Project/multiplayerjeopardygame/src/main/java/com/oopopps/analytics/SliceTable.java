@@ -0,0 +1,110 @@
+package com.oopopps.analytics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Assigns dense ids to byte sequences read straight out of a buffer.
+ * A key is copied only the first time it is seen; looking up a known key
+ * hashes and compares the bytes in place, so scanning a log column allocates
+ * nothing per row.
+ */
+final class SliceTable {
+    private byte[][] keys = new byte[16][];
+    private int[] table = new int[32];
+    private int[] hashes = new int[16];
+    private int size;
+
+    /**
+     * Creates an empty table.
+     */
+    SliceTable() {
+        Arrays.fill(table, -1);
+    }
+
+    /**
+     * Gets the id of the bytes buf[start, end), adding them if they are new.
+     * 
+     * @param buf the buffer holding the key
+     * @param start the first byte of the key
+     * @param end one past the last byte of the key
+     * @return the key's id, from 0 upwards in order of first appearance
+     */
+    int idOf(ByteBuffer buf, int start, int end) {
+        int hash = 1;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + buf.get(i);
+        }
+
+        int mask = table.length - 1;
+        int slot = mix(hash) & mask;
+        while (true) {
+            int id = table[slot];
+            if (id < 0) break;
+            if (hashes[id] == hash && matches(keys[id], buf, start, end)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        byte[] key = new byte[end - start];
+        buf.get(start, key);
+        keys[size] = key;
+        hashes[size] = hash;
+        table[slot] = size;
+
+        int id = size++;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * Gets the number of distinct keys.
+     * 
+     * @return the number of ids handed out
+     */
+    int size() { return size; }
+
+    /**
+     * Decodes a key back into a string.
+     * 
+     * @param id the key's id
+     * @return the key as UTF-8 text
+     */
+    String keyOf(int id) {
+        return new String(keys[id], StandardCharsets.UTF_8);
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer buf, int start, int end) {
+        if (key.length != end - start) return false;
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != buf.get(start + i)) return false;
+        }
+        return true;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        Arrays.fill(table, -1);
+        int mask = table.length - 1;
+
+        for (int id = 0; id < size; id++) {
+            int slot = mix(hashes[id]) & mask;
+            while (table[slot] >= 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id;
+        }
+    }
+}
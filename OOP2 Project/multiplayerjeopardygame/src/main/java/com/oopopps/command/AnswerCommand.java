@@ -4,6 +4,7 @@ import com.oopopps.Player;
 import com.oopopps.Question;
 import com.oopopps.EventLogger;
 import com.oopopps.display.ScoreObserver;
+import com.oopopps.log.LogEvent;
 /**
  * Represents a command for answering a question in the Jeopardy game.
  * Implements the Command pattern to encapsulate all information needed
@@ -45,37 +46,61 @@ public class AnswerCommand implements Command {
     /**
      * Executes the answer command by evaluating the player's answer,
      * updating scores, notifying observers, and logging the result.
-     * Handles answer normalization for flexible input formats.
+     * Answers are checked against the question's pre-resolved {@link com.oopopps.AnswerKey}.
      */
 
     @Override
     public void execute() {
+        apply(null);
+    }
 
-        // Normalize: allow either "A" or "OptionA"
-        String normalizedCorrect = question.getCorrectAnswer().trim().toUpperCase();
-        String normalizedGiven = givenAnswer.trim().toUpperCase();
+    /**
+     * Executes the answer as part of a batch: the score is updated straight away,
+     * while the scoreboard notification and the log event are left to the batch.
+     * 
+     * @param batch the batch collecting notifications and log events
+     */
+    @Override
+    public void execute(CommandBatch batch) {
+        apply(batch);
+    }
+
+    /**
+     * Grades the answer and updates the score, delivering the side effects
+     * directly or through the given batch.
+     */
+    private void apply(CommandBatch batch) {
 
-        correct =
-            normalizedCorrect.equals(normalizedGiven) ||
-            normalizedCorrect.equals("OPTION" + normalizedGiven);
+        // The answer key accepts either "A" or "OptionA" without allocating
+        correct = question.getAnswerKey().matches(givenAnswer);
 
         delta = correct ? question.getValue() : -question.getValue();
 
-        player.updateScore(delta);
+        // Log the score this update produced, even if other answers land concurrently
+        int scoreAfter = player.updateScore(delta);
 
-        if (scoreboard != null)
-            scoreboard.update(player);
+        if (batch != null) {
+            batch.scored(scoreboard, player, question, delta);
+        } else if (scoreboard != null) {
+            scoreboard.scored(player, question, delta);
+        }
 
-        if (logger != null)
-            logger.log(
+        if (logger != null) {
+            LogEvent event = logger.event(
                 player.getId(),
                 "Answer Question",
                 question.getCategory(),
                 String.valueOf(question.getValue()),
                 givenAnswer,
                 correct ? "Correct" : "Incorrect",
-                player.getScore()
+                scoreAfter
             );
+            if (batch != null) {
+                batch.log(logger, event);
+            } else {
+                logger.log(event);
+            }
+        }
 
         executed = true;
     }
@@ -92,10 +117,24 @@ public class AnswerCommand implements Command {
         player.updateScore(-delta);
 
         if (scoreboard != null)
-            scoreboard.update(player);
+            scoreboard.scored(player, question, -delta);
 
         executed = false;
     }
+
+    /**
+     * Reverses the answer while its batch is rolled back. The batch's pending
+     * notifications are dropped with it, so observers are not notified.
+     * 
+     * @param batch the batch being rolled back
+     */
+    @Override
+    public void undo(CommandBatch batch) {
+        if (!executed) return;
+
+        player.updateScore(-delta);
+        executed = false;
+    }
     /**
      * Returns a human-readable description of this command.
      * 
@@ -130,4 +169,31 @@ public class AnswerCommand implements Command {
     public int getDelta() {
         return delta;
     }
+
+    /**
+     * Gets the player answering the question.
+     * 
+     * @return the answering player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the question being answered.
+     * 
+     * @return the question
+     */
+    public Question getQuestion() {
+        return question;
+    }
+
+    /**
+     * Gets the answer as the player gave it.
+     * 
+     * @return the given answer
+     */
+    public String getGivenAnswer() {
+        return givenAnswer;
+    }
 }
@@ -18,6 +18,27 @@ public interface Command {
      * Reverses the effects of the execute operation.
      */
     void undo();
+
+    /**
+     * Executes the command as part of a batch, handing notifications and log
+     * events to the batch instead of delivering them straight away.
+     * The default simply calls {@link #execute()}.
+     * 
+     * @param batch the batch collecting this command's side effects
+     */
+    default void execute(CommandBatch batch) {
+        execute();
+    }
+
+    /**
+     * Reverses the command while its batch is rolled back.
+     * The default simply calls {@link #undo()}.
+     * 
+     * @param batch the batch being rolled back
+     */
+    default void undo(CommandBatch batch) {
+        undo();
+    }
     
     /**
      * Returns a description of what this command does.
@@ -0,0 +1,99 @@
+package com.oopopps.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oopopps.EventLogger;
+import com.oopopps.Player;
+import com.oopopps.Question;
+import com.oopopps.display.ScoreObserver;
+import com.oopopps.log.LogEvent;
+
+/**
+ * Collects the side effects of the commands in one batch (see
+ * {@link RemoteControl#executeBatch(List)}) so they can be delivered together
+ * once every command has succeeded, or dropped if the batch is rolled back.
+ *
+ * Score notifications are coalesced into one
+ * {@link ScoreObserver#scoredAll(Player, List, int[])} call per observer and
+ * player, and log events are written with one
+ * {@link EventLogger#logBatch(List)} call per logger.
+ */
+public final class CommandBatch {
+    private final Map<ScoreObserver, Map<Player, Changes>> scores = new LinkedHashMap<>();
+    private final Map<EventLogger, List<LogEvent>> events = new LinkedHashMap<>();
+
+    CommandBatch() {}
+
+    /**
+     * Defers a score notification until the batch is committed.
+     *
+     * @param observer the observer to notify, or null for none
+     * @param p the player whose score has changed
+     * @param q the question that was answered
+     * @param delta the points gained or lost
+     */
+    void scored(ScoreObserver observer, Player p, Question q, int delta) {
+        if (observer == null) return;
+
+        scores.computeIfAbsent(observer, k -> new LinkedHashMap<>())
+                .computeIfAbsent(p, k -> new Changes())
+                .add(q, delta);
+    }
+
+    /**
+     * Defers a log event until the batch is committed.
+     *
+     * @param logger the logger to write to, or null for none
+     * @param event the event to write
+     */
+    void log(EventLogger logger, LogEvent event) {
+        if (logger == null) return;
+
+        events.computeIfAbsent(logger, k -> new ArrayList<>()).add(event);
+    }
+
+    /**
+     * Delivers the collected notifications and writes the collected log events.
+     */
+    void commit() {
+        for (Map.Entry<ScoreObserver, Map<Player, Changes>> observer : scores.entrySet()) {
+            for (Map.Entry<Player, Changes> player : observer.getValue().entrySet()) {
+                Changes changes = player.getValue();
+                observer.getKey().scoredAll(player.getKey(), changes.questions, Arrays.copyOf(changes.deltas, changes.size));
+            }
+        }
+        for (Map.Entry<EventLogger, List<LogEvent>> logger : events.entrySet()) {
+            logger.getKey().logBatch(logger.getValue());
+        }
+        discard();
+    }
+
+    /**
+     * Drops the collected notifications and log events.
+     */
+    void discard() {
+        scores.clear();
+        events.clear();
+    }
+
+    /**
+     * The score changes of one player, in the order they were made.
+     */
+    private static final class Changes {
+        private final List<Question> questions = new ArrayList<>();
+        private int[] deltas = new int[4];
+        private int size;
+
+        private void add(Question q, int delta) {
+            if (size == deltas.length) {
+                deltas = Arrays.copyOf(deltas, size * 2);
+            }
+            questions.add(q);
+            deltas[size++] = delta;
+        }
+    }
+}
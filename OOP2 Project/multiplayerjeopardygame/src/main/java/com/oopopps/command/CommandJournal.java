@@ -0,0 +1,871 @@
+package com.oopopps.command;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+
+import com.oopopps.Player;
+import com.oopopps.Question;
+import com.oopopps.display.ScoreObserver;
+import com.oopopps.util.VarInts;
+
+/**
+ * Durable, append-only journal of the players and answers of one game, from which
+ * the game can be recovered after the process dies.
+ *
+ * The journal starts with a header (magic "CJNL", a version byte, a random
+ * journal ID and the {@link QuestionSetStamp} of the question set) followed by records, each framed as its payload length, a CRC32C of
+ * the payload and the payload itself. A payload is a type byte followed by varint
+ * encoded fields: PLAYER (id, name), ANSWER (player id, index of the question in
+ * the game's question set, given answer), UNDO or EVICT. Because answers refer to
+ * questions by position, a journal written against another question set, for
+ * example before the question file was edited, is discarded when it is opened. A redone answer is
+ * journaled as another ANSWER. Answers are not stored with their outcome; recovery
+ * grades them again against the question set.
+ *
+ * The journal's undo history mirrors the remote control's: when the remote
+ * control evicts its oldest answer, an EVICT record drops it from the journal's
+ * history too, and its points are kept as part of the player's base score. The
+ * journal also keeps every answer that was not undone, in order, so a resumed
+ * game can report the turns played before it was cut short; as each question is
+ * played at most once, this is bounded by the size of the question set.
+ *
+ * An append returns once its record is on disk. Appends that arrive while another
+ * thread is forcing the file are written and forced together by the next leader,
+ * so concurrent appends share one fsync. Every few records the journal writes a
+ * snapshot of the replayed state (the players with their base scores, the turns
+ * played with the undo history at their end, and the questions played) with the journal offset it covers, so
+ * recovery only replays the records after that offset. A torn record at the end
+ * of the journal, left by a crash during a write, is discarded when the journal
+ * is opened.
+ */
+public final class CommandJournal implements Closeable {
+    private static final int MAGIC = 0x434A4E4C; // "CJNL"
+    private static final int SNAPSHOT_MAGIC = 0x434A534E; // "CJSN"
+    private static final int VERSION = 2;
+    private static final int SNAPSHOT_VERSION = 3;
+    private static final int HEADER_SIZE = 29;
+    private static final int FRAME_SIZE = 8;
+    private static final int DEFAULT_SNAPSHOT_INTERVAL = 1000;
+
+    private static final byte PLAYER = 1;
+    private static final byte ANSWER = 2;
+    private static final byte UNDO = 3;
+    private static final byte EVICT = 4;
+
+    private final Path file;
+    private final Path snapshotFile;
+    private final List<Question> questions;
+    private final Map<Question, Integer> questionIds = new IdentityHashMap<>();
+    private final FileChannel channel;
+    private final int snapshotInterval;
+    private final long journalId;
+    private final boolean discarded;
+
+    private final Object lock = new Object();
+    private final Object snapshotLock = new Object();
+    private final Map<String, String> players = new LinkedHashMap<>();
+    private final Map<String, Integer> baseScores = new HashMap<>();
+    private final ArrayDeque<Entry> history = new ArrayDeque<>();
+    private final List<Entry> turns = new ArrayList<>();
+    private final BitSet played = new BitSet();
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private long appendedOffset;
+    private long appendedSeq;
+    private long durableSeq;
+    private boolean flushing;
+    private IOException failure;
+    private int sinceSnapshot;
+    private boolean closed;
+
+    private CommandJournal(Path file, List<Question> questions, QuestionSetStamp stamp, int snapshotInterval)
+            throws IOException {
+        this.file = file;
+        this.snapshotFile = file.resolveSibling(file.getFileName() + ".snap");
+        this.questions = questions;
+        this.snapshotInterval = snapshotInterval;
+        for (int i = 0; i < questions.size(); i++) {
+            questionIds.putIfAbsent(questions.get(i), i);
+        }
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long existingId = readHeader(stamp);
+            long end;
+            if (existingId == 0) {
+                discarded = channel.size() > 0;
+                journalId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+                Files.deleteIfExists(snapshotFile);
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).put((byte) VERSION).putLong(journalId)
+                        .putInt(stamp.getSize()).putLong(stamp.getModified()).putInt(stamp.getChecksum()).flip();
+                channel.truncate(0);
+                writeFully(header, 0);
+                channel.force(true);
+                end = HEADER_SIZE;
+            } else {
+                discarded = false;
+                journalId = existingId;
+
+                end = replay(loadSnapshot());
+                if (end < channel.size()) {
+                    channel.truncate(end);
+                }
+            }
+            appendedOffset = end;
+            channel.position(end);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a journal, creating it if it does not exist and replaying it if it does.
+     * The question set's stamp is computed from the questions alone.
+     *
+     * @param file the journal file; the snapshot is kept next to it with a ".snap" suffix
+     * @param questions the game's question set, which answers refer to by position
+     * @return the open journal
+     * @throws IOException if the journal cannot be opened or is not a command journal
+     */
+    public static CommandJournal open(Path file, List<Question> questions) throws IOException {
+        return open(file, questions, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens a journal, creating it if it does not exist and replaying it if it does.
+     * An existing journal written against a question set with another stamp is
+     * discarded and the journal starts over (see {@link #isDiscarded()}).
+     *
+     * @param file the journal file; the snapshot is kept next to it with a ".snap" suffix
+     * @param questions the game's question set, which answers refer to by position
+     * @param stamp the stamp of the question set
+     * @return the open journal
+     * @throws IOException if the journal cannot be opened or is not a command journal
+     */
+    public static CommandJournal open(Path file, List<Question> questions, QuestionSetStamp stamp) throws IOException {
+        return new CommandJournal(file, questions, stamp, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens a journal that writes a snapshot after the given number of records.
+     *
+     * @param file the journal file; the snapshot is kept next to it with a ".snap" suffix
+     * @param questions the game's question set, which answers refer to by position
+     * @param snapshotInterval the number of records between snapshots
+     * @return the open journal
+     * @throws IOException if the journal cannot be opened or is not a command journal
+     */
+    public static CommandJournal open(Path file, List<Question> questions, int snapshotInterval) throws IOException {
+        return new CommandJournal(file, questions,
+                QuestionSetStamp.of(questions, QuestionSetStamp.UNKNOWN_MODIFIED), snapshotInterval);
+    }
+
+    /**
+     * Tells whether the file held a journal of another question set, or of an older
+     * journal format, that was discarded when this journal was opened.
+     *
+     * @return true if an unfinished game could not be kept
+     */
+    public boolean isDiscarded() { return discarded; }
+
+    /**
+     * Rebuilds the game recorded in the journal with a remote control of the
+     * default capacity (see {@link #recover(ScoreObserver, int)}).
+     *
+     * @param observer the observer the recovered answers notify, typically the game's scoreboard
+     * @return the recovered game state
+     */
+    public Recovery recover(ScoreObserver observer) {
+        return recover(observer, RemoteControl.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Rebuilds the game recorded in the journal: its players, and a remote control
+     * whose undo history holds the answers that were not undone or evicted. Each
+     * player starts from the points of their evicted answers, and the answers on
+     * the history are executed again, which restores the players' scores. The
+     * remote control keeps appending to this journal.
+     *
+     * @param observer the observer the recovered answers notify, typically the game's scoreboard
+     * @param capacity the history capacity of the recovered remote control
+     * @return the recovered game state, including every turn played so far
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public Recovery recover(ScoreObserver observer, int capacity) {
+        synchronized (lock) {
+            Map<String, Player> byId = new LinkedHashMap<>();
+            for (Map.Entry<String, String> player : players.entrySet()) {
+                Player p = new Player(player.getKey(), player.getValue());
+                p.updateScore(baseScores.getOrDefault(player.getKey(), 0));
+                byId.put(player.getKey(), p);
+            }
+
+            // Restoring more answers than the capacity evicts, and journals, the oldest ones
+            RemoteControl control = new RemoteControl(capacity, this, null);
+            for (Entry entry : new ArrayList<>(history)) {
+                control.restore(new AnswerCommand(byId.get(entry.playerId), questions.get(entry.question),
+                        entry.answer, null, observer));
+            }
+
+            List<Question> answered = new ArrayList<>();
+            for (int i = played.nextSetBit(0); i >= 0; i = played.nextSetBit(i + 1)) {
+                answered.add(questions.get(i));
+            }
+
+            Map<String, Integer> scores = new HashMap<>();
+            List<Turn> recovered = new ArrayList<>(turns.size());
+            for (Entry entry : turns) {
+                Question q = questions.get(entry.question);
+                boolean correct = q.getAnswerKey().matches(entry.answer);
+                int score = scores.merge(entry.playerId, correct ? q.getValue() : -q.getValue(), Integer::sum);
+                recovered.add(new Turn(byId.get(entry.playerId), q, entry.answer, correct, score));
+            }
+            return new Recovery(List.copyOf(byId.values()), control, List.copyOf(answered), List.copyOf(recovered));
+        }
+    }
+
+    /**
+     * Records that a player joined the game.
+     *
+     * @param p the player
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    public void playerJoined(Player p) {
+        await(enqueuePlayer(p));
+    }
+
+    /**
+     * Checks that answers can be journaled, so they can be rejected before they are executed.
+     *
+     * @param commands the commands to check
+     * @throws IllegalArgumentException if a question is not in the journal's question set
+     */
+    void check(List<AnswerCommand> commands) {
+        for (AnswerCommand c : commands) {
+            questionId(c);
+        }
+    }
+
+    /**
+     * Records several executed answers, waiting for the disk only once. The players
+     * are recorded first if they were not yet. Nothing is recorded if any of the
+     * questions is not in the question set.
+     *
+     * @param commands the executed commands, in order
+     * @throws IllegalArgumentException if a question is not in the journal's question set
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    void answeredAll(List<AnswerCommand> commands) {
+        check(commands);
+
+        long seq = 0;
+        for (AnswerCommand c : commands) {
+            int question = questionId(c);
+            String playerId = c.getPlayer().getId();
+            boolean known;
+            synchronized (lock) {
+                known = players.containsKey(playerId);
+            }
+            if (!known) {
+                enqueuePlayer(c.getPlayer());
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            try {
+                out.writeByte(ANSWER);
+                writeString(out, playerId);
+                VarInts.writeUnsigned(out, question);
+                writeString(out, c.getGivenAnswer());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Entry entry = new Entry(playerId, question, c.getGivenAnswer());
+            seq = enqueue(bytes.toByteArray(), () -> {
+                history.add(entry);
+                turns.add(entry);
+                played.set(entry.question);
+            });
+        }
+        await(seq);
+    }
+
+    /**
+     * Records that the most recent answer was undone.
+     *
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    void undone() {
+        await(enqueue(new byte[] { UNDO }, this::popHistory));
+    }
+
+    /**
+     * Records that the oldest answer was evicted from the remote control's history.
+     * The record reaches the disk with the next one that is waited for; if it is
+     * lost, recovery evicts the answer again.
+     *
+     * @throws UncheckedIOException if the journal has failed
+     */
+    void evicted() {
+        enqueue(new byte[] { EVICT }, this::evictOldest);
+    }
+
+    /**
+     * Writes a snapshot of the current state, so recovery can skip the records before it.
+     * Snapshots are also written automatically every few records.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void snapshot() throws IOException {
+        synchronized (snapshotLock) {
+            long offset;
+            long seq;
+            byte[] state;
+            synchronized (lock) {
+                offset = appendedOffset;
+                seq = appendedSeq;
+                state = encodeState();
+                sinceSnapshot = 0;
+            }
+            // The snapshot must never cover records that are not yet on disk
+            sync(seq);
+
+            Path temp = Files.createTempFile(snapshotFile.toAbsolutePath().getParent(),
+                    snapshotFile.getFileName().toString(), ".tmp");
+            try {
+                ByteBuffer snapshot = ByteBuffer.allocate(29 + state.length);
+                snapshot.putInt(SNAPSHOT_MAGIC).put((byte) SNAPSHOT_VERSION).putLong(journalId).putLong(offset)
+                        .putInt(state.length).putInt(crc(state, 0, state.length)).put(state);
+                Files.write(temp, snapshot.array());
+                Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * Waits for all appended records to reach the disk and closes the journal.
+     *
+     * @throws IOException if the last records cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        long seq;
+        synchronized (lock) {
+            if (closed) return;
+            closed = true;
+            seq = appendedSeq;
+        }
+        try {
+            sync(seq);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Closes the journal and deletes it along with its snapshot, once the game it
+     * records is over and no longer needs to be recovered.
+     *
+     * @throws IOException if the last records cannot be written or the files cannot be deleted
+     */
+    public void delete() throws IOException {
+        try {
+            close();
+        } finally {
+            Files.deleteIfExists(snapshotFile);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private int questionId(AnswerCommand c) {
+        Integer question = questionIds.get(c.getQuestion());
+        if (question == null) {
+            throw new IllegalArgumentException("Question is not part of the journaled question set");
+        }
+        return question;
+    }
+
+    private long enqueuePlayer(Player p) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(PLAYER);
+            writeString(out, p.getId());
+            writeString(out, p.getName());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return enqueue(bytes.toByteArray(), () -> players.put(p.getId(), p.getName()));
+    }
+
+    /**
+     * Frames a record for the next write and applies it to the in-memory state.
+     *
+     * @return the record's sequence number
+     */
+    private long enqueue(byte[] payload, Runnable apply) {
+        synchronized (lock) {
+            if (closed) throw new IllegalStateException("Journal is closed");
+            if (failure != null) throw new UncheckedIOException(failure);
+
+            ByteBuffer frame = ByteBuffer.allocate(FRAME_SIZE);
+            frame.putInt(payload.length).putInt(crc(payload, 0, payload.length));
+            pending.write(frame.array(), 0, FRAME_SIZE);
+            pending.write(payload, 0, payload.length);
+            appendedOffset += FRAME_SIZE + payload.length;
+            sinceSnapshot++;
+
+            apply.run();
+            return ++appendedSeq;
+        }
+    }
+
+    /**
+     * Waits until the given record is durable, then writes a snapshot if one is due.
+     */
+    private void await(long seq) {
+        sync(seq);
+
+        boolean snapshotDue;
+        synchronized (lock) {
+            snapshotDue = sinceSnapshot >= snapshotInterval;
+        }
+        if (snapshotDue) {
+            try {
+                snapshot();
+            } catch (IOException | UncheckedIOException e) {
+                // The record is durable either way; recovery just replays more of the journal
+            }
+        }
+    }
+
+    /**
+     * Returns once the record with the given sequence number is on disk. The first
+     * waiting thread writes and forces everything appended so far; the others wait
+     * for it and return together.
+     */
+    private void sync(long seq) {
+        while (true) {
+            byte[] batch;
+            long batchSeq;
+            synchronized (lock) {
+                while (flushing && durableSeq < seq && failure == null) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new UncheckedIOException(new IOException("Interrupted while waiting for the journal", e));
+                    }
+                }
+                if (failure != null) throw new UncheckedIOException(failure);
+                if (durableSeq >= seq) return;
+
+                flushing = true;
+                batch = pending.toByteArray();
+                batchSeq = appendedSeq;
+                pending.reset();
+            }
+
+            IOException error = null;
+            try {
+                ByteBuffer buf = ByteBuffer.wrap(batch);
+                while (buf.hasRemaining()) {
+                    channel.write(buf);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+
+            synchronized (lock) {
+                flushing = false;
+                if (error == null) {
+                    durableSeq = batchSeq;
+                } else {
+                    failure = error;
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Reads the header of an existing journal.
+     *
+     * @return the journal ID, or 0 if the file is empty or holds a journal of
+     *         another question set or format version, which is to be replaced
+     */
+    private long readHeader(QuestionSetStamp stamp) throws IOException {
+        if (channel.size() < 5) return 0;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.limit(5);
+        readFully(header, 0);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a command journal: " + file);
+        }
+        if (header.get() != VERSION || channel.size() < HEADER_SIZE) return 0;
+
+        header.clear();
+        readFully(header, 0);
+        header.position(5);
+        long id = header.getLong();
+        QuestionSetStamp written = new QuestionSetStamp(header.getInt(), header.getLong(), header.getInt());
+        return written.equals(stamp) ? id : 0;
+    }
+
+    /**
+     * Restores the state saved by the last snapshot of this journal.
+     *
+     * @return the journal offset replay continues from
+     */
+    private long loadSnapshot() throws IOException {
+        if (!Files.exists(snapshotFile)) return HEADER_SIZE;
+
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+            if (buf.getInt() != SNAPSHOT_MAGIC || buf.get() != SNAPSHOT_VERSION || buf.getLong() != journalId) {
+                return HEADER_SIZE;
+            }
+            long offset = buf.getLong();
+            int length = buf.getInt();
+            int crc = buf.getInt();
+            if (offset < HEADER_SIZE || offset > channel.size() || length != buf.remaining()
+                    || crc(buf.array(), buf.position(), length) != crc) {
+                return HEADER_SIZE;
+            }
+
+            for (long i = VarInts.readUnsigned(buf); i > 0; i--) {
+                String playerId = readString(buf);
+                players.put(playerId, readString(buf));
+                int baseScore = (int) VarInts.readSigned(buf);
+                if (baseScore != 0) {
+                    baseScores.put(playerId, baseScore);
+                }
+            }
+            for (long i = VarInts.readUnsigned(buf); i > 0; i--) {
+                Entry entry = new Entry(readString(buf), (int) VarInts.readUnsigned(buf), readString(buf));
+                checkQuestion(entry.question);
+                turns.add(entry);
+            }
+            // The undo history is always the latest turns
+            int historySize = (int) VarInts.readUnsigned(buf);
+            if (historySize > turns.size()) {
+                throw new IOException("Snapshot history is longer than its turns");
+            }
+            history.addAll(turns.subList(turns.size() - historySize, turns.size()));
+            long[] words = new long[(int) VarInts.readUnsigned(buf)];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = buf.getLong();
+            }
+            played.or(BitSet.valueOf(words));
+            return offset;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalStateException | IOException e) {
+            players.clear();
+            baseScores.clear();
+            history.clear();
+            turns.clear();
+            played.clear();
+            return HEADER_SIZE;
+        }
+    }
+
+    /**
+     * Replays the records from the given offset to the first incomplete or corrupt record.
+     *
+     * @return the offset just past the last intact record
+     */
+    private long replay(long offset) throws IOException {
+        long size = channel.size();
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_SIZE);
+
+        while (offset + FRAME_SIZE <= size) {
+            frame.clear();
+            readFully(frame, offset);
+            int length = frame.getInt();
+            int crc = frame.getInt();
+            if (length < 1 || offset + FRAME_SIZE + length > size) break;
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, offset + FRAME_SIZE);
+            if (crc(payload.array(), 0, length) != crc) break;
+
+            apply(payload);
+            offset += FRAME_SIZE + length;
+        }
+        return offset;
+    }
+
+    /**
+     * Applies one intact record to the in-memory state.
+     */
+    private void apply(ByteBuffer payload) throws IOException {
+        try {
+            byte type = payload.get();
+            if (type == PLAYER) {
+                players.put(readString(payload), readString(payload));
+            } else if (type == ANSWER) {
+                Entry entry = new Entry(readString(payload), (int) VarInts.readUnsigned(payload), readString(payload));
+                checkQuestion(entry.question);
+                if (!players.containsKey(entry.playerId)) {
+                    throw new IOException("Journal answer by unknown player " + entry.playerId);
+                }
+                history.add(entry);
+                turns.add(entry);
+                played.set(entry.question);
+            } else if (type == UNDO) {
+                popHistory();
+            } else if (type == EVICT) {
+                evictOldest();
+            } else {
+                throw new IOException("Unknown journal record type " + type);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalStateException e) {
+            throw new IOException("Malformed journal record", e);
+        }
+    }
+
+    /**
+     * Drops the latest answer from the history and from the turns played.
+     */
+    private void popHistory() {
+        if (history.pollLast() != null) {
+            turns.remove(turns.size() - 1);
+        }
+    }
+
+    /**
+     * Drops the oldest answer from the history, adding its points to the player's base score.
+     */
+    private void evictOldest() {
+        Entry entry = history.pollFirst();
+        if (entry == null) return;
+
+        Question q = questions.get(entry.question);
+        int delta = q.getAnswerKey().matches(entry.answer) ? q.getValue() : -q.getValue();
+        baseScores.merge(entry.playerId, delta, Integer::sum);
+    }
+
+    private void checkQuestion(int question) throws IOException {
+        if (question < 0 || question >= questions.size()) {
+            throw new IOException("Journal refers to question " + question + " outside the question set");
+        }
+    }
+
+    /**
+     * Encodes the players with their base scores, the turns with the length of the
+     * undo history at their end, and the played questions for a snapshot.
+     */
+    private byte[] encodeState() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            VarInts.writeUnsigned(out, players.size());
+            for (Map.Entry<String, String> player : players.entrySet()) {
+                writeString(out, player.getKey());
+                writeString(out, player.getValue());
+                VarInts.writeSigned(out, baseScores.getOrDefault(player.getKey(), 0));
+            }
+            VarInts.writeUnsigned(out, turns.size());
+            for (Entry entry : turns) {
+                writeString(out, entry.playerId);
+                VarInts.writeUnsigned(out, entry.question);
+                writeString(out, entry.answer);
+            }
+            VarInts.writeUnsigned(out, history.size());
+            long[] words = played.toLongArray();
+            VarInts.writeUnsigned(out, words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void readFully(ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, position + buf.position()) < 0) {
+                throw new IOException("Unexpected end of journal");
+            }
+        }
+        buf.flip();
+    }
+
+    private void writeFully(ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            channel.write(buf, position + buf.position());
+        }
+    }
+
+    /**
+     * Writes a string as its varint UTF-8 length plus one (0 for null) and its bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            VarInts.writeUnsigned(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        VarInts.writeUnsigned(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buf) {
+        int length = (int) VarInts.readUnsigned(buf);
+        if (length == 0) return null;
+
+        String value = new String(buf.array(), buf.arrayOffset() + buf.position(), length - 1, StandardCharsets.UTF_8);
+        buf.position(buf.position() + length - 1);
+        return value;
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A game rebuilt from its journal.
+     */
+    public static final class Recovery {
+        private final List<Player> players;
+        private final RemoteControl remoteControl;
+        private final List<Question> answeredQuestions;
+        private final List<Turn> turns;
+
+        private Recovery(List<Player> players, RemoteControl remoteControl, List<Question> answeredQuestions,
+                List<Turn> turns) {
+            this.players = players;
+            this.remoteControl = remoteControl;
+            this.answeredQuestions = answeredQuestions;
+            this.turns = turns;
+        }
+
+        /**
+         * Gets the players in the order they joined, with their recovered scores.
+         *
+         * @return the players
+         */
+        public List<Player> getPlayers() { return players; }
+
+        /**
+         * Gets a remote control holding the recovered undo history and appending to the journal.
+         *
+         * @return the remote control
+         */
+        public RemoteControl getRemoteControl() { return remoteControl; }
+
+        /**
+         * Gets the questions that were played, including answers that were later undone.
+         *
+         * @return the played questions in question set order
+         */
+        public List<Question> getAnsweredQuestions() { return answeredQuestions; }
+
+        /**
+         * Gets the turns played so far, without answers that were undone.
+         *
+         * @return the turns in the order they were played
+         */
+        public List<Turn> getTurns() { return turns; }
+    }
+
+    /**
+     * One turn of a recovered game: an answer with its outcome and the score it left its player with.
+     */
+    public static final class Turn {
+        private final Player player;
+        private final Question question;
+        private final String answer;
+        private final boolean correct;
+        private final int scoreAfter;
+
+        private Turn(Player player, Question question, String answer, boolean correct, int scoreAfter) {
+            this.player = player;
+            this.question = question;
+            this.answer = answer;
+            this.correct = correct;
+            this.scoreAfter = scoreAfter;
+        }
+
+        /**
+         * Gets the player who answered, as returned by {@link Recovery#getPlayers()}.
+         *
+         * @return the player
+         */
+        public Player getPlayer() { return player; }
+
+        /**
+         * Gets the question answered.
+         *
+         * @return the question
+         */
+        public Question getQuestion() { return question; }
+
+        /**
+         * Gets the answer as given.
+         *
+         * @return the answer
+         */
+        public String getAnswer() { return answer; }
+
+        /**
+         * Tells whether the answer was correct.
+         *
+         * @return true if the answer was correct
+         */
+        public boolean isCorrect() { return correct; }
+
+        /**
+         * Gets the player's score after this turn.
+         *
+         * @return the score
+         */
+        public int getScoreAfter() { return scoreAfter; }
+    }
+
+    /**
+     * An answer on the undo history.
+     */
+    private static final class Entry {
+        private final String playerId;
+        private final int question;
+        private final String answer;
+
+        private Entry(String playerId, int question, String answer) {
+            this.playerId = playerId;
+            this.question = question;
+            this.answer = answer;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.oopopps.command;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import com.oopopps.Question;
+
+/**
+ * Identifies the question set a {@link CommandJournal} was written against: the
+ * number of questions, the modification time of the question file and a CRC32C of
+ * the questions' content. Journals refer to questions by position, so a journal is
+ * only replayed onto a question set with the same stamp.
+ *
+ * Computing a stamp reads every question once; callers that open many journals
+ * over one question set, such as a game server, compute it once and reuse it.
+ */
+public final class QuestionSetStamp {
+    /** The modification time of a question set that does not come from a file on disk. */
+    public static final long UNKNOWN_MODIFIED = -1;
+
+    private final int size;
+    private final long modified;
+    private final int checksum;
+
+    QuestionSetStamp(int size, long modified, int checksum) {
+        this.size = size;
+        this.modified = modified;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Computes the stamp of a question set.
+     *
+     * @param questions the questions, in the order journals refer to them
+     * @param modified the modification time of the question file in milliseconds,
+     *        or {@link #UNKNOWN_MODIFIED} if the questions do not come from a file on disk
+     * @return the stamp
+     */
+    public static QuestionSetStamp of(List<Question> questions, long modified) {
+        CRC32C crc = new CRC32C();
+        ByteBuffer value = ByteBuffer.allocate(Integer.BYTES);
+        for (Question q : questions) {
+            update(crc, q.getCategory());
+            crc.update(value.clear().putInt(q.getValue()).flip());
+            update(crc, q.getQuestionText());
+            update(crc, q.getCorrectAnswer());
+            for (Map.Entry<String, String> option : q.getOptions().entrySet()) {
+                update(crc, option.getKey());
+                update(crc, option.getValue());
+            }
+            crc.update(0xFF); // ends the question, so options cannot run into the next one
+        }
+        return new QuestionSetStamp(questions.size(), modified, (int) crc.getValue());
+    }
+
+    /**
+     * Gets the number of questions in the set.
+     *
+     * @return the question count
+     */
+    public int getSize() { return size; }
+
+    /**
+     * Gets the modification time of the question file.
+     *
+     * @return the time in milliseconds, or {@link #UNKNOWN_MODIFIED}
+     */
+    public long getModified() { return modified; }
+
+    /**
+     * Gets the CRC32C of the questions' content.
+     *
+     * @return the checksum
+     */
+    public int getChecksum() { return checksum; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof QuestionSetStamp)) return false;
+        QuestionSetStamp other = (QuestionSetStamp) o;
+        return size == other.size && modified == other.modified && checksum == other.checksum;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * size + Long.hashCode(modified)) + checksum;
+    }
+
+    @Override
+    public String toString() {
+        return size + " questions, modified " + modified + ", CRC32C " + Integer.toHexString(checksum);
+    }
+
+    /**
+     * Adds a string as its UTF-8 bytes followed by a terminator, or just the terminator for null.
+     */
+    private static void update(CRC32C crc, String s) {
+        if (s != null) {
+            crc.update(s.getBytes(StandardCharsets.UTF_8));
+        }
+        crc.update(0);
+    }
+}
@@ -1,36 +1,309 @@
 package com.oopopps.command;
 
-import java.util.Stack;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Manages command execution and undo functionality using a stack-based history.
  * Implements the Command pattern to provide undo capabilities for game actions.
- * 
+ *
  * This class maintains a history of executed commands and allows
- * reversing them in LIFO (last-in-first-out) order.
+ * reversing them in LIFO (last-in-first-out) order, and re-executing
+ * undone commands until a new command is executed.
+ *
+ * The history is a fixed-size ring buffer, so a long-running session keeps
+ * constant memory: once it is full, the oldest command is evicted to make room
+ * and can no longer be undone. Evicted commands are passed to an optional
+ * listener and otherwise discarded. A remote control is used by one game
+ * thread and is not synchronized.
+ *
+ * When constructed with a {@link CommandJournal}, every executed, undone or
+ * redone {@link AnswerCommand} is also appended to the journal, so the game can
+ * be recovered after a crash, and so is the eviction of an answer from the
+ * history, which keeps the journal's own history as short as this one. An answer's
+ * notifications and log event are delivered only once it is on disk; if it
+ * cannot be journaled, it is rolled back and the failure is rethrown. Likewise
+ * an answer is only undone once its undo is on disk.
+ *
+ * Many commands can be applied at once with {@link #executeBatch(List)}, which
+ * either applies all of them or none, and delivers their notifications and log
+ * events together.
  */
 public class RemoteControl {
-    private final Stack<Command> history = new Stack<>();
+    /** The number of commands kept for undo unless configured otherwise */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Command[] ring;
+    private final CommandJournal journal;
+    private final Consumer<Command> onEvict;
+    private int start;
+    private int undoCount;
+    private int redoCount;
+
+    /**
+     * Constructs a remote control that keeps its history in memory only.
+     */
+    public RemoteControl() {
+        this(DEFAULT_CAPACITY, null, null);
+    }
+
+    /**
+     * Constructs a remote control that records answers in the given journal.
+     *
+     * @param journal the journal to append to, or null for none
+     */
+    public RemoteControl(CommandJournal journal) {
+        this(DEFAULT_CAPACITY, journal, null);
+    }
+
+    /**
+     * Constructs a remote control keeping at most the given number of commands.
+     *
+     * @param capacity the number of commands that can be undone or redone
+     */
+    public RemoteControl(int capacity) {
+        this(capacity, null, null);
+    }
+
+    /**
+     * Constructs a remote control with the given retention, journal and eviction listener.
+     *
+     * @param capacity the number of commands that can be undone or redone
+     * @param journal the journal to append to, or null for none
+     * @param onEvict called with each command evicted from the history, or null to discard them
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public RemoteControl(int capacity, CommandJournal journal, Consumer<Command> onEvict) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("History capacity must be positive: " + capacity);
+        }
+        this.ring = new Command[capacity];
+        this.journal = journal;
+        this.onEvict = onEvict;
+    }
 
     /**
      * Executes a command and adds it to the history for potential undo.
-     * 
+     * Commands that were undone can no longer be redone afterwards.
+     *
      * @param c the command to execute
      */
     public void executeCommand(Command c) {
+        if (journal != null && c instanceof AnswerCommand) {
+            executeBatch(List.of(c));
+            return;
+        }
+
         c.execute();
-        history.push(c);
+        push(c);
+    }
+
+    /**
+     * Executes a list of commands as one unit. If any command fails, the commands
+     * already executed are undone in reverse order and the failure is rethrown, so
+     * either all commands take effect or none do. Scoreboard notifications are
+     * coalesced into one per observer and player, and log events are written in
+     * one batch per logger, after all commands have succeeded and the answers
+     * among them have been journaled. Each command is added to the history
+     * separately and can be undone on its own.
+     *
+     * @param commands the commands to execute, in order
+     * @throws IllegalArgumentException if an answer's question is not in the journal's
+     *         question set; no command is executed then
+     * @throws RuntimeException the failure of the first command that failed, or the
+     *         failure to journal the answers
+     */
+    public void executeBatch(List<? extends Command> commands) {
+        List<AnswerCommand> answers = new ArrayList<>();
+        if (journal != null) {
+            for (Command c : commands) {
+                if (c instanceof AnswerCommand) {
+                    answers.add((AnswerCommand) c);
+                }
+            }
+            journal.check(answers);
+        }
+
+        execute(commands, answers);
+        for (Command c : commands) {
+            push(c);
+        }
     }
 
     /**
      * Undoes the most recently executed command by popping it from
      * the history and calling its undo method.
      * Has no effect if no commands have been executed.
+     *
+     * @throws RuntimeException if the command cannot be undone or its undo cannot be
+     *         journaled; the command then stays on the history, and in the journal
      */
     public void undoLast() {
-        if (!history.isEmpty()) {
-            Command c = history.pop();
+        if (undoCount == 0) return;
+
+        Command c = ring[index(undoCount - 1)];
+        boolean journaled = journal != null && c instanceof AnswerCommand;
+        if (journaled) {
+            journal.undone();
+        }
+        try {
             c.undo();
+        } catch (RuntimeException e) {
+            if (journaled) {
+                // The answer stands after all, so the journal records it again
+                try {
+                    journal.answeredAll(List.of((AnswerCommand) c));
+                } catch (RuntimeException journalFailure) {
+                    e.addSuppressed(journalFailure);
+                }
+            }
+            throw e;
         }
+        undoCount--;
+        redoCount++;
+    }
+
+    /**
+     * Executes the most recently undone command again.
+     * Has no effect if nothing has been undone since the last executed command.
+     */
+    public void redoLast() {
+        if (redoCount == 0) return;
+
+        Command c = ring[index(undoCount)];
+        if (journal != null && c instanceof AnswerCommand) {
+            execute(List.of(c), List.of((AnswerCommand) c));
+        } else {
+            c.execute();
+        }
+        undoCount++;
+        redoCount--;
+    }
+
+    /**
+     * Undoes up to the given number of commands, most recent first.
+     *
+     * @param steps the number of commands to undo
+     * @return the number of commands actually undone
+     */
+    public int undo(int steps) {
+        int done = 0;
+        for (; done < steps && undoCount > 0; done++) {
+            undoLast();
+        }
+        return done;
+    }
+
+    /**
+     * Redoes up to the given number of undone commands, most recently undone first.
+     *
+     * @param steps the number of commands to redo
+     * @return the number of commands actually redone
+     */
+    public int redo(int steps) {
+        int done = 0;
+        for (; done < steps && redoCount > 0; done++) {
+            redoLast();
+        }
+        return done;
+    }
+
+    /**
+     * Gets the number of commands that can currently be undone.
+     *
+     * @return the undo depth
+     */
+    public int getUndoDepth() { return undoCount; }
+
+    /**
+     * Gets the number of commands that can currently be redone.
+     *
+     * @return the redo depth
+     */
+    public int getRedoDepth() { return redoCount; }
+
+    /**
+     * Gets the maximum number of commands the history keeps.
+     *
+     * @return the history capacity
+     */
+    public int getCapacity() { return ring.length; }
+
+    /**
+     * Re-executes a recovered command without journaling it again.
+     *
+     * @param c the command to restore
+     */
+    void restore(Command c) {
+        c.execute();
+        push(c);
+    }
+
+    /**
+     * Executes commands in one batch and journals the given answers among them
+     * before delivering the batch. If a command or the journal fails, the commands
+     * already executed are undone in reverse order, the batch is dropped and the
+     * failure is rethrown.
+     */
+    private void execute(List<? extends Command> commands, List<AnswerCommand> answers) {
+        CommandBatch batch = new CommandBatch();
+        int executed = 0;
+        try {
+            for (Command c : commands) {
+                c.execute(batch);
+                executed++;
+            }
+            if (!answers.isEmpty()) {
+                journal.answeredAll(answers);
+            }
+        } catch (RuntimeException e) {
+            for (int i = executed - 1; i >= 0; i--) {
+                try {
+                    commands.get(i).undo(batch);
+                } catch (RuntimeException undoFailure) {
+                    e.addSuppressed(undoFailure);
+                }
+            }
+            batch.discard();
+            throw e;
+        }
+
+        batch.commit();
+    }
+
+    /**
+     * Adds an executed command to the history, dropping any redoable commands
+     * and evicting the oldest command if the history is full.
+     */
+    private void push(Command c) {
+        for (int i = 0; i < redoCount; i++) {
+            ring[index(undoCount + i)] = null;
+        }
+        redoCount = 0;
+
+        if (undoCount == ring.length) {
+            Command evicted = ring[start];
+            ring[start] = null;
+            start = index(1);
+            undoCount--;
+            if (onEvict != null) {
+                onEvict.accept(evicted);
+            }
+            if (journal != null && evicted instanceof AnswerCommand) {
+                journal.evicted();
+            }
+        }
+
+        ring[index(undoCount)] = c;
+        undoCount++;
+    }
+
+    /**
+     * Maps a position in the history, counted from the oldest command, to a ring slot.
+     */
+    private int index(int position) {
+        int i = start + position;
+        return i < ring.length ? i : i - ring.length;
     }
 }
@@ -1,6 +1,10 @@
 package com.oopopps.display;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.oopopps.Player;
@@ -8,49 +12,252 @@ import com.oopopps.Player;
 /**
  * Displays and maintains current scores for all players in the game.
  * Implements the Observer pattern to receive score updates from players.
- * 
+ *
  * This class provides a real-time view of player scores and can
  * render them in a formatted string representation.
+ *
+ * Players are kept ranked by score, highest first, with ties in the order the
+ * players joined. The ranking is maintained incrementally in an order-statistic
+ * tree, so an update costs O(log n) however many players are on the board, and
+ * each player's line is formatted only when their score changes. The rendered
+ * board is cached and rebuilt only after a change.
+ *
+ * Updates are serialized on the board, while render() and getScores() read the
+ * last published view without locking unless the board has changed since.
  */
 public class ScoreBoard implements ScoreObserver {
-    private final Map<String, Integer> scores = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private Entry root;
+    private long joined;
+    private volatile View view = new View("ScoreBoard\n", Map.of());
 
     /**
      * Updates the score for a specific player.
      * Called automatically when observed players change their scores.
-     * 
+     * If the player's score changes again while the board is being updated,
+     * the update is repeated so the board never keeps an outdated score.
+     *
      * @param p the player whose score has changed
      */
     public void update(Player p) {
-        scores.put(p.getName(), p.getScore());
+        int score;
+        do {
+            score = p.getScore();
+            put(p.getName(), score);
+        } while (p.getScore() != score);
     }
 
     /**
      * Initializes the scoreboard with all players at the start of the game.
-     * 
+     *
      * @param players the list of players participating in the game
      */
-    public void initPlayers(java.util.List<Player> players) {
-        scores.clear();
+    public synchronized void initPlayers(List<Player> players) {
+        entries.clear();
+        root = null;
+        joined = 0;
 
         for (Player player : players) {
-            scores.put(player.getName(), player.getScore());
+            put(player.getName(), player.getScore());
         }
+        view = null;
     }
 
     /**
-     * Renders the current scores in a human-readable format.
-     * 
+     * Gets a consistent snapshot of all scores, in ranked order.
+     *
+     * @return an unmodifiable map from player name to score, highest score first
+     */
+    public Map<String, Integer> getScores() {
+        return view().scores;
+    }
+
+    /**
+     * Gets the current rank of a player, where the highest score is rank 1.
+     * Players with equal scores are ranked in the order they joined.
+     *
+     * @param name the player's name
+     * @return the player's rank, or 0 if the player is not on the board
+     */
+    public synchronized int getRank(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) return 0;
+
+        int rank = size(entry.left) + 1;
+        for (Entry t = root; t != entry;) {
+            if (before(entry, t)) {
+                t = t.left;
+            } else {
+                rank += size(t.left) + 1;
+                t = t.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Renders the current scores in a human-readable format, highest score first.
+     * The same string is returned until a score changes.
+     *
      * @return a formatted string showing all players and their current scores
      */
     public String render() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("ScoreBoard\n");
+        return view().rendered;
+    }
+
+    /**
+     * Gets the published view, rebuilding it first if the board has changed.
+     */
+    private View view() {
+        View current = view;
+        if (current != null) return current;
 
-        for (Map.Entry<String, Integer> playerEntry : scores.entrySet()) {
-            sb.append(playerEntry.getKey() + ": " + playerEntry.getValue() + "\n");
+        synchronized (this) {
+            if (view == null) {
+                StringBuilder sb = new StringBuilder();
+                sb.append("ScoreBoard\n");
+                Map<String, Integer> scores = new LinkedHashMap<>();
+
+                ArrayDeque<Entry> stack = new ArrayDeque<>();
+                for (Entry t = root; t != null || !stack.isEmpty(); t = t.right) {
+                    for (; t != null; t = t.left) {
+                        stack.push(t);
+                    }
+                    t = stack.pop();
+                    if (t.line == null) {
+                        t.line = t.name + ": " + t.score + "\n";
+                    }
+                    sb.append(t.line);
+                    scores.put(t.name, t.score);
+                }
+                view = new View(sb.toString(), Collections.unmodifiableMap(scores));
+            }
+            return view;
         }
+    }
+
+    /**
+     * Sets one player's score and moves them to their new rank.
+     */
+    private synchronized void put(String name, int score) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            entry = new Entry(name, score, joined++);
+            entries.put(name, entry);
+        } else if (entry.score == score) {
+            return;
+        } else {
+            root = delete(root, entry);
+            entry.score = score;
+            entry.line = null;
+        }
+
+        root = insert(root, entry);
+        view = null;
+    }
+
+    /**
+     * Checks whether a ranks ahead of b.
+     */
+    private static boolean before(Entry a, Entry b) {
+        return a.score != b.score ? a.score > b.score : a.seq < b.seq;
+    }
+
+    private static int size(Entry t) {
+        return t == null ? 0 : t.size;
+    }
 
-        return sb.toString();
+    private static Entry fix(Entry t) {
+        t.size = size(t.left) + size(t.right) + 1;
+        return t;
+    }
+
+    private static Entry insert(Entry t, Entry e) {
+        if (t == null) {
+            e.left = null;
+            e.right = null;
+            return fix(e);
+        }
+
+        if (before(e, t)) {
+            t.left = insert(t.left, e);
+            if (t.left.priority > t.priority) {
+                Entry l = t.left;
+                t.left = l.right;
+                l.right = fix(t);
+                return fix(l);
+            }
+        } else {
+            t.right = insert(t.right, e);
+            if (t.right.priority > t.priority) {
+                Entry r = t.right;
+                t.right = r.left;
+                r.left = fix(t);
+                return fix(r);
+            }
+        }
+        return fix(t);
+    }
+
+    private static Entry delete(Entry t, Entry e) {
+        if (t == e) return merge(t.left, t.right);
+
+        if (before(e, t)) {
+            t.left = delete(t.left, e);
+        } else {
+            t.right = delete(t.right, e);
+        }
+        return fix(t);
+    }
+
+    /**
+     * Joins two subtrees where every entry of a ranks ahead of every entry of b.
+     */
+    private static Entry merge(Entry a, Entry b) {
+        if (a == null) return b;
+        if (b == null) return a;
+
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            return fix(a);
+        }
+        b.left = merge(a, b.left);
+        return fix(b);
+    }
+
+    /**
+     * One player on the board, and a node of the treap that ranks them.
+     * Nodes are ordered by score descending, then by join order, and carry
+     * their subtree size so a rank can be found in O(log n).
+     */
+    private static final class Entry {
+        private final String name;
+        private final long seq;
+        private final int priority;
+        private int score;
+        private String line;
+        private Entry left;
+        private Entry right;
+        private int size = 1;
+
+        private Entry(String name, int score, long seq) {
+            this.name = name;
+            this.score = score;
+            this.seq = seq;
+            this.priority = Long.hashCode(seq * 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    /**
+     * A rendered board together with the scores it shows.
+     */
+    private static final class View {
+        private final String rendered;
+        private final Map<String, Integer> scores;
+
+        private View(String rendered, Map<String, Integer> scores) {
+            this.rendered = rendered;
+            this.scores = scores;
+        }
     }
 }
@@ -1,5 +1,8 @@
 package com.oopopps.display;
+import java.util.List;
+
 import com.oopopps.Player;
+import com.oopopps.Question;
 
 /**
  * Defines the contract for objects that need to be notified when player scores change.
@@ -13,4 +16,31 @@ public interface ScoreObserver {
      * @param p the player whose score has changed
      */
     void update(Player p);
+
+    /**
+     * Called when a player's score has changed by answering (or undoing an answer to)
+     * a question. Observers that aggregate scores, such as a leaderboard, use the
+     * question and the change; the default simply calls {@link #update(Player)}.
+     * 
+     * @param p the player whose score has changed
+     * @param q the question that was answered
+     * @param delta the points gained or lost
+     */
+    default void scored(Player p, Question q, int delta) {
+        update(p);
+    }
+
+    /**
+     * Called once per player after a batch of answers has been applied (see
+     * {@link com.oopopps.command.RemoteControl#executeBatch(List)}), with all of
+     * the player's score changes from the batch in order. The default calls
+     * {@link #update(Player)} once; observers that need each change override it.
+     * 
+     * @param p the player whose score has changed
+     * @param questions the questions the player answered in the batch
+     * @param deltas the points gained or lost for each question
+     */
+    default void scoredAll(Player p, List<Question> questions, int[] deltas) {
+        update(p);
+    }
 }
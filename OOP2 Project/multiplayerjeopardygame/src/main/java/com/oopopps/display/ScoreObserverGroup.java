@@ -0,0 +1,67 @@
+package com.oopopps.display;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.oopopps.Player;
+import com.oopopps.Question;
+
+/**
+ * Forwards score notifications to several observers, so one game can update its
+ * own scoreboard and shared observers such as a leaderboard at the same time.
+ * Observers may be added while notifications are being delivered.
+ */
+public class ScoreObserverGroup implements ScoreObserver {
+    private final List<ScoreObserver> observers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a group notifying the given observers in order.
+     * 
+     * @param observers the initial observers
+     */
+    public ScoreObserverGroup(ScoreObserver... observers) {
+        for (ScoreObserver observer : observers) {
+            add(observer);
+        }
+    }
+
+    /**
+     * Adds an observer to the end of the group.
+     * 
+     * @param observer the observer to notify
+     */
+    public void add(ScoreObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Removes an observer from the group.
+     * 
+     * @param observer the observer to stop notifying
+     * @return true if the observer was in the group
+     */
+    public boolean remove(ScoreObserver observer) {
+        return observers.remove(observer);
+    }
+
+    @Override
+    public void update(Player p) {
+        for (ScoreObserver observer : observers) {
+            observer.update(p);
+        }
+    }
+
+    @Override
+    public void scored(Player p, Question q, int delta) {
+        for (ScoreObserver observer : observers) {
+            observer.scored(p, q, delta);
+        }
+    }
+
+    @Override
+    public void scoredAll(Player p, List<Question> questions, int[] deltas) {
+        for (ScoreObserver observer : observers) {
+            observer.scoredAll(p, questions, deltas);
+        }
+    }
+}
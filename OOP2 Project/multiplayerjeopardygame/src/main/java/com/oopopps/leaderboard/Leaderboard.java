@@ -0,0 +1,523 @@
+package com.oopopps.leaderboard;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.oopopps.EventLogger;
+import com.oopopps.Player;
+import com.oopopps.Question;
+import com.oopopps.display.ScoreObserver;
+
+/**
+ * Aggregates scores from every game in the process into all-time, daily and
+ * per-category rankings. Games add the leaderboard as a score observer (see
+ * {@link com.oopopps.GameEngine#addScoreObserver(ScoreObserver)}), and players
+ * are identified across games by name and categories are matched case-insensitively.
+ *
+ * Score changes only add to a per-player {@link LongAdder}, so many sessions can
+ * score at once without contending on a lock. Rankings are read from an immutable
+ * snapshot that {@link #compact()} rebuilds and publishes, so top-N and rank
+ * queries are wait-free and lag the live totals by at most one compaction period.
+ * Each compaction also writes the totals to a local file, which is read back when
+ * the leaderboard is constructed. The daily ranking covers the current day of the
+ * leaderboard's clock and starts empty when the day changes. Files that cannot be
+ * read or written are reported to the event logger the leaderboard is given.
+ */
+public class Leaderboard implements ScoreObserver, Closeable {
+    private static final int MAGIC = 0x4C44424E; // "LDBN"
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final Clock clock;
+    private final EventLogger logger;
+    private final Object compactLock = new Object();
+    private final ConcurrentHashMap<String, LongAdder> allTime = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LongAdder>> byCategory = new ConcurrentHashMap<>();
+    private final AtomicReference<Day> today = new AtomicReference<>();
+    private final LongAdder updates = new LongAdder();
+    private long compactedUpdates = -1;
+    private volatile Snapshot snapshot;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a leaderboard persisted to the given file, loading the totals
+     * it already holds.
+     *
+     * @param file the file the totals are stored in
+     * @throws IOException if the existing file cannot be opened
+     */
+    public Leaderboard(Path file) throws IOException {
+        this(file, Clock.systemUTC(), null);
+    }
+
+    /**
+     * Constructs a leaderboard that reports file errors to the given event logger.
+     *
+     * @param file the file the totals are stored in
+     * @param logger the logger damaged files and failed saves are reported to
+     * @throws IOException if the existing file cannot be opened
+     */
+    public Leaderboard(Path file, EventLogger logger) throws IOException {
+        this(file, Clock.systemUTC(), logger);
+    }
+
+    /**
+     * Constructs a leaderboard whose daily ranking follows the given clock.
+     *
+     * @param file the file the totals are stored in
+     * @param clock the clock and time zone that decide the current day
+     * @throws IOException if the existing file cannot be opened
+     */
+    public Leaderboard(Path file, Clock clock) throws IOException {
+        this(file, clock, null);
+    }
+
+    /**
+     * Constructs a leaderboard whose daily ranking follows the given clock and
+     * that reports file errors to the given event logger.
+     *
+     * @param file the file the totals are stored in
+     * @param clock the clock and time zone that decide the current day
+     * @param logger the logger damaged files and failed saves are reported to, or null
+     * @throws IOException if the existing file cannot be opened
+     */
+    public Leaderboard(Path file, Clock clock, EventLogger logger) throws IOException {
+        this.file = file;
+        this.clock = clock;
+        this.logger = logger;
+        today.set(dayOf(clock.millis()));
+
+        if (Files.exists(file)) {
+            load();
+        }
+        snapshot = buildSnapshot(today.get());
+    }
+
+    /**
+     * Compacts the leaderboard periodically on a background daemon thread.
+     *
+     * @param period the time between compactions
+     */
+    public synchronized void start(Duration period) {
+        if (scheduler != null) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread t = new Thread(task, "leaderboard-compactor");
+            t.setDaemon(true);
+            return t;
+        });
+        long millis = period.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                compact();
+            } catch (IOException e) {
+                report("Leaderboard Save Error", e);
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ignored: the leaderboard needs the question and the score change,
+     * which it receives through {@link #scored(Player, Question, int)}.
+     *
+     * @param p the player whose score has changed
+     */
+    @Override
+    public void update(Player p) {
+    }
+
+    /**
+     * Adds a player's score change to all rankings.
+     *
+     * @param p the player whose score has changed
+     * @param q the question that was answered
+     * @param delta the points gained or lost
+     */
+    @Override
+    public void scored(Player p, Question q, int delta) {
+        record(p.getName(), q.getCategory(), delta);
+    }
+
+    /**
+     * Adds all of a player's score changes from a batch to all rankings.
+     *
+     * @param p the player whose score has changed
+     * @param questions the questions the player answered
+     * @param deltas the points gained or lost for each question
+     */
+    @Override
+    public void scoredAll(Player p, List<Question> questions, int[] deltas) {
+        for (int i = 0; i < deltas.length; i++) {
+            record(p.getName(), questions.get(i).getCategory(), deltas[i]);
+        }
+    }
+
+    /**
+     * Adds a score change for a player to all rankings.
+     *
+     * @param player the player's name
+     * @param category the category of the answered question, or null
+     * @param delta the points gained or lost
+     */
+    public void record(String player, String category, long delta) {
+        adder(allTime, player).add(delta);
+        adder(today().scores, player).add(delta);
+        adder(byCategory.computeIfAbsent(normalize(category), k -> new ConcurrentHashMap<>()), player).add(delta);
+        updates.increment();
+    }
+
+    /**
+     * Gets the highest all-time scores.
+     *
+     * @param n the maximum number of standings to return
+     * @return the standings, highest score first
+     */
+    public List<Standing> top(int n) {
+        return snapshot.allTime.top(n);
+    }
+
+    /**
+     * Gets the highest scores of the current day.
+     *
+     * @param n the maximum number of standings to return
+     * @return the standings, highest score first
+     */
+    public List<Standing> topToday(int n) {
+        return snapshot.daily.top(n);
+    }
+
+    /**
+     * Gets the highest scores earned in one category.
+     *
+     * @param category the question category
+     * @param n the maximum number of standings to return
+     * @return the standings, highest score first
+     */
+    public List<Standing> topInCategory(String category, int n) {
+        return snapshot.category(category).top(n);
+    }
+
+    /**
+     * Gets a player's all-time rank, where the highest score is rank 1.
+     *
+     * @param player the player's name
+     * @return the rank, or 0 if the player is not ranked yet
+     */
+    public int rank(String player) {
+        return snapshot.allTime.rank(player);
+    }
+
+    /**
+     * Gets a player's rank for the current day.
+     *
+     * @param player the player's name
+     * @return the rank, or 0 if the player has not scored today
+     */
+    public int rankToday(String player) {
+        return snapshot.daily.rank(player);
+    }
+
+    /**
+     * Gets a player's rank within one category.
+     *
+     * @param category the question category
+     * @param player the player's name
+     * @return the rank, or 0 if the player has not scored in the category
+     */
+    public int rankInCategory(String category, String player) {
+        return snapshot.category(category).rank(player);
+    }
+
+    /**
+     * Publishes fresh rankings from the live totals and saves the totals to the
+     * leaderboard file. Does nothing if no score has changed since the last
+     * compaction on the same day.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void compact() throws IOException {
+        synchronized (compactLock) {
+            Day day = today();
+            long seen = updates.sum();
+            if (seen == compactedUpdates && snapshot.day.equals(day.date)) return;
+
+            Snapshot next = buildSnapshot(day);
+            snapshot = next;
+            save(next);
+            compactedUpdates = seen;
+        }
+    }
+
+    /**
+     * Stops periodic compaction and saves the final totals.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdown();
+                try {
+                    scheduler.awaitTermination(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                scheduler = null;
+            }
+        }
+        compact();
+    }
+
+    /**
+     * Gets the totals of the current day, starting a new day when the clock has passed midnight.
+     */
+    private Day today() {
+        Day day = today.get();
+        long now = clock.millis();
+        if (now >= day.start && now < day.end) return day;
+
+        Day next = dayOf(now);
+        return today.compareAndSet(day, next) ? next : today.get();
+    }
+
+    private Day dayOf(long millis) {
+        return new Day(LocalDate.ofInstant(Instant.ofEpochMilli(millis), clock.getZone()));
+    }
+
+    private static LongAdder adder(ConcurrentHashMap<String, LongAdder> scores, String player) {
+        LongAdder adder = scores.get(player);
+        return adder != null ? adder : scores.computeIfAbsent(player, k -> new LongAdder());
+    }
+
+    private Snapshot buildSnapshot(Day day) {
+        Map<String, Ranking> categories = new HashMap<>();
+        for (Map.Entry<String, ConcurrentHashMap<String, LongAdder>> entry : byCategory.entrySet()) {
+            categories.put(entry.getKey(), new Ranking(entry.getValue()));
+        }
+        return new Snapshot(day.date, new Ranking(allTime), new Ranking(day.scores), categories);
+    }
+
+    /**
+     * Writes the totals to a temporary file, forces it to disk and moves it over the
+     * leaderboard file, so a crash never leaves a partially written leaderboard behind.
+     */
+    private void save(Snapshot snapshot) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                    DataOutputStream out = new DataOutputStream(
+                            new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeRanking(out, snapshot.allTime);
+                out.writeUTF(snapshot.day.toString());
+                writeRanking(out, snapshot.daily);
+
+                out.writeInt(snapshot.categories.size());
+                for (Map.Entry<String, Ranking> entry : snapshot.categories.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    writeRanking(out, entry.getValue());
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeRanking(DataOutputStream out, Ranking ranking) throws IOException {
+        out.writeInt(ranking.standings.length);
+        for (Standing standing : ranking.standings) {
+            out.writeUTF(standing.name);
+            out.writeLong(standing.score);
+        }
+    }
+
+    /**
+     * Reads the totals saved by an earlier compaction. Daily totals of another day are skipped.
+     * A truncated or foreign file is reported and ignored, and the leaderboard starts empty.
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    private void load() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            try {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new IOException("not a leaderboard file");
+                }
+                readRanking(in, allTime);
+
+                boolean sameDay = today.get().date.toString().equals(in.readUTF());
+                readRanking(in, sameDay ? today.get().scores : new ConcurrentHashMap<>());
+
+                for (int i = in.readInt(); i > 0; i--) {
+                    String category = in.readUTF();
+                    readRanking(in, byCategory.computeIfAbsent(category, k -> new ConcurrentHashMap<>()));
+                }
+            } catch (IOException e) {
+                report("Leaderboard Load Error", e);
+                allTime.clear();
+                byCategory.clear();
+                today.get().scores.clear();
+            }
+        }
+    }
+
+    /**
+     * Records a file error in the event log, if the leaderboard has one.
+     */
+    private void report(String activity, IOException e) {
+        if (logger != null) {
+            logger.log(null, activity, null, null, null, e.getClass().getSimpleName(), 0);
+        }
+    }
+
+    private static void readRanking(DataInputStream in, ConcurrentHashMap<String, LongAdder> scores) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            String player = in.readUTF();
+            adder(scores, player).add(in.readLong());
+        }
+    }
+
+    private static String normalize(String category) {
+        return category == null ? "" : category.toLowerCase();
+    }
+
+    /**
+     * One player's place on a ranking.
+     */
+    public static final class Standing {
+        private final String name;
+        private final long score;
+
+        private Standing(String name, long score) {
+            this.name = name;
+            this.score = score;
+        }
+
+        /**
+         * Gets the player's name.
+         *
+         * @return the name
+         */
+        public String getName() { return name; }
+
+        /**
+         * Gets the player's total score on this ranking.
+         *
+         * @return the score
+         */
+        public long getScore() { return score; }
+
+        @Override
+        public String toString() {
+            return name + ": " + score;
+        }
+    }
+
+    /**
+     * An immutable ranking: standings sorted by score (highest first, ties by
+     * name) and each player's rank.
+     */
+    private static final class Ranking {
+        private static final Ranking EMPTY = new Ranking(new ConcurrentHashMap<>());
+        private static final Comparator<Standing> ORDER =
+                Comparator.comparingLong((Standing s) -> -s.score).thenComparing(s -> s.name);
+
+        private final Standing[] standings;
+        private final Map<String, Integer> ranks;
+
+        private Ranking(ConcurrentHashMap<String, LongAdder> scores) {
+            List<Standing> list = new ArrayList<>(scores.size());
+            for (Map.Entry<String, LongAdder> entry : scores.entrySet()) {
+                list.add(new Standing(entry.getKey(), entry.getValue().sum()));
+            }
+            standings = list.toArray(new Standing[0]);
+            Arrays.sort(standings, ORDER);
+
+            ranks = new HashMap<>(standings.length * 2);
+            for (int i = 0; i < standings.length; i++) {
+                ranks.put(standings[i].name, i + 1);
+            }
+        }
+
+        private List<Standing> top(int n) {
+            int count = Math.max(0, Math.min(n, standings.length));
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(standings, count)));
+        }
+
+        private int rank(String player) {
+            Integer rank = ranks.get(player);
+            return rank == null ? 0 : rank;
+        }
+    }
+
+    /**
+     * The rankings published by one compaction.
+     */
+    private static final class Snapshot {
+        private final LocalDate day;
+        private final Ranking allTime;
+        private final Ranking daily;
+        private final Map<String, Ranking> categories;
+
+        private Snapshot(LocalDate day, Ranking allTime, Ranking daily, Map<String, Ranking> categories) {
+            this.day = day;
+            this.allTime = allTime;
+            this.daily = daily;
+            this.categories = categories;
+        }
+
+        private Ranking category(String category) {
+            return categories.getOrDefault(normalize(category), Ranking.EMPTY);
+        }
+    }
+
+    /**
+     * The live totals of one day, and the span of time the day covers.
+     */
+    private final class Day {
+        private final LocalDate date;
+        private final long start;
+        private final long end;
+        private final ConcurrentHashMap<String, LongAdder> scores = new ConcurrentHashMap<>();
+
+        private Day(LocalDate date) {
+            this.date = date;
+            this.start = date.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            this.end = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.oopopps.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Takes event I/O off the game thread.
+ * Events are placed in a bounded lock-free ring buffer and a single background
+ * writer thread hands them to the wrapped sink in batches, once a batch is full
+ * or the flush interval has passed. When the buffer is full the configured
+ * {@link Backpressure} policy decides whether callers wait or events are dropped.
+ * Closing the sink drains every queued event before the wrapped sink is closed.
+ * A write that races with {@link #close()} is either written or counted as
+ * dropped, never lost: the writer thread only stops once no write is in progress.
+ * An idle writer parks until a write makes the buffer non-empty, so a quiet sink
+ * costs no wakeups; while it holds a partial batch it sleeps until the batch is
+ * due or enough events are queued to fill it.
+ */
+public class AsyncEventSink implements EventSink {
+    /** Under {@link Backpressure#SAMPLE}, one in this many overflowing events is kept. */
+    public static final int SAMPLE_RATE = 16;
+
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final long DEFAULT_FLUSH_MILLIS = 50;
+    /** How long a producer waiting for room in a full buffer parks between attempts */
+    private static final long ROOM_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final EventSink delegate;
+    private final EventRingBuffer<LogEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Backpressure backpressure;
+    private final Thread writer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean closed = false;
+    /** While the writer parks, the number of queued events that should wake it; otherwise never reached */
+    private volatile int wakeAt = Integer.MAX_VALUE;
+
+    /**
+     * Wraps a sink using the default buffer size, batch size and flush interval,
+     * blocking callers when the buffer is full.
+     * 
+     * @param delegate the sink the writer thread writes to
+     */
+    public AsyncEventSink(EventSink delegate) {
+        this(delegate, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_MILLIS, Backpressure.BLOCK);
+    }
+
+    /**
+     * Wraps a sink with explicit buffering settings.
+     * 
+     * @param delegate the sink the writer thread writes to
+     * @param capacity the number of events the buffer can hold
+     * @param batchSize the number of events that triggers a write
+     * @param flushIntervalMillis the longest time a queued event waits to be written
+     * @param backpressure what to do when the buffer is full
+     */
+    public AsyncEventSink(EventSink delegate, int capacity, int batchSize, long flushIntervalMillis,
+                          Backpressure backpressure) {
+        this.delegate = delegate;
+        this.buffer = new EventRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.backpressure = backpressure;
+
+        this.writer = new Thread(this::drainLoop, "event-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues an event for the writer thread.
+     * Events logged after the sink has been closed are dropped.
+     * 
+     * @param event the event to write
+     */
+    @Override
+    public void write(LogEvent event) {
+        // Announce the write before checking closed, so the writer waits for it
+        inFlight.incrementAndGet();
+        try {
+            if (closed) {
+                dropped.incrementAndGet();
+                return;
+            }
+            if (!buffer.offer(event)) {
+                overflow(event);
+            } else if (buffer.size() >= wakeAt) {
+                // An idle writer wakes on the first event, one holding a partial batch once it can fill it
+                LockSupport.unpark(writer);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the number of events discarded because the buffer was full or the sink closed.
+     * 
+     * @return the number of dropped events
+     */
+    public long getDroppedCount() { return dropped.get(); }
+
+    /**
+     * Stops accepting events, waits for the writer thread to write everything
+     * already queued, then closes the wrapped sink.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            delegate.close();
+        } catch (Exception e) {
+            System.err.println("Error closing event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the backpressure policy to an event the full buffer did not accept.
+     */
+    private void overflow(LogEvent event) {
+        LockSupport.unpark(writer);
+        switch (backpressure) {
+            case DROP:
+                dropped.incrementAndGet();
+                break;
+
+            case SAMPLE:
+                if (overflowed.incrementAndGet() % SAMPLE_RATE != 0) {
+                    dropped.incrementAndGet();
+                    break;
+                }
+                awaitRoom(event);
+                break;
+
+            default:
+                awaitRoom(event);
+                break;
+        }
+    }
+
+    /**
+     * Spins, then parks, until the buffer accepts the event.
+     */
+    private void awaitRoom(LogEvent event) {
+        while (!buffer.offer(event)) {
+            if (closed) {
+                dropped.incrementAndGet();
+                return;
+            }
+            LockSupport.unpark(writer);
+            Thread.onSpinWait();
+            LockSupport.parkNanos(ROOM_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Body of the writer thread: collect events into batches and write each batch
+     * when it is full, when the oldest event has waited a flush interval, or on close.
+     */
+    private void drainLoop() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        long batchStarted = 0;
+
+        while (true) {
+            LogEvent event;
+            while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+                if (batch.isEmpty()) batchStarted = System.nanoTime();
+                batch.add(event);
+            }
+
+            boolean closing = closed;
+            if (!batch.isEmpty() && (closing || batch.size() >= batchSize
+                    || System.nanoTime() - batchStarted >= flushIntervalNanos)) {
+                writeBatch(batch);
+                continue;
+            }
+
+            // Writes still in progress may yet queue an event; once none is, nothing can
+            if (closing && inFlight.get() == 0 && buffer.size() == 0) {
+                return;
+            }
+
+            if (closing) {
+                // a producer is still writing, or has claimed a slot but not yet published it
+                Thread.onSpinWait();
+            } else {
+                // Announce the park before the last look at the buffer: a write that lands
+                // after that look sees wakeAt and unparks, so no wakeup is lost
+                wakeAt = batch.isEmpty() ? 1 : batchSize - batch.size();
+                if (buffer.size() < wakeAt && !closed) {
+                    if (batch.isEmpty()) {
+                        LockSupport.park(this);
+                    } else {
+                        LockSupport.parkNanos(this, flushIntervalNanos - (System.nanoTime() - batchStarted));
+                    }
+                }
+                wakeAt = Integer.MAX_VALUE;
+            }
+        }
+    }
+
+    private void writeBatch(List<LogEvent> batch) {
+        try {
+            delegate.writeAll(batch);
+        } catch (RuntimeException e) {
+            dropped.addAndGet(batch.size());
+            System.err.println("Error writing event log: " + e.getMessage());
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,13 @@
+package com.oopopps.log;
+
+/**
+ * What an asynchronous sink does with a new event when its buffer is full.
+ */
+public enum Backpressure {
+    /** Wait until the writer thread has made room; no event is lost. */
+    BLOCK,
+    /** Discard the new event immediately; the game thread never waits. */
+    DROP,
+    /** Keep every {@value AsyncEventSink#SAMPLE_RATE}th overflowing event (waiting for room) and discard the rest. */
+    SAMPLE
+}
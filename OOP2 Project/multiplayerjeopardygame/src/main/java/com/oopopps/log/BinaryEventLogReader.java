@@ -0,0 +1,169 @@
+package com.oopopps.log;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.oopopps.util.VarInts;
+
+/**
+ * Reads event logs written by {@link BinaryEventSink}.
+ * Blocks whose time range does not overlap the requested window are skipped
+ * without decoding their payload.
+ */
+public class BinaryEventLogReader implements Closeable {
+    private final DataInputStream in;
+    private final List<String> dictionary = new ArrayList<>();
+
+    /**
+     * Opens a binary event log.
+     * 
+     * @param file the log file to read
+     * @throws IOException if the file cannot be opened
+     */
+    public BinaryEventLogReader(Path file) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+    }
+
+    /**
+     * Hands every event in the log to the consumer, in file order.
+     * 
+     * @param consumer receives each event
+     * @throws IOException if the file cannot be read or is not a binary event log
+     */
+    public void forEach(Consumer<LogEvent> consumer) throws IOException {
+        scan(Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+    }
+
+    /**
+     * Hands the events whose timestamp lies within [from, to] to the consumer, in file order.
+     * 
+     * @param from the earliest timestamp wanted
+     * @param to the latest timestamp wanted
+     * @param consumer receives each matching event
+     * @throws IOException if the file cannot be read or is not a binary event log
+     */
+    public void forEachBetween(Instant from, Instant to, Consumer<LogEvent> consumer) throws IOException {
+        scan(BinaryLogFormat.toEpochNanos(from), BinaryLogFormat.toEpochNanos(to), consumer);
+    }
+
+    /**
+     * Reads every event in the log into a list.
+     * 
+     * @return all events in file order
+     * @throws IOException if the file cannot be read or is not a binary event log
+     */
+    public List<LogEvent> readAll() throws IOException {
+        List<LogEvent> events = new ArrayList<>();
+        forEach(events::add);
+        return events;
+    }
+
+    /**
+     * Closes the log file.
+     * 
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void scan(long fromNanos, long toNanos, Consumer<LogEvent> consumer) throws IOException {
+        while (true) {
+            int tag = in.read();
+            if (tag < 0) return;
+
+            if (tag == BinaryLogFormat.SEGMENT) {
+                readSegmentHeader();
+            } else if (tag == BinaryLogFormat.BLOCK) {
+                readBlock(fromNanos, toNanos, consumer);
+            } else {
+                throw new IOException("Not a binary event log: unexpected frame tag " + tag);
+            }
+        }
+    }
+
+    private void readSegmentHeader() throws IOException {
+        byte[] magic = new byte[BinaryLogFormat.MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, BinaryLogFormat.MAGIC)) {
+            throw new IOException("Not a binary event log: bad segment header");
+        }
+
+        int version = in.readUnsignedByte();
+        if (version != BinaryLogFormat.VERSION) {
+            throw new IOException("Unsupported binary event log version: " + version);
+        }
+        dictionary.clear();
+    }
+
+    private void readBlock(long fromNanos, long toNanos, Consumer<LogEvent> consumer) throws IOException {
+        int count = (int) VarInts.readUnsigned(in);
+        long min = in.readLong();
+        long max = in.readLong();
+
+        int newEntries = (int) VarInts.readUnsigned(in);
+        for (int i = 0; i < newEntries; i++) {
+            byte[] utf8 = new byte[(int) VarInts.readUnsigned(in)];
+            in.readFully(utf8);
+            dictionary.add(new String(utf8, StandardCharsets.UTF_8));
+        }
+
+        int payloadLength = in.readInt();
+        if (max < fromNanos || min > toNanos) {
+            if (in.skipBytes(payloadLength) != payloadLength) {
+                throw new EOFException("Truncated binary event log");
+            }
+            return;
+        }
+
+        byte[] payloadBytes = new byte[payloadLength];
+        in.readFully(payloadBytes);
+        ByteBuffer payload = ByteBuffer.wrap(payloadBytes);
+
+        String[] caseIds = readStrings(payload, count);
+        String[] playerIds = readStrings(payload, count);
+        String[] activities = readStrings(payload, count);
+
+        long[] times = new long[count];
+        long previous = min;
+        for (int i = 0; i < count; i++) {
+            previous += VarInts.readSigned(payload);
+            times[i] = previous;
+        }
+
+        String[] categories = readStrings(payload, count);
+        String[] values = readStrings(payload, count);
+        String[] answers = readStrings(payload, count);
+        String[] results = readStrings(payload, count);
+
+        for (int i = 0; i < count; i++) {
+            int score = (int) VarInts.readSigned(payload);
+            if (times[i] < fromNanos || times[i] > toNanos) continue;
+
+            consumer.accept(new LogEvent(caseIds[i], playerIds[i], activities[i],
+                    BinaryLogFormat.fromEpochNanos(times[i]), categories[i], values[i],
+                    answers[i], results[i], score));
+        }
+    }
+
+    private String[] readStrings(ByteBuffer payload, int count) {
+        String[] column = new String[count];
+        for (int i = 0; i < count; i++) {
+            column[i] = dictionary.get((int) VarInts.readUnsigned(payload));
+        }
+        return column;
+    }
+}
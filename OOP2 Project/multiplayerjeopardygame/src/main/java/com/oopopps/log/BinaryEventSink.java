@@ -0,0 +1,255 @@
+package com.oopopps.log;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.oopopps.util.VarInts;
+
+/**
+ * Writes events in the compact binary log format described in {@link BinaryLogFormat}.
+ * Strings are dictionary-encoded, timestamps are delta-encoded and all integers are
+ * varints, so a typical log is a small fraction of the size of the CSV log.
+ *
+ * Events are collected in memory and written one block at a time, once a block
+ * is full or the oldest collected event has waited the flush delay, whichever
+ * comes first; the last, partial block is written when the sink is closed. Use
+ * {@link BinaryEventLogReader} to read the log back or {@link BinaryLogConverter}
+ * to turn it into the CSV format.
+ *
+ * Durability: events still being collected exist only in memory, so if the
+ * process dies, the events of up to one flush delay (by default one second) or
+ * one block, whichever is less, are lost. A written block is handed to the
+ * operating system but not forced to disk. A shorter delay loses less on a crash
+ * but writes more, smaller blocks, which compress less well. Without a flush
+ * delay, up to a whole block is lost.
+ */
+public class BinaryEventSink implements EventSink {
+    /** The longest time an event waits in memory unless configured otherwise */
+    public static final Duration DEFAULT_FLUSH_DELAY = Duration.ofSeconds(1);
+
+    private final DataOutputStream out;
+    private final int blockSize;
+    private final List<LogEvent> pending;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> newEntries = new ArrayList<>();
+    private final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+    private final DataOutputStream payload = new DataOutputStream(payloadBytes);
+    private final long flushDelayNanos;
+    private final ScheduledExecutorService flusher;
+    private long pendingSince;
+
+    /**
+     * Opens the binary log at the given path using the default block size.
+     * 
+     * @param path the file path where events will be logged
+     * @throws IOException if the log file cannot be opened
+     */
+    public BinaryEventSink(String path) throws IOException {
+        this(path, BinaryLogFormat.DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Opens the binary log at the given path with the default flush delay,
+     * appending a new segment to an existing file.
+     * 
+     * @param path the file path where events will be logged
+     * @param blockSize the number of events per block
+     * @throws IOException if the log file cannot be opened
+     */
+    public BinaryEventSink(String path, int blockSize) throws IOException {
+        this(path, blockSize, DEFAULT_FLUSH_DELAY);
+    }
+
+    /**
+     * Opens the binary log at the given path, appending a new segment to an existing file.
+     * A background daemon thread writes partial blocks whose oldest event has waited
+     * the flush delay.
+     * 
+     * @param path the file path where events will be logged
+     * @param blockSize the number of events per block
+     * @param flushDelay the longest time an event waits in memory, or null to write only full blocks
+     * @throws IOException if the log file cannot be opened
+     */
+    public BinaryEventSink(String path, int blockSize, Duration flushDelay) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path, true)));
+        this.blockSize = blockSize;
+        this.pending = new ArrayList<>(blockSize);
+
+        out.writeByte(BinaryLogFormat.SEGMENT);
+        out.write(BinaryLogFormat.MAGIC);
+        out.writeByte(BinaryLogFormat.VERSION);
+        out.flush();
+
+        if (flushDelay == null || flushDelay.isZero() || flushDelay.isNegative()) {
+            this.flushDelayNanos = 0;
+            this.flusher = null;
+            return;
+        }
+        this.flushDelayNanos = flushDelay.toNanos();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread t = new Thread(task, "binary-log-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        // Checking at a quarter of the delay writes each event within 1.25 delays
+        long period = Math.max(1, flushDelayNanos / 4);
+        flusher.scheduleWithFixedDelay(this::flushIfDue, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Adds an event to the current block, writing the block once it is full.
+     * 
+     * @param event the event to write
+     */
+    @Override
+    public synchronized void write(LogEvent event) {
+        add(event);
+    }
+
+    /**
+     * Adds several events, writing every block that fills up.
+     * 
+     * @param events the events to write, in order
+     */
+    @Override
+    public synchronized void writeAll(List<LogEvent> events) {
+        for (LogEvent event : events) {
+            add(event);
+        }
+    }
+
+    /**
+     * Writes the last partial block and closes the file.
+     * 
+     * @throws IOException if the file cannot be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (this) {
+            if (!pending.isEmpty()) {
+                writeBlock();
+            }
+            out.close();
+        }
+    }
+
+    /**
+     * Adds an event to the current block, writing the block once it is full.
+     */
+    private void add(LogEvent event) {
+        if (pending.isEmpty()) {
+            pendingSince = System.nanoTime();
+        }
+        pending.add(event);
+        if (pending.size() >= blockSize) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Writes the current partial block if its oldest event has waited the flush delay.
+     * Runs on the flusher thread.
+     */
+    private synchronized void flushIfDue() {
+        if (pending.isEmpty() || System.nanoTime() - pendingSince < flushDelayNanos) return;
+
+        try {
+            writeBlock();
+        } catch (UncheckedIOException e) {
+            System.err.println("Error writing event log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes the pending events as one block and writes it to the file. If the
+     * block cannot be written, the strings it added to the dictionary are removed
+     * again, so the next block defines them instead of referring to ids the file
+     * never received.
+     */
+    private void writeBlock() {
+        try {
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            long[] times = new long[pending.size()];
+            for (int i = 0; i < times.length; i++) {
+                times[i] = BinaryLogFormat.toEpochNanos(pending.get(i).getTimestamp());
+                min = Math.min(min, times[i]);
+                max = Math.max(max, times[i]);
+            }
+
+            payloadBytes.reset();
+            newEntries.clear();
+
+            for (LogEvent e : pending) writeId(e.getCaseId());
+            for (LogEvent e : pending) writeId(e.getPlayerId());
+            for (LogEvent e : pending) writeId(e.getActivity());
+
+            long previous = min;
+            for (long t : times) {
+                VarInts.writeSigned(payload, t - previous);
+                previous = t;
+            }
+
+            for (LogEvent e : pending) writeId(e.getCategory());
+            for (LogEvent e : pending) writeId(e.getQuestionValue());
+            for (LogEvent e : pending) writeId(e.getAnswer());
+            for (LogEvent e : pending) writeId(e.getResult());
+            for (LogEvent e : pending) VarInts.writeSigned(payload, e.getScoreAfter());
+
+            out.writeByte(BinaryLogFormat.BLOCK);
+            VarInts.writeUnsigned(out, pending.size());
+            out.writeLong(min);
+            out.writeLong(max);
+
+            VarInts.writeUnsigned(out, newEntries.size());
+            for (String entry : newEntries) {
+                byte[] utf8 = entry.getBytes(StandardCharsets.UTF_8);
+                VarInts.writeUnsigned(out, utf8.length);
+                out.write(utf8);
+            }
+
+            out.writeInt(payloadBytes.size());
+            payloadBytes.writeTo(out);
+            out.flush();
+            pending.clear();
+        } catch (IOException e) {
+            dictionary.keySet().removeAll(newEntries);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the dictionary id of a string to the payload, adding the string to the dictionary if new.
+     */
+    private void writeId(String value) throws IOException {
+        Integer id = dictionary.get(value);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.put(value, id);
+            newEntries.add(value);
+        }
+        VarInts.writeUnsigned(payload, id);
+    }
+}
@@ -0,0 +1,61 @@
+package com.oopopps.log;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a binary event log into the 9-column CSV process-mining log,
+ * so existing tooling can keep working with logs recorded in binary form.
+ */
+public class BinaryLogConverter {
+    private static final int BATCH_SIZE = 4096;
+
+    private BinaryLogConverter() {}
+
+    /**
+     * Writes every event of a binary log to a new CSV log.
+     * 
+     * @param binaryLog the binary log to read
+     * @param csvLog the CSV file to create (replaced if it exists)
+     * @return the number of events converted
+     * @throws Exception if either file cannot be read or written
+     */
+    public static long toCsv(Path binaryLog, Path csvLog) throws Exception {
+        Files.deleteIfExists(csvLog);
+
+        long[] converted = { 0 };
+        try (BinaryEventLogReader reader = new BinaryEventLogReader(binaryLog);
+             CsvEventSink csv = new CsvEventSink(csvLog.toString())) {
+
+            List<LogEvent> batch = new ArrayList<>(BATCH_SIZE);
+            reader.forEach(event -> {
+                batch.add(event);
+                if (batch.size() == BATCH_SIZE) {
+                    csv.writeAll(batch);
+                    batch.clear();
+                }
+                converted[0]++;
+            });
+            csv.writeAll(batch);
+        }
+        return converted[0];
+    }
+
+    /**
+     * Converts a binary log from the command line.
+     * 
+     * @param args the binary log path and the CSV output path
+     * @throws Exception if conversion fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.out.println("Usage: BinaryLogConverter <binary log> <csv output>");
+            return;
+        }
+        long count = toCsv(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("Converted " + count + " events to " + args[1]);
+    }
+}
@@ -0,0 +1,53 @@
+package com.oopopps.log;
+
+import java.time.Instant;
+
+/**
+ * Layout of the binary event log written by {@link BinaryEventSink}.
+ *
+ * A file is a sequence of frames, each starting with a tag byte:
+ * <ul>
+ *   <li>{@code 'S'} starts a segment: the magic bytes {@code JLOG} and a version byte.
+ *       Every time the log is opened a new segment is appended and the string
+ *       dictionary starts empty again.</li>
+ *   <li>{@code 'B'} holds a block of events: varint event count, the block's minimum
+ *       and maximum timestamp as 8-byte epoch nanoseconds, the varint-counted strings
+ *       added to the dictionary by this block, a 4-byte payload length, and the payload.</li>
+ * </ul>
+ * The payload stores the events column by column: dictionary ids for case, player and
+ * activity, zig-zag deltas of the epoch-nanosecond timestamps (the first relative to the
+ * block minimum), dictionary ids for category, question value, answer and result, and
+ * zig-zag scores. Readers can skip a block's payload without decoding it when its
+ * time range is not wanted, because dictionary entries sit outside the payload.
+ */
+final class BinaryLogFormat {
+    static final byte SEGMENT = 'S';
+    static final byte BLOCK = 'B';
+    static final byte[] MAGIC = { 'J', 'L', 'O', 'G' };
+    static final byte VERSION = 1;
+    static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private BinaryLogFormat() {}
+
+    /**
+     * Converts an instant to nanoseconds since the epoch.
+     * 
+     * @param instant the instant to convert
+     * @return epoch nanoseconds
+     */
+    static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    /**
+     * Converts nanoseconds since the epoch back to an instant.
+     * 
+     * @param nanos epoch nanoseconds
+     * @return the instant
+     */
+    static Instant fromEpochNanos(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND));
+    }
+}
@@ -0,0 +1,84 @@
+package com.oopopps.log;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes events as rows of the 9-column process-mining CSV log.
+ * The file is opened in append mode and the header is written each time it is opened.
+ * Every write is flushed straight away; a batch is flushed once.
+ */
+public class CsvEventSink implements EventSink {
+    /** Header row of the process-mining log. */
+    public static final String HEADER = "Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play";
+
+    private final PrintWriter out;
+    private final StringBuilder line = new StringBuilder(128);
+
+    /**
+     * Opens the CSV log at the given path.
+     * 
+     * @param path the file path where events will be logged
+     * @throws IOException if the log file cannot be opened
+     */
+    public CsvEventSink(String path) throws IOException {
+        this.out = new PrintWriter(new FileWriter(path, true));
+
+        // write header if file new - naive approach: caller should ensure new file or overwrite
+        out.println(HEADER);
+        out.flush();
+    }
+
+    /**
+     * Writes one event as a CSV row and flushes it.
+     * 
+     * @param event the event to write
+     */
+    @Override
+    public synchronized void write(LogEvent event) {
+        append(event);
+        out.flush();
+    }
+
+    /**
+     * Writes all events as CSV rows with a single flush.
+     * 
+     * @param events the events to write, in order
+     */
+    @Override
+    public synchronized void writeAll(List<LogEvent> events) {
+        for (LogEvent event : events) {
+            append(event);
+        }
+        out.flush();
+    }
+
+    /**
+     * Closes the log file.
+     */
+    @Override
+    public synchronized void close() {
+        out.close();
+    }
+
+    /**
+     * Formats one event into the shared line buffer and writes it without flushing.
+     */
+    private void append(LogEvent e) {
+        line.setLength(0);
+        line.append(e.getCaseId()).append(',')
+            .append(e.getPlayerId()).append(',')
+            .append(e.getActivity()).append(',');
+        DateTimeFormatter.ISO_INSTANT.formatTo(e.getTimestamp(), line);
+        line.append(',')
+            .append(e.getCategory()).append(',')
+            .append(e.getQuestionValue()).append(',')
+            .append(e.getAnswer()).append(',')
+            .append(e.getResult()).append(',')
+            .append(e.getScoreAfter()).append('\n');
+        out.append(line);
+    }
+}
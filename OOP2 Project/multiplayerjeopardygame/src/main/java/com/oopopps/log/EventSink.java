@@ -0,0 +1,30 @@
+package com.oopopps.log;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * Destination that EventLogger hands its events to.
+ * Implementations decide how events are encoded and when they reach disk;
+ * all implementations are safe to share between game sessions.
+ */
+public interface EventSink extends Closeable {
+
+    /**
+     * Writes one event.
+     * 
+     * @param event the event to write
+     */
+    void write(LogEvent event);
+
+    /**
+     * Writes several events as one batch, flushing at most once.
+     * 
+     * @param events the events to write, in order
+     */
+    default void writeAll(List<LogEvent> events) {
+        for (LogEvent event : events) {
+            write(event);
+        }
+    }
+}
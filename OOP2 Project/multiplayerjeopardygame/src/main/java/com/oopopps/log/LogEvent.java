@@ -0,0 +1,112 @@
+package com.oopopps.log;
+
+import java.time.Instant;
+
+/**
+ * An immutable record of one game event, one row of the process-mining log.
+ * Missing values are stored as empty strings, matching the blank CSV columns.
+ */
+public final class LogEvent {
+    private final String caseId;
+    private final String playerId;
+    private final String activity;
+    private final Instant timestamp;
+    private final String category;
+    private final String questionValue;
+    private final String answer;
+    private final String result;
+    private final int scoreAfter;
+
+    /**
+     * Constructs a log event.
+     * 
+     * @param caseId the game session the event belongs to
+     * @param playerId the ID of the player performing the action
+     * @param activity the type of activity being performed
+     * @param timestamp when the event happened
+     * @param category the question category (if applicable)
+     * @param questionValue the question value (if applicable)
+     * @param answer the answer given by the player (if applicable)
+     * @param result the result of the action (if applicable)
+     * @param scoreAfter the player's score after this action
+     */
+    public LogEvent(String caseId, String playerId, String activity, Instant timestamp, String category,
+                    String questionValue, String answer, String result, int scoreAfter) {
+        this.caseId = orEmpty(caseId);
+        this.playerId = orEmpty(playerId);
+        this.activity = orEmpty(activity);
+        this.timestamp = timestamp;
+        this.category = orEmpty(category);
+        this.questionValue = orEmpty(questionValue);
+        this.answer = orEmpty(answer);
+        this.result = orEmpty(result);
+        this.scoreAfter = scoreAfter;
+    }
+
+    /**
+     * Gets the game session the event belongs to.
+     * 
+     * @return the case ID
+     */
+    public String getCaseId() { return caseId; }
+
+    /**
+     * Gets the ID of the player who performed the action.
+     * 
+     * @return the player ID, or an empty string
+     */
+    public String getPlayerId() { return playerId; }
+
+    /**
+     * Gets the type of activity that was performed.
+     * 
+     * @return the activity name
+     */
+    public String getActivity() { return activity; }
+
+    /**
+     * Gets the time the event happened.
+     * 
+     * @return the event timestamp
+     */
+    public Instant getTimestamp() { return timestamp; }
+
+    /**
+     * Gets the question category.
+     * 
+     * @return the category, or an empty string
+     */
+    public String getCategory() { return category; }
+
+    /**
+     * Gets the question value.
+     * 
+     * @return the question value, or an empty string
+     */
+    public String getQuestionValue() { return questionValue; }
+
+    /**
+     * Gets the answer given by the player.
+     * 
+     * @return the answer, or an empty string
+     */
+    public String getAnswer() { return answer; }
+
+    /**
+     * Gets the result of the action.
+     * 
+     * @return the result, or an empty string
+     */
+    public String getResult() { return result; }
+
+    /**
+     * Gets the player's score after this action.
+     * 
+     * @return the score after the action
+     */
+    public int getScoreAfter() { return scoreAfter; }
+
+    private static String orEmpty(String s) {
+        return s == null ? "" : s;
+    }
+}
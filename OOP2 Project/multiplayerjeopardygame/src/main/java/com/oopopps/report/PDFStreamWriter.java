@@ -0,0 +1,227 @@
+package com.oopopps.report;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a text-only PDF document straight to a file, one page at a time.
+ *
+ * Each page's content is collected in a buffer and written out, compressed, as
+ * soon as the next page is started, so only one page is held in memory however
+ * long the document gets. What remains in memory is the byte offset of every
+ * object written, which the cross-reference table at the end of the file needs.
+ *
+ * All pages share one resource dictionary with the standard Helvetica and
+ * Helvetica-Bold fonts, which are written once at the start of the file. Text is
+ * made printable and encoded with WinAnsiEncoding (see {@link WinAnsi}), so
+ * characters it cannot represent are written as '?'.
+ */
+final class PDFStreamWriter implements Closeable {
+    /** The width of an A4 page in points */
+    static final float PAGE_WIDTH = 595.27563f;
+    /** The height of an A4 page in points */
+    static final float PAGE_HEIGHT = 841.8898f;
+
+    private static final int CATALOG = 1;
+    private static final int PAGES = 2;
+    private static final int FONT = 3;
+    private static final int BOLD_FONT = 4;
+    private static final int RESOURCES = 5;
+
+    private final OutputStream out;
+    private final ByteArrayOutputStream page = new ByteArrayOutputStream(8192);
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(4096);
+    private final Deflater deflater = new Deflater();
+    private long position;
+    private long[] offsets = new long[64];
+    private int objects = RESOURCES;
+    private int[] pageIds = new int[16];
+    private int pageCount;
+    private boolean pageOpen;
+
+    /**
+     * Creates the file and writes the document header and shared fonts.
+     *
+     * @param path the file to write
+     * @throws IOException if the file cannot be created or written
+     */
+    PDFStreamWriter(Path path) throws IOException {
+        this.out = new BufferedOutputStream(Files.newOutputStream(path), 65536);
+        write("%PDF-1.4\n%âãÏÓ\n");
+        writeObject(FONT, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+        writeObject(BOLD_FONT, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>");
+        writeObject(RESOURCES, "<< /Font << /F1 " + FONT + " 0 R /F2 " + BOLD_FONT + " 0 R >> >>");
+    }
+
+    /**
+     * Finishes the current page, if any, and starts a new one.
+     *
+     * @throws IOException if the finished page cannot be written
+     */
+    void newPage() throws IOException {
+        finishPage();
+        pageOpen = true;
+    }
+
+    /**
+     * Writes a line of text on the current page.
+     *
+     * @param bold whether to use the bold font
+     * @param size the font size in points
+     * @param x the x position of the text's baseline start, from the left edge
+     * @param y the y position of the text's baseline, from the bottom edge
+     * @param text the text to write
+     */
+    void text(boolean bold, float size, float x, float y, String text) {
+        if (!pageOpen) {
+            throw new IllegalStateException("No page started");
+        }
+        ascii("BT /" + (bold ? "F2 " : "F1 ") + number(size) + " Tf "
+                + number(x) + ' ' + number(y) + " Td (");
+        String safe = WinAnsi.printable(text);
+        for (int i = 0; i < safe.length(); i++) {
+            int b = WinAnsi.encode(safe.charAt(i));
+            if (b == '(' || b == ')' || b == '\\') {
+                page.write('\\');
+                page.write(b);
+            } else if (b < 32 || b > 126) {
+                page.write('\\');
+                page.write('0' + (b >> 6));
+                page.write('0' + ((b >> 3) & 7));
+                page.write('0' + (b & 7));
+            } else {
+                page.write(b);
+            }
+        }
+        ascii(") Tj ET\n");
+    }
+
+    /**
+     * Finishes the last page and writes the page tree, catalog and cross-reference
+     * table, then closes the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (pageCount == 0) {
+                pageOpen = true;
+            }
+            finishPage();
+
+            StringBuilder kids = new StringBuilder("<< /Type /Pages /Kids [");
+            for (int i = 0; i < pageCount; i++) {
+                kids.append(pageIds[i]).append(" 0 R ");
+            }
+            kids.append("] /Count ").append(pageCount).append(" >>");
+            writeObject(PAGES, kids.toString());
+            writeObject(CATALOG, "<< /Type /Catalog /Pages " + PAGES + " 0 R >>");
+
+            long xref = position;
+            StringBuilder table = new StringBuilder(20 * (objects + 1) + 64);
+            table.append("xref\n0 ").append(objects + 1).append("\n0000000000 65535 f \n");
+            for (int id = 1; id <= objects; id++) {
+                String offset = Long.toString(offsets[id]);
+                for (int pad = offset.length(); pad < 10; pad++) {
+                    table.append('0');
+                }
+                table.append(offset).append(" 00000 n \n");
+            }
+            table.append("trailer\n<< /Size ").append(objects + 1).append(" /Root ").append(CATALOG)
+                    .append(" 0 R >>\nstartxref\n").append(xref).append("\n%%EOF\n");
+            write(table.toString());
+        } finally {
+            deflater.end();
+            out.close();
+        }
+    }
+
+    /**
+     * Writes the current page's content stream and page object, if a page is open.
+     */
+    private void finishPage() throws IOException {
+        if (!pageOpen) return;
+
+        compressed.reset();
+        deflater.reset();
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(compressed, deflater, 4096)) {
+            page.writeTo(deflate);
+        }
+        page.reset();
+
+        int content = ++objects;
+        begin(content);
+        write("<< /Length " + compressed.size() + " /Filter /FlateDecode >>\nstream\n");
+        compressed.writeTo(out);
+        position += compressed.size();
+        write("\nendstream\nendobj\n");
+
+        int pageId = ++objects;
+        writeObject(pageId, "<< /Type /Page /Parent " + PAGES + " 0 R /MediaBox [0 0 "
+                + number(PAGE_WIDTH) + ' ' + number(PAGE_HEIGHT) + "] /Resources "
+                + RESOURCES + " 0 R /Contents " + content + " 0 R >>");
+        if (pageCount == pageIds.length) {
+            pageIds = Arrays.copyOf(pageIds, pageCount * 2);
+        }
+        pageIds[pageCount++] = pageId;
+        pageOpen = false;
+    }
+
+    /**
+     * Writes a complete indirect object.
+     */
+    private void writeObject(int id, String body) throws IOException {
+        begin(id);
+        write(body + "\nendobj\n");
+    }
+
+    /**
+     * Records the offset of an indirect object and writes its header.
+     */
+    private void begin(int id) throws IOException {
+        if (id >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(id + 1, offsets.length * 2));
+        }
+        offsets[id] = position;
+        write(id + " 0 obj\n");
+    }
+
+    /**
+     * Writes PDF syntax to the file; the strings used are all ISO-8859-1.
+     */
+    private void write(String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.ISO_8859_1);
+        out.write(bytes);
+        position += bytes.length;
+    }
+
+    /**
+     * Appends PDF syntax to the current page's content.
+     */
+    private void ascii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            page.write(s.charAt(i));
+        }
+    }
+
+    /**
+     * Formats a number without an exponent, dropping a zero fraction.
+     */
+    private static String number(float f) {
+        if (f == (int) f) {
+            return Integer.toString((int) f);
+        }
+        return String.format(Locale.ROOT, "%.4f", f);
+    }
+}
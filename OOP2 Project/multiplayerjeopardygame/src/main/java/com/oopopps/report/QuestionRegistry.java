@@ -0,0 +1,165 @@
+package com.oopopps.report;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oopopps.CategoryDictionary;
+import com.oopopps.Question;
+
+/**
+ * Indexes a loaded question set by dense ids so reports can look up the question
+ * behind each turn without comparing or normalizing strings.
+ *
+ * Question ids are positions in the question list. Category ids come from a
+ * {@link CategoryDictionary}, and the questions of each category are stored
+ * contiguously in one shared array, so finding a category's questions is an
+ * array access however many categories the bank has. The registry is built once
+ * and never changes, so it can be read by many threads at once, and one registry
+ * can serve every game played with the same question set.
+ */
+public final class QuestionRegistry {
+    private static final String OPTION_PREFIX = "Option";
+
+    private final CategoryDictionary categories;
+    private final Question[] questions;
+    private final List<Question> questionList;
+    private final int[] categoryOf;
+    private final int[] categoryStart;
+    private final int[] byCategory;
+    private final Map<Question, Integer> ids;
+
+    /**
+     * Builds a registry with its own category dictionary.
+     *
+     * @param questions the question set
+     */
+    public QuestionRegistry(List<Question> questions) {
+        this(questions, new CategoryDictionary());
+    }
+
+    /**
+     * Builds a registry whose category ids come from the given dictionary.
+     *
+     * @param questions the question set
+     * @param categories the dictionary to take category ids from
+     */
+    public QuestionRegistry(List<Question> questions, CategoryDictionary categories) {
+        this.categories = categories;
+        this.questions = questions.toArray(new Question[0]);
+        this.questionList = Collections.unmodifiableList(Arrays.asList(this.questions));
+        this.categoryOf = new int[this.questions.length];
+        this.ids = new IdentityHashMap<>(this.questions.length);
+
+        for (int id = 0; id < this.questions.length; id++) {
+            categoryOf[id] = categories.idOf(this.questions[id].getCategory());
+            ids.putIfAbsent(this.questions[id], id);
+        }
+
+        // Counting sort of question ids by category
+        this.categoryStart = new int[categories.size() + 1];
+        for (int category : categoryOf) {
+            categoryStart[category + 1]++;
+        }
+        for (int c = 0; c < categories.size(); c++) {
+            categoryStart[c + 1] += categoryStart[c];
+        }
+        this.byCategory = new int[this.questions.length];
+        int[] next = categoryStart.clone();
+        for (int id = 0; id < categoryOf.length; id++) {
+            byCategory[next[categoryOf[id]]++] = id;
+        }
+    }
+
+    /**
+     * Gets the number of questions in the registry.
+     *
+     * @return the question count
+     */
+    public int size() { return questions.length; }
+
+    /**
+     * Gets the questions of the registry, in id order.
+     *
+     * @return an unmodifiable view of the questions
+     */
+    public List<Question> getQuestions() { return questionList; }
+
+    /**
+     * Gets the id of a question in this registry.
+     *
+     * @param q the question, as loaded
+     * @return the question id, or -1 if the question is not in the registry
+     */
+    public int idOf(Question q) {
+        Integer id = ids.get(q);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets a question by id.
+     *
+     * @param id the question id
+     * @return the question
+     */
+    public Question getQuestion(int id) { return questions[id]; }
+
+    /**
+     * Gets the category id of a question.
+     *
+     * @param id the question id
+     * @return the category id
+     */
+    public int getCategory(int id) { return categoryOf[id]; }
+
+    /**
+     * Gets the dictionary the category ids refer to.
+     *
+     * @return the category dictionary
+     */
+    public CategoryDictionary getCategories() { return categories; }
+
+    /**
+     * Gets the number of questions in a category.
+     *
+     * @param category the category id
+     * @return the number of questions, or 0 if no question has the category
+     */
+    public int countIn(int category) {
+        if (category < 0 || category + 1 >= categoryStart.length) return 0;
+        return categoryStart[category + 1] - categoryStart[category];
+    }
+
+    /**
+     * Gets a question of a category, in the order the questions were loaded.
+     *
+     * @param category the category id
+     * @param index the position within the category, starting at 0
+     * @return the question id
+     * @throws IndexOutOfBoundsException if the category has no question at the position
+     */
+    public int questionIn(int category, int index) {
+        if (index < 0 || index >= countIn(category)) {
+            throw new IndexOutOfBoundsException("Question " + index + " of category " + category);
+        }
+        return byCategory[categoryStart[category] + index];
+    }
+
+    /**
+     * Gets the text of the option a given answer chose. Options may be keyed by
+     * the short ("A") or long ("OptionA") form of the answer.
+     *
+     * @param id the question id
+     * @param answer the answer as given
+     * @return the option text, or null if the question has no such option
+     */
+    public String getOptionText(int id, String answer) {
+        if (answer == null) return null;
+
+        Map<String, String> options = questions[id].getOptions();
+        String text = options.get(answer);
+        return text != null ? text : options.get(OPTION_PREFIX + answer);
+    }
+}
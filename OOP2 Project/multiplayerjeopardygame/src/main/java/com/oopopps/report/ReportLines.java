@@ -0,0 +1,138 @@
+package com.oopopps.report;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oopopps.Player;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+/**
+ * Formats the parts of a turn that every report strategy prints the same way.
+ *
+ * Question and answer text comes from question files and may hold any character,
+ * including line breaks, so it is made printable (see {@link WinAnsi}) before it
+ * is returned. The PDF reports also wrap each turn's lines to the page width.
+ */
+final class ReportLines {
+    private static final String NOT_RECORDED = "(not recorded)";
+
+    /** Helvetica glyph widths in thousandths of the font size, by WinAnsiEncoding code */
+    private static float[] widths;
+
+    private ReportLines() {}
+
+    /**
+     * Formats the question asked in a turn.
+     *
+     * @param turns the game's turns
+     * @param turn the turn index, starting at 0
+     * @return the printable question text, or a placeholder if the question was not recorded
+     */
+    static String question(TurnRecord turns, int turn) {
+        String text = turns.getQuestionText(turn);
+        return text != null ? WinAnsi.printable(text) : NOT_RECORDED;
+    }
+
+    /**
+     * Formats the answer given in a turn with the text of the option it chose,
+     * such as "B (ofstream)".
+     *
+     * @param turns the game's turns
+     * @param turn the turn index, starting at 0
+     * @return the printable answer, or a placeholder if the answer was not recorded
+     */
+    static String answer(TurnRecord turns, int turn) {
+        String answer = turns.getAnswer(turn);
+        if (answer == null) return NOT_RECORDED;
+
+        String text = turns.getAnswerText(turn);
+        return WinAnsi.printable(text != null ? answer + " (" + text + ")" : answer);
+    }
+
+    /**
+     * Formats a turn for a PDF report, in Helvetica at the given size: the turn
+     * header, question, answer with its result, and score after the turn, each
+     * wrapped to the given width.
+     *
+     * @param players the game's players
+     * @param turns the game's turns
+     * @param turn the turn index, starting at 0
+     * @param fontSize the font size in points
+     * @param width the width available for each line, in points
+     * @return the lines of the turn, in order
+     * @throws IOException if the font metrics cannot be loaded
+     */
+    static List<String> turnLines(List<Player> players, TurnRecord turns, int turn, float fontSize, float width)
+            throws IOException {
+        String playerName = players.get(turns.getPlayer(turn)).getName();
+        int pointsChange = turns.getPoints(turn);
+
+        List<String> lines = new ArrayList<>(4);
+        wrap("Turn " + (turn + 1) + ": " + playerName + " selected " + turns.getCategoryName(turn)
+                + " for " + turns.getValue(turn) + " pts", fontSize, width, lines);
+        wrap("Question: " + question(turns, turn), fontSize, width, lines);
+        wrap("Answer: " + answer(turns, turn) + " — " + (turns.isCorrect(turn) ? "Correct" : "Incorrect")
+                + " (" + (pointsChange >= 0 ? "+" : "") + pointsChange + " pts)", fontSize, width, lines);
+        wrap("Score after turn: " + playerName + " = " + turns.getScoreAfter(turn), fontSize, width, lines);
+        return lines;
+    }
+
+    /**
+     * Makes text printable and breaks it into lines no wider than the given width,
+     * at spaces where possible and inside a word only when the word alone is too wide.
+     *
+     * @param text the text to wrap
+     * @param fontSize the Helvetica font size in points
+     * @param width the width available for each line, in points
+     * @param lines receives the wrapped lines
+     * @throws IOException if the font metrics cannot be loaded
+     */
+    static void wrap(String text, float fontSize, float width, List<String> lines) throws IOException {
+        String safe = WinAnsi.printable(text);
+        float[] glyphs = widths();
+        float limit = width * 1000 / fontSize;
+
+        int start = 0;
+        while (start < safe.length()) {
+            int end = start;
+            int lastSpace = -1;
+            float used = 0;
+            while (end < safe.length()) {
+                char c = safe.charAt(end);
+                float w = glyphs[WinAnsi.encode(c)];
+                if (used + w > limit && end > start) break;
+                if (c == ' ') lastSpace = end;
+                used += w;
+                end++;
+            }
+
+            if (end < safe.length() && lastSpace > start) {
+                end = lastSpace;
+            }
+            lines.add(safe.substring(start, end));
+
+            start = end;
+            while (start < safe.length() && safe.charAt(start) == ' ') {
+                start++;
+            }
+        }
+        if (safe.isEmpty()) {
+            lines.add(safe);
+        }
+    }
+
+    /**
+     * Loads the Helvetica glyph widths on first use.
+     */
+    private static synchronized float[] widths() throws IOException {
+        if (widths == null) {
+            float[] table = new float[256];
+            for (int code = 0x20; code < table.length; code++) {
+                table[code] = PDType1Font.HELVETICA.getWidth(code);
+            }
+            widths = table;
+        }
+        return widths;
+    }
+}
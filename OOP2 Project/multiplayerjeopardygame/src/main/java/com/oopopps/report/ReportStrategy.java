@@ -16,8 +16,22 @@ public interface ReportStrategy {
      * @param path the file path where the report will be saved
      * @param caseId the unique identifier for this game session
      * @param players the list of players who participated
+     * @param turns the turns taken during the game, referring to players by their index in the list
+     * @throws Exception if report generation fails
+     */
+    void generate(Path path, String caseId, List<Player> players, TurnRecord turns) throws Exception;
+
+    /**
+     * Generates a game report from a turn history of formatted strings.
+     * The strings are converted once with {@link TurnRecord#fromLegacy(List, List)}.
+     * 
+     * @param path the file path where the report will be saved
+     * @param caseId the unique identifier for this game session
+     * @param players the list of players who participated
      * @param turns the history of turns taken during the game
      * @throws Exception if report generation fails
      */
-    void generate(Path path, String caseId, List<Player> players, List<String> turns) throws Exception;
+    default void generate(Path path, String caseId, List<Player> players, List<String> turns) throws Exception {
+        generate(path, caseId, players, TurnRecord.fromLegacy(players, turns));
+    }
 }
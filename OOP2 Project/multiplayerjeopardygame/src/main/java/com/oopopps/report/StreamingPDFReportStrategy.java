@@ -0,0 +1,90 @@
+package com.oopopps.report;
+
+import java.nio.file.Path;
+import java.util.List;
+import com.oopopps.Player;
+
+/**
+ * Implements the ReportStrategy interface to generate the same PDF report as
+ * {@link PDFReportStrategy}, written page by page instead of built as a whole
+ * document in memory first.
+ *
+ * Each page is written to the file as soon as it is full, and all pages share a
+ * single pair of fonts, so memory use stays flat however many turns the game
+ * had. Use this strategy for tournament-length sessions and other long reports.
+ */
+public class StreamingPDFReportStrategy implements ReportStrategy {
+    private static final float START_Y = 750;
+    private static final float MARGIN = 50;
+    private static final float LINE_HEIGHT = 14;
+
+    /**
+     * Generates a PDF report of the Jeopardy game session, streaming each page to
+     * the file as it is completed.
+     *
+     * @param path the file path where the PDF report will be saved
+     * @param caseId the unique identifier for this game session
+     * @param players the list of players who participated in the game
+     * @param turns the turns taken during the game, with their results and scores
+     * @throws Exception if the file cannot be written or path is inaccessible
+     */
+    @Override
+    public void generate(Path path, String caseId, List<Player> players, TurnRecord turns) throws Exception {
+        try (PDFStreamWriter pdf = new PDFStreamWriter(path)) {
+            pdf.newPage();
+            float currentY = START_Y;
+
+            // Title
+            pdf.text(true, 16, MARGIN, currentY, "JEOPARDY PROGRAMMING GAME REPORT");
+            currentY -= LINE_HEIGHT * 2;
+
+            pdf.text(false, 12, MARGIN, currentY, "Case ID: " + caseId);
+
+            // Players
+            StringBuilder playersText = new StringBuilder("Players: ");
+            for (int i = 0; i < players.size(); i++) {
+                playersText.append(players.get(i).getName());
+                if (i < players.size() - 1) playersText.append(", ");
+            }
+            pdf.text(false, 12, MARGIN, currentY - LINE_HEIGHT, playersText.toString());
+
+            // Gameplay Summary header
+            pdf.text(false, 12, MARGIN, currentY - LINE_HEIGHT * 2, "Gameplay Summary:");
+            pdf.text(false, 12, MARGIN, currentY - LINE_HEIGHT * 3, "-----------------");
+            currentY -= LINE_HEIGHT * 5.5f;
+
+            float textWidth = PDFStreamWriter.PAGE_WIDTH - MARGIN * 2;
+            for (int turn = 0; turn < turns.size(); turn++) {
+                List<String> lines = ReportLines.turnLines(players, turns, turn, 10, textWidth);
+
+                // Start a new page unless the whole turn fits above the bottom margin
+                if (currentY - (lines.size() - 1) * LINE_HEIGHT < PDFReportStrategy.BOTTOM_Y) {
+                    pdf.newPage();
+                    currentY = START_Y;
+                }
+
+                for (String line : lines) {
+                    if (currentY < PDFReportStrategy.BOTTOM_Y) { // Turn longer than a page
+                        pdf.newPage();
+                        currentY = START_Y;
+                    }
+                    pdf.text(false, 10, MARGIN, currentY, line);
+                    currentY -= LINE_HEIGHT;
+                }
+                currentY -= LINE_HEIGHT * 0.5f; // Extra space between turns
+            }
+
+            // Final scores
+            if (currentY < 150) {
+                pdf.newPage();
+                currentY = START_Y;
+            }
+
+            pdf.text(true, 12, MARGIN, currentY, "Final Scores:");
+            for (Player p : players) {
+                currentY -= LINE_HEIGHT;
+                pdf.text(false, 10, MARGIN, currentY, p.getName() + ": " + p.getScore());
+            }
+        }
+    }
+}
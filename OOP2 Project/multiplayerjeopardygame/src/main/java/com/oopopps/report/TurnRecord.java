@@ -0,0 +1,340 @@
+package com.oopopps.report;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.oopopps.CategoryDictionary;
+import com.oopopps.Player;
+import com.oopopps.Question;
+
+/**
+ * The turn history of one game, kept in parallel primitive arrays so reports can
+ * read every turn without formatting or parsing strings.
+ *
+ * Turn i was taken by the player at index {@link #getPlayer(int)} of the game's
+ * player list, on a question of category {@link #getCategory(int)} (an id in this
+ * record's {@link CategoryDictionary}) worth {@link #getValue(int)} points, and left
+ * that player with {@link #getScoreAfter(int)} points.
+ *
+ * Turns can be added with the score the game reported, or without one, in which
+ * case the record keeps a running score per player, starting from 0, and stores
+ * the player's running total after the turn. Either way reading a turn's score
+ * afterwards is a single array access.
+ *
+ * A record built over a {@link QuestionRegistry} also keeps the id of the
+ * question asked and the answer given in each turn, so reports can show them.
+ */
+public final class TurnRecord {
+    private final CategoryDictionary categories;
+    private final QuestionRegistry registry;
+    private int[] players = new int[16];
+    private int[] categoryIds = new int[16];
+    private int[] values = new int[16];
+    private int[] scoresAfter = new int[16];
+    private boolean[] correct = new boolean[16];
+    private int[] questionIds = new int[16];
+    private String[] answers = new String[16];
+    private int[] running = new int[4];
+    private int size;
+
+    /**
+     * Constructs an empty record with its own category dictionary.
+     */
+    public TurnRecord() {
+        this(new CategoryDictionary());
+    }
+
+    /**
+     * Constructs an empty record whose category ids refer to the given dictionary.
+     *
+     * @param categories the dictionary category ids are taken from
+     */
+    public TurnRecord(CategoryDictionary categories) {
+        this.categories = categories;
+        this.registry = null;
+    }
+
+    /**
+     * Constructs an empty record that keeps the questions and answers of its turns.
+     * Category ids refer to the registry's dictionary.
+     *
+     * @param registry the registry of the game's question set
+     */
+    public TurnRecord(QuestionRegistry registry) {
+        this.categories = registry.getCategories();
+        this.registry = registry;
+    }
+
+    /**
+     * Records a turn.
+     *
+     * @param player the index of the player in the game's player list
+     * @param category the category id
+     * @param value the question's point value
+     * @param correct whether the answer was correct
+     * @param scoreAfter the player's score after the turn
+     */
+    public void add(int player, int category, int value, boolean correct, int scoreAfter) {
+        append(player, category, value, correct, scoreAfter, -1, null);
+    }
+
+    /**
+     * Records the answer to a question. If the question is in this record's
+     * registry, its id and the answer are kept for {@link #getQuestionText(int)}
+     * and {@link #getAnswer(int)}; otherwise only its category and value are.
+     *
+     * @param player the index of the player in the game's player list
+     * @param question the question answered
+     * @param answer the answer given
+     * @param correct whether the answer was correct
+     * @param scoreAfter the player's score after the turn
+     */
+    public void add(int player, Question question, String answer, boolean correct, int scoreAfter) {
+        int id = registry == null ? -1 : registry.idOf(question);
+        if (id < 0) {
+            add(player, question.getCategory(), question.getValue(), correct, scoreAfter);
+        } else {
+            append(player, registry.getCategory(id), question.getValue(), correct, scoreAfter, id, answer);
+        }
+    }
+
+    /**
+     * Records a turn, computing the player's score after it from the points of
+     * the player's earlier turns in this record.
+     *
+     * @param player the index of the player in the game's player list
+     * @param category the category id
+     * @param value the question's point value
+     * @param correct whether the answer was correct
+     */
+    public void add(int player, int category, int value, boolean correct) {
+        if (player >= running.length) {
+            running = Arrays.copyOf(running, Math.max(player + 1, running.length * 2));
+        }
+        running[player] += correct ? value : -value;
+        add(player, category, value, correct, running[player]);
+    }
+
+    /**
+     * Records a turn, looking up the category's id.
+     *
+     * @param player the index of the player in the game's player list
+     * @param category the category name
+     * @param value the question's point value
+     * @param correct whether the answer was correct
+     * @param scoreAfter the player's score after the turn
+     */
+    public void add(int player, String category, int value, boolean correct, int scoreAfter) {
+        add(player, categories.idOf(category), value, correct, scoreAfter);
+    }
+
+    /**
+     * Appends a turn to the parallel arrays, growing them when full.
+     */
+    private void append(int player, int category, int value, boolean correct, int scoreAfter,
+            int questionId, String answer) {
+        if (size == players.length) {
+            int capacity = size * 2;
+            players = Arrays.copyOf(players, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            values = Arrays.copyOf(values, capacity);
+            scoresAfter = Arrays.copyOf(scoresAfter, capacity);
+            this.correct = Arrays.copyOf(this.correct, capacity);
+            questionIds = Arrays.copyOf(questionIds, capacity);
+            answers = Arrays.copyOf(answers, capacity);
+        }
+
+        players[size] = player;
+        categoryIds[size] = category;
+        values[size] = value;
+        scoresAfter[size] = scoreAfter;
+        this.correct[size] = correct;
+        questionIds[size] = questionId;
+        answers[size] = answer;
+        size++;
+    }
+
+    /**
+     * Gets the number of recorded turns.
+     *
+     * @return the turn count
+     */
+    public int size() { return size; }
+
+    /**
+     * Gets the index of the player who took a turn.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the player's index in the game's player list
+     */
+    public int getPlayer(int turn) { return players[check(turn)]; }
+
+    /**
+     * Gets the category id of a turn's question.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the category id
+     */
+    public int getCategory(int turn) { return categoryIds[check(turn)]; }
+
+    /**
+     * Gets the category name of a turn's question.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the category name
+     */
+    public String getCategoryName(int turn) { return categories.nameOf(getCategory(turn)); }
+
+    /**
+     * Gets the point value of a turn's question.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the point value
+     */
+    public int getValue(int turn) { return values[check(turn)]; }
+
+    /**
+     * Checks whether a turn's answer was correct.
+     *
+     * @param turn the turn index, starting at 0
+     * @return true if the answer was correct
+     */
+    public boolean isCorrect(int turn) { return correct[check(turn)]; }
+
+    /**
+     * Gets the points a turn gained or lost.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the value if the answer was correct, its negation otherwise
+     */
+    public int getPoints(int turn) { return isCorrect(turn) ? values[turn] : -values[turn]; }
+
+    /**
+     * Gets the score of the turn's player after the turn.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the score after the turn
+     */
+    public int getScoreAfter(int turn) { return scoresAfter[check(turn)]; }
+
+    /**
+     * Gets the id of the question asked in a turn.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the question id in this record's registry, or -1 if the question was not recorded
+     */
+    public int getQuestionId(int turn) { return questionIds[check(turn)]; }
+
+    /**
+     * Gets the text of the question asked in a turn.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the question text, or null if the question was not recorded
+     */
+    public String getQuestionText(int turn) {
+        int id = getQuestionId(turn);
+        return id < 0 ? null : registry.getQuestion(id).getQuestionText();
+    }
+
+    /**
+     * Gets the answer given in a turn.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the answer as given, or null if it was not recorded
+     */
+    public String getAnswer(int turn) { return answers[check(turn)]; }
+
+    /**
+     * Gets the text of the option the answer of a turn chose.
+     *
+     * @param turn the turn index, starting at 0
+     * @return the option text, or null if the answer or question was not recorded
+     *         or the question has no such option
+     */
+    public String getAnswerText(int turn) {
+        int id = getQuestionId(turn);
+        return id < 0 ? null : registry.getOptionText(id, answers[turn]);
+    }
+
+    /**
+     * Gets the dictionary the category ids refer to.
+     *
+     * @return the category dictionary
+     */
+    public CategoryDictionary getCategories() { return categories; }
+
+    /**
+     * Creates an independent copy of this record, sharing only its category
+     * dictionary, which never changes existing ids, and its question registry.
+     * Turns added to either record afterwards are not seen by the other.
+     *
+     * @return a copy of the turns recorded so far
+     */
+    public TurnRecord copy() {
+        TurnRecord copy = registry == null ? new TurnRecord(categories) : new TurnRecord(registry);
+        int capacity = Math.max(size, 1);
+        copy.players = Arrays.copyOf(players, capacity);
+        copy.categoryIds = Arrays.copyOf(categoryIds, capacity);
+        copy.values = Arrays.copyOf(values, capacity);
+        copy.scoresAfter = Arrays.copyOf(scoresAfter, capacity);
+        copy.correct = Arrays.copyOf(correct, capacity);
+        copy.questionIds = Arrays.copyOf(questionIds, capacity);
+        copy.answers = Arrays.copyOf(answers, capacity);
+        copy.running = running.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Builds a record from the string turn history used by earlier versions, in the
+     * format "Name: Category for 100 points — CORRECT (+100 points)". The strings
+     * carry no scores, so each turn's score after is computed in the same pass
+     * from the player's running total, assuming every player started at 0.
+     *
+     * @param players the game's players
+     * @param turns the formatted turns
+     * @return the equivalent record
+     * @throws IllegalArgumentException if a turn is malformed or names an unknown player
+     */
+    public static TurnRecord fromLegacy(List<Player> players, List<String> turns) {
+        Map<String, Integer> playerIndex = new HashMap<>();
+        for (int i = 0; i < players.size(); i++) {
+            playerIndex.putIfAbsent(players.get(i).getName(), i);
+        }
+
+        TurnRecord record = new TurnRecord();
+        for (String turn : turns) {
+            int dash = turn.lastIndexOf(" — ");
+            int forAt = dash < 0 ? -1 : turn.lastIndexOf(" for ", dash);
+
+            // Names may contain ": " too, so take the longest prefix that is a player's name
+            int player = -1;
+            int nameEnd = -1;
+            for (int colon = turn.indexOf(": "); colon >= 0 && colon < forAt; colon = turn.indexOf(": ", colon + 1)) {
+                Integer index = playerIndex.get(turn.substring(0, colon));
+                if (index != null) {
+                    player = index;
+                    nameEnd = colon;
+                }
+            }
+            if (player < 0) {
+                throw new IllegalArgumentException("Malformed turn: " + turn);
+            }
+
+            String category = turn.substring(nameEnd + 2, forAt);
+            String value = turn.substring(forAt + 5, dash).replace(" points", "");
+            boolean correct = turn.startsWith("CORRECT", dash + 3);
+            record.add(player, record.categories.idOf(category), Integer.parseInt(value.trim()), correct);
+        }
+        return record;
+    }
+
+    private int check(int turn) {
+        if (turn < 0 || turn >= size) {
+            throw new IndexOutOfBoundsException("Turn " + turn + " of " + size);
+        }
+        return turn;
+    }
+}
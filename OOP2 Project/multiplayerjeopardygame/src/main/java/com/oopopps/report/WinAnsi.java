@@ -0,0 +1,73 @@
+package com.oopopps.report;
+
+/**
+ * Maps text to WinAnsiEncoding, the encoding of the standard Helvetica fonts the
+ * PDF reports are written with. Question files may contain any character, and
+ * PDFBox refuses to show one the font cannot encode, so report text is passed
+ * through {@link #printable(String)} first.
+ */
+final class WinAnsi {
+    /** WinAnsiEncoding codes 0x80 to 0x9F, by code; 0 where the code is unused */
+    private static final char[] HIGH = {
+        '€', 0, '‚', 'ƒ', '„', '…', '†', '‡',
+        'ˆ', '‰', 'Š', '‹', 'Œ', 0, 'Ž', 0,
+        0, '‘', '’', '“', '”', '•', '–', '—',
+        '˜', '™', 'š', '›', 'œ', 0, 'ž', 'Ÿ'
+    };
+
+    private WinAnsi() {}
+
+    /**
+     * Maps a character to its WinAnsiEncoding code.
+     *
+     * @param c the character
+     * @return the code, or -1 if the character is a control character or has no code
+     */
+    static int encode(char c) {
+        if (c < 0x20 || c == 0x7F) {
+            return -1;
+        }
+        if (c < 0x80 || (c >= 0xA0 && c <= 0xFF)) {
+            return c;
+        }
+        for (int i = 0; i < HIGH.length; i++) {
+            if (HIGH[i] == c) {
+                return 0x80 + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Makes text safe to show on one line in a standard font: line breaks and tabs
+     * become spaces, and other characters the encoding cannot represent become '?'.
+     *
+     * @param text the text to show
+     * @return the text, unchanged if it was already printable
+     */
+    static String printable(String text) {
+        StringBuilder safe = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (encode(c) >= 0) {
+                if (safe != null) safe.append(c);
+                continue;
+            }
+            if (safe == null) {
+                safe = new StringBuilder(text.length()).append(text, 0, i);
+            }
+            if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                continue;
+            } else if (c == '\n' || c == '\r' || c == '\t') {
+                safe.append(' ');
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                safe.append('?');
+                i++;
+            } else {
+                safe.append('?');
+            }
+        }
+        return safe == null ? text : safe.toString();
+    }
+}
@@ -0,0 +1,392 @@
+package com.oopopps.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.oopopps.EventLogger;
+import com.oopopps.GameEngine;
+import com.oopopps.Question;
+import com.oopopps.QuestionSetCache;
+import com.oopopps.command.CommandJournal;
+import com.oopopps.command.QuestionSetStamp;
+import com.oopopps.leaderboard.Leaderboard;
+import com.oopopps.log.AsyncEventSink;
+import com.oopopps.log.CsvEventSink;
+import com.oopopps.report.QuestionRegistry;
+
+/**
+ * Hosts many independent Jeopardy games in a single process.
+ * Every session runs its own GameEngine on its own thread, reading player input
+ * from and writing game output to the channels it was started with: a TCP socket,
+ * an in-memory stream, or anything else that provides byte streams.
+ *
+ * The question set is loaded once and shared read-only by every session, and all
+ * sessions append to one shared event log, each under its own case ID. The log
+ * is written asynchronously so that file I/O stays off the session threads.
+ * Sessions run on virtual threads when the runtime provides them (on Java 19 only
+ * with --enable-preview) and fall back to a bounded pool of platform threads
+ * otherwise; the event log records which one is in use. Every session reports
+ * its scores to one {@link Leaderboard}, which is saved in the work directory.
+ *
+ * A session ends as soon as its game is over; its reports are rendered in the
+ * background afterwards, and the server waits for any still pending when it is closed.
+ *
+ * Every game is journaled under its game ID in the journals folder of the work
+ * directory (see {@link CommandJournal}). A session started with the ID of a game
+ * that was cut short, by a disconnect or by the server dying, resumes that game.
+ * A TCP client is asked for a game ID first: it sends the ID of a game to resume,
+ * or an empty line for a new game, whose ID it is then told. A game ID can only be
+ * played by one session at a time.
+ */
+public class GameServer implements Closeable {
+    /** The longest game ID line read from a TCP client */
+    private static final int MAX_LINE = 256;
+    /** The most sessions played at once when sessions run on platform threads; later sessions wait */
+    private static final int MAX_PLATFORM_SESSIONS = 256;
+
+    private final QuestionRegistry questions;
+    private final QuestionSetStamp questionStamp;
+    private final EventLogger log;
+    private final Leaderboard leaderboard;
+    private final Path reportRoot;
+    private final Path journalRoot;
+    private final ExecutorService sessions;
+    private final AtomicLong sessionCounter = new AtomicLong();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Set<String> liveGames = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<Void>> pendingReports = ConcurrentHashMap.newKeySet();
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Constructs a server whose sessions share the given questions.
+     * The event log and per-session report folders are created under the work directory.
+     *
+     * @param questions the question set every session plays with
+     * @param workDirectory the directory for game_log.csv, leaderboard.dat and the reports and journals folders
+     * @throws Exception if the work directory or event log cannot be created
+     */
+    public GameServer(List<Question> questions, Path workDirectory) throws Exception {
+        this(questions, workDirectory, newSessionExecutor());
+        log.log(null, "Session Executor", null, null, null, sessions instanceof ThreadPoolExecutor
+                ? "Platform threads (at most " + MAX_PLATFORM_SESSIONS + ")" : "Virtual threads", 0);
+    }
+
+    /**
+     * Constructs a server that runs its sessions on the given executor.
+     *
+     * @param questions the question set every session plays with
+     * @param workDirectory the directory for game_log.csv, leaderboard.dat and the reports and journals folders
+     * @param sessions the executor each session is submitted to
+     * @throws Exception if the work directory, event log or leaderboard cannot be created
+     */
+    public GameServer(List<Question> questions, Path workDirectory, ExecutorService sessions) throws Exception {
+        Files.createDirectories(workDirectory);
+        this.questions = new QuestionRegistry(List.copyOf(questions));
+        this.questionStamp = QuestionSetStamp.of(this.questions.getQuestions(), QuestionSetStamp.UNKNOWN_MODIFIED);
+        this.reportRoot = workDirectory.resolve("reports");
+        this.journalRoot = Files.createDirectories(workDirectory.resolve("journals"));
+        this.log = new EventLogger(
+                new AsyncEventSink(new CsvEventSink(workDirectory.resolve("game_log.csv").toString())), "SERVER");
+        this.sessions = sessions;
+        this.leaderboard = new Leaderboard(workDirectory.resolve("leaderboard.dat"), log);
+        leaderboard.start(Duration.ofSeconds(10));
+    }
+
+    /**
+     * Starts a new game session over the given channels.
+     * The session reads until the game ends or the input is exhausted. The game's
+     * reports may still be rendering when the session has ended; the output channel
+     * is closed once they have been written, after the game has said how that went.
+     *
+     * @param in the channel player input is read from
+     * @param out the channel game output is written to
+     * @return a future that completes when the session has ended
+     */
+    public Future<?> startSession(InputStream in, OutputStream out) {
+        return startSession(newGameId(), in, out);
+    }
+
+    /**
+     * Starts a game session with the given game ID over the given channels. If a
+     * game with this ID was cut short, the session resumes it where it stopped.
+     *
+     * @param gameId the game ID, made of letters, digits, '-' and '_'
+     * @param in the channel player input is read from
+     * @param out the channel game output is written to
+     * @return a future that completes when the session has ended
+     * @throws IllegalArgumentException if the game ID contains other characters
+     * @throws IllegalStateException if a session with this game ID is still running
+     */
+    public Future<?> startSession(String gameId, InputStream in, OutputStream out) {
+        if (!isValidGameId(gameId)) {
+            throw new IllegalArgumentException("Invalid game ID: " + gameId);
+        }
+        if (!liveGames.add(gameId)) {
+            throw new IllegalStateException("Game " + gameId + " is already being played");
+        }
+
+        try {
+            return sessions.submit(() -> runSession(gameId, in, new PrintStream(out, true, StandardCharsets.UTF_8)));
+        } catch (RuntimeException e) {
+            liveGames.remove(gameId);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a session for a TCP client. The client first sends the ID of the game
+     * to resume, or an empty line to start a new game; the session then tells it
+     * the game's ID, so it can reconnect to the game if it is disconnected.
+     * Closing the socket's input stream would close the socket, so the game's
+     * input is shielded from that; the socket closes with its output, after the
+     * game ID has been freed.
+     */
+    private void startSocketSession(Socket client) throws IOException {
+        InputStream in = new FilterInputStream(client.getInputStream()) {
+            @Override
+            public void close() {}
+        };
+        OutputStream out = client.getOutputStream();
+
+        sessions.submit(() -> {
+            PrintStream ps = new PrintStream(out, true, StandardCharsets.UTF_8);
+            ps.print("Game ID to resume (press Enter to start a new game): ");
+            ps.flush();
+
+            String gameId;
+            try {
+                gameId = readLine(in);
+            } catch (IOException e) {
+                gameId = null;
+            }
+            if (gameId == null) {
+                ps.close();
+                return;
+            }
+            gameId = gameId.trim();
+            if (gameId.isEmpty()) {
+                gameId = newGameId();
+            } else if (!isValidGameId(gameId)) {
+                ps.println("Invalid game ID: " + gameId);
+                ps.close();
+                return;
+            }
+            if (!liveGames.add(gameId)) {
+                ps.println("Game " + gameId + " is already being played");
+                ps.close();
+                return;
+            }
+
+            ps.println("Game ID: " + gameId + " (connect again with it to resume this game)");
+            runSession(gameId, in, ps);
+        });
+    }
+
+    /**
+     * Runs a session of a game ID already marked live on the calling thread, and
+     * frees the game ID once the game is over.
+     * The output stays open until the game's reports are written, so the players hear how that went.
+     */
+    private void runSession(String gameId, InputStream in, PrintStream ps) {
+        activeSessions.incrementAndGet();
+        CompletableFuture<Void> reports = CompletableFuture.completedFuture(null);
+        try {
+            reports = play(gameId, in, ps);
+        } finally {
+            activeSessions.decrementAndGet();
+            liveGames.remove(gameId);
+
+            CompletableFuture<Void> pending = reports;
+            pendingReports.add(pending);
+            pending.whenComplete((ignored, failure) -> {
+                ps.close();
+                pendingReports.remove(pending);
+            });
+        }
+    }
+
+    /**
+     * Plays one game over the given channels.
+     *
+     * @return the completion of the game's reports
+     */
+    private CompletableFuture<Void> play(String gameId, InputStream in, PrintStream ps) {
+        CommandJournal journal;
+        try {
+            journal = CommandJournal.open(journalRoot.resolve(gameId + ".journal"), questions.getQuestions(),
+                    questionStamp);
+        } catch (IOException e) {
+            ps.println("Error opening game journal: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        GameEngine game = new GameEngine(questions, log.forCase(gameId), in, ps, journal);
+        game.setReportDirectory(reportRoot.resolve(gameId));
+        game.addScoreObserver(leaderboard);
+        game.run();
+        return game.getReports();
+    }
+
+    /**
+     * Starts accepting TCP connections on the given port, one game session per connection.
+     * Connections are accepted on a background thread until the server is closed.
+     *
+     * @param port the port to listen on, or 0 to pick a free port
+     * @return the port the server is listening on
+     * @throws IOException if the port cannot be bound
+     */
+    public int listen(int port) throws IOException {
+        ServerSocket socket = new ServerSocket(port);
+        serverSocket = socket;
+
+        Thread acceptor = new Thread(() -> {
+            while (!socket.isClosed()) {
+                try {
+                    Socket client = socket.accept();
+                    startSocketSession(client);
+                } catch (IOException e) {
+                    if (!socket.isClosed()) {
+                        log.log(null, "Accept Error", null, null, null, e.getClass().getSimpleName(), 0);
+                    }
+                }
+            }
+        }, "jeopardy-acceptor");
+        acceptor.start();
+
+        return socket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of sessions that are currently being played.
+     *
+     * @return the number of running sessions
+     */
+    public int getActiveSessions() { return activeSessions.get(); }
+
+    /**
+     * Gets the leaderboard aggregating the scores of all sessions.
+     *
+     * @return the shared leaderboard
+     */
+    public Leaderboard getLeaderboard() { return leaderboard; }
+
+    /**
+     * Stops accepting connections, waits for running sessions and their reports to
+     * finish, saves the leaderboard and closes the shared log.
+     *
+     * @throws IOException if the listening socket cannot be closed or the leaderboard cannot be saved
+     */
+    @Override
+    public void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close();
+        }
+
+        sessions.shutdown();
+        try {
+            sessions.awaitTermination(1, TimeUnit.MINUTES);
+            CompletableFuture.allOf(pendingReports.toArray(new CompletableFuture<?>[0])).get(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed reports were already reported to their sessions
+        }
+        try {
+            leaderboard.close();
+        } finally {
+            log.close();
+        }
+    }
+
+    private String newGameId() {
+        return "GAME-" + System.currentTimeMillis() + "-" + sessionCounter.incrementAndGet();
+    }
+
+    private static boolean isValidGameId(String gameId) {
+        return gameId.matches("[A-Za-z0-9_-]+");
+    }
+
+    /**
+     * Reads one line of at most {@link #MAX_LINE} bytes, byte by byte so that none
+     * of the input after it is consumed.
+     *
+     * @return the line without its terminator, or null if the input ended first
+     */
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) return null;
+            if (line.size() < MAX_LINE && b != '\r') line.write(b);
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates the executor sessions run on: one virtual thread per session when the
+     * runtime supports them, otherwise a pool of at most {@link #MAX_PLATFORM_SESSIONS}
+     * daemon platform threads. On Java 19 virtual threads are a preview feature and
+     * are only available when the JVM runs with --enable-preview.
+     *
+     * @return the session executor
+     */
+    private static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(MAX_PLATFORM_SESSIONS, MAX_PLATFORM_SESSIONS,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                        Thread t = new Thread(task, "jeopardy-session-" + threadCount.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    /**
+     * Starts a game server from the command line. The port it listens on is
+     * recorded in the event log in the server directory.
+     *
+     * @param args the port and the question file (XML, JSON, or CSV)
+     * @throws Exception if the questions cannot be loaded or the port cannot be bound
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        Path questionFile = Paths.get(args.length > 1 ? args[1] : "src/main/resources/sample_game_XML.xml");
+
+        List<Question> questions = QuestionSetCache.shared().get(questionFile);
+        GameServer server = new GameServer(questions, Paths.get("server"));
+        int listening = server.listen(port);
+        server.log.log(null, "Server Listening", null, null, null,
+                "Port " + listening + " with " + questions.size() + " questions", 0);
+    }
+}
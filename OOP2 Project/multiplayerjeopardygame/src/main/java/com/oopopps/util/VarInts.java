@@ -0,0 +1,99 @@
+package com.oopopps.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Variable-length integer encoding shared by the binary file formats.
+ * Values are written seven bits per byte, least significant group first, with the
+ * high bit marking that another byte follows. Signed values are zig-zag encoded
+ * first so that small negative numbers stay short too.
+ */
+public final class VarInts {
+
+    private VarInts() {}
+
+    /**
+     * Writes a non-negative value.
+     * 
+     * @param out the destination
+     * @param value the value to write, treated as unsigned
+     * @throws IOException if writing fails
+     */
+    public static void writeUnsigned(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Writes a signed value using zig-zag encoding.
+     * 
+     * @param out the destination
+     * @param value the value to write
+     * @throws IOException if writing fails
+     */
+    public static void writeSigned(DataOutput out, long value) throws IOException {
+        writeUnsigned(out, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reads a value written by {@link #writeUnsigned(DataOutput, long)}.
+     * 
+     * @param in the source
+     * @return the decoded value
+     * @throws IOException if reading fails or the encoding is malformed
+     */
+    public static long readUnsigned(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Reads a value written by {@link #writeSigned(DataOutput, long)}.
+     * 
+     * @param in the source
+     * @return the decoded value
+     * @throws IOException if reading fails or the encoding is malformed
+     */
+    public static long readSigned(DataInput in) throws IOException {
+        long raw = readUnsigned(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Reads an unsigned value from a buffer, advancing its position.
+     * 
+     * @param buf the source
+     * @return the decoded value
+     */
+    public static long readUnsigned(ByteBuffer buf) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buf.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalStateException("Malformed variable-length integer");
+    }
+
+    /**
+     * Reads a zig-zag encoded signed value from a buffer, advancing its position.
+     * 
+     * @param buf the source
+     * @return the decoded value
+     */
+    public static long readSigned(ByteBuffer buf) {
+        long raw = readUnsigned(buf);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
@@ -1,16 +1,24 @@
 package com.oopopps;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import com.oopopps.command.AnswerCommand;
+import com.oopopps.command.Command;
+import com.oopopps.command.RemoteControl;
 import com.oopopps.display.ScoreObserver;
 
 
@@ -153,4 +161,132 @@ class AnswerCommandTest {
         assertTrue(description.contains("100"), "Description should contain question value");
         logger.close();
     }
+
+    /**
+     * Tests that both answer forms are accepted, in any case and with surrounding whitespace,
+     * whichever form the question file uses.
+     */
+    @Test
+    void answerFormsAreEquivalent() {
+        Question shortForm = makeSampleQuestion();
+        Question longForm = makeSampleQuestion();
+        longForm.setCorrectAnswer(" OptionA ");
+
+        for (Question question : List.of(shortForm, longForm)) {
+            assertEquals("A", question.getAnswerKey().getId());
+            for (String given : List.of("A", "a", "OptionA", " optiona ", "OPTIONA")) {
+                AnswerCommand command = new AnswerCommand(makePlayer("P5", "Eve"), question, given, null, null);
+                command.execute();
+                assertTrue(command.isCorrect(), "Answer '" + given + "' should be correct");
+            }
+            assertFalse(question.getAnswerKey().matches("OptionB"));
+            assertFalse(question.getAnswerKey().matches("AA"));
+            assertFalse(question.getAnswerKey().matches("Option"));
+        }
+    }
+
+    /**
+     * Tests that a bare "Option" answer is its own id rather than an empty one,
+     * that a blank answer matches nothing, and that ids do not depend on the locale.
+     */
+    @Test
+    void unusualAnswersResolveSafely() {
+        AnswerKey bare = AnswerKey.of("Option");
+        assertEquals("OPTION", bare.getId());
+        assertTrue(bare.matches(" option "));
+        assertFalse(bare.matches(""));
+        assertFalse(bare.matches("   "));
+
+        assertSame(AnswerKey.NONE, AnswerKey.of("  "));
+        assertFalse(AnswerKey.of("").matches(""));
+
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            AnswerKey key = AnswerKey.of("optioni");
+            assertEquals("I", key.getId());
+            assertTrue(key.matches("i"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * Tests grading a batch of answers in one call.
+     */
+    @Test
+    void bulkGradingCountsCorrectAnswers() {
+        Question q = makeSampleQuestion();
+        List<Question> questions = List.of(q, q, q, q);
+        boolean[] correct = new boolean[4];
+
+        int count = AnswerKey.grade(questions, List.of("A", "OptionB", "optionA", "C"), correct);
+
+        assertEquals(2, count);
+        assertTrue(correct[0]);
+        assertFalse(correct[1]);
+        assertTrue(correct[2]);
+        assertFalse(correct[3]);
+    }
+
+    /**
+     * Tests that a batch of answers notifies the scoreboard once per player
+     * and writes one log row per answer.
+     * 
+     * @throws Exception if the log file cannot be written or read
+     */
+    @Test
+    void batchCoalescesNotifications() throws Exception {
+        Player dee = makePlayer("P1", "Dee");
+        Player frank = makePlayer("P2", "Frank");
+        Question question = makeSampleQuestion();
+        Path logFile = tempDir.resolve("batch.csv");
+        List<String> notified = new ArrayList<>();
+
+        ScoreObserver scoreboard = player -> notified.add(player.getName());
+
+        EventLogger logger = new EventLogger(logFile.toString(), "TEST-GAME");
+        List<AnswerCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            commands.add(new AnswerCommand(i % 2 == 0 ? dee : frank, question, i % 3 == 0 ? "B" : "A",
+                    logger, scoreboard));
+        }
+        RemoteControl remote = new RemoteControl();
+        remote.executeBatch(commands);
+        logger.close();
+
+        assertEquals(List.of("Dee", "Frank"), notified);
+        assertEquals(100, dee.getScore());
+        assertEquals(100, frank.getScore());
+        assertEquals(10, remote.getUndoDepth());
+        long rows = Files.readAllLines(logFile).stream().filter(line -> line.contains("Answer Question")).count();
+        assertEquals(10, rows);
+    }
+
+    /**
+     * Tests that a failing command rolls back the whole batch without
+     * notifying the scoreboard.
+     */
+    @Test
+    void failedBatchRollsBack() {
+        Player player = makePlayer("P1", "Dee");
+        Question question = makeSampleQuestion();
+        List<String> notified = new ArrayList<>();
+        Command failing = new Command() {
+            public void execute() { throw new IllegalStateException("buzzer jammed"); }
+            public void undo() {}
+            public String getDescription() { return "Failing command"; }
+        };
+
+        RemoteControl remote = new RemoteControl();
+        List<Command> commands = List.of(
+                new AnswerCommand(player, question, "A", null, p -> notified.add(p.getName())),
+                new AnswerCommand(player, question, "A", null, p -> notified.add(p.getName())),
+                failing);
+        assertThrows(IllegalStateException.class, () -> remote.executeBatch(commands));
+
+        assertEquals(0, player.getScore());
+        assertTrue(notified.isEmpty());
+        assertEquals(0, remote.getUndoDepth());
+    }
 }
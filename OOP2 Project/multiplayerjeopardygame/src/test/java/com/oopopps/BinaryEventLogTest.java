@@ -0,0 +1,165 @@
+package com.oopopps;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.oopopps.log.BinaryEventLogReader;
+import com.oopopps.log.BinaryEventSink;
+import com.oopopps.log.BinaryLogConverter;
+import com.oopopps.log.CsvEventSink;
+import com.oopopps.log.LogEvent;
+
+/**
+ * Test suite for the binary columnar event log format.
+ * Validates that events survive a write/read round trip across blocks and
+ * appended segments, that time-range reads skip unwanted blocks, and that the
+ * converter reproduces the CSV process-mining log byte for byte.
+ */
+class BinaryEventLogTest {
+
+    /**
+     * Temporary directory for isolated log file testing with automatic cleanup.
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Builds a sequence of answer events one second apart.
+     * 
+     * @param count the number of events
+     * @param start the timestamp of the first event
+     * @return the generated events
+     */
+    private List<LogEvent> events(int count, Instant start) {
+        List<LogEvent> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(new LogEvent("GAME-" + (i / 50), "P" + (i % 4 + 1), "Answer Question",
+                    start.plusSeconds(i).plusNanos(i * 1000L), i % 3 == 0 ? "Arrays" : "Pointers",
+                    String.valueOf(100 * (i % 5 + 1)), "A", i % 2 == 0 ? "Correct" : "Incorrect", i * 100 - 5000));
+        }
+        return events;
+    }
+
+    /**
+     * Tests that events written in several blocks and two segments read back unchanged.
+     * 
+     * @throws Exception if file I/O operations fail
+     */
+    @Test
+    void testRoundTripAcrossBlocksAndSegments() throws Exception {
+        Path log = tempDir.resolve("game_log.bin");
+        List<LogEvent> written = events(300, Instant.parse("2026-01-01T10:00:00Z"));
+
+        try (BinaryEventSink sink = new BinaryEventSink(log.toString(), 64)) {
+            sink.writeAll(written.subList(0, 200));
+        }
+        try (BinaryEventSink sink = new BinaryEventSink(log.toString(), 64)) {
+            for (LogEvent e : written.subList(200, 300)) {
+                sink.write(e);
+            }
+        }
+
+        List<LogEvent> read;
+        try (BinaryEventLogReader reader = new BinaryEventLogReader(log)) {
+            read = reader.readAll();
+        }
+
+        assertEquals(written.size(), read.size());
+        for (int i = 0; i < written.size(); i++) {
+            LogEvent a = written.get(i);
+            LogEvent b = read.get(i);
+            assertEquals(a.getCaseId(), b.getCaseId());
+            assertEquals(a.getPlayerId(), b.getPlayerId());
+            assertEquals(a.getTimestamp(), b.getTimestamp());
+            assertEquals(a.getCategory(), b.getCategory());
+            assertEquals(a.getQuestionValue(), b.getQuestionValue());
+            assertEquals(a.getResult(), b.getResult());
+            assertEquals(a.getScoreAfter(), b.getScoreAfter());
+        }
+    }
+
+    /**
+     * Tests reading only the events inside a time window.
+     * 
+     * @throws Exception if file I/O operations fail
+     */
+    @Test
+    void testTimeRangeRead() throws Exception {
+        Path log = tempDir.resolve("range.bin");
+        Instant start = Instant.parse("2026-01-01T10:00:00Z");
+
+        try (BinaryEventSink sink = new BinaryEventSink(log.toString(), 32)) {
+            sink.writeAll(events(200, start));
+        }
+
+        List<LogEvent> window = new ArrayList<>();
+        try (BinaryEventLogReader reader = new BinaryEventLogReader(log)) {
+            reader.forEachBetween(start.plusSeconds(100), start.plusSeconds(109).plusMillis(1), window::add);
+        }
+
+        assertEquals(10, window.size());
+        assertEquals(start.plusSeconds(100).plusNanos(100_000), window.get(0).getTimestamp());
+    }
+
+    /**
+     * Tests that converting a binary log yields exactly the CSV the CSV sink writes,
+     * and that the binary log is much smaller.
+     * 
+     * @throws Exception if file I/O operations fail
+     */
+    @Test
+    void testConvertToCsvMatchesCsvLog() throws Exception {
+        List<LogEvent> events = events(2000, Instant.parse("2026-01-01T10:00:00Z"));
+
+        Path expected = tempDir.resolve("expected.csv");
+        try (CsvEventSink csv = new CsvEventSink(expected.toString())) {
+            csv.writeAll(events);
+        }
+
+        Path binary = tempDir.resolve("log.bin");
+        try (BinaryEventSink sink = new BinaryEventSink(binary.toString())) {
+            sink.writeAll(events);
+        }
+
+        Path converted = tempDir.resolve("converted.csv");
+        assertEquals(2000, BinaryLogConverter.toCsv(binary, converted));
+        assertEquals(Files.readString(expected), Files.readString(converted));
+        assertTrue(Files.size(binary) * 4 < Files.size(expected));
+    }
+
+    /**
+     * Tests that a partial block is written once its oldest event has waited the
+     * flush delay, so a quiet log does not keep its last events in memory only.
+     * 
+     * @throws Exception if file I/O operations fail
+     */
+    @Test
+    void testPartialBlockWrittenAfterFlushDelay() throws Exception {
+        Path log = tempDir.resolve("idle.bin");
+        List<LogEvent> written = events(5, Instant.parse("2026-01-01T10:00:00Z"));
+
+        try (BinaryEventSink sink = new BinaryEventSink(log.toString(), 1024, Duration.ofMillis(50))) {
+            sink.writeAll(written);
+
+            List<LogEvent> read = List.of();
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (read.size() < written.size() && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+                try (BinaryEventLogReader reader = new BinaryEventLogReader(log)) {
+                    read = reader.readAll();
+                }
+            }
+            assertEquals(written.size(), read.size());
+            assertEquals(written.get(4).getTimestamp(), read.get(4).getTimestamp());
+        }
+    }
+}
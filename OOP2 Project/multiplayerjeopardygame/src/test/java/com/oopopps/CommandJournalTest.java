@@ -0,0 +1,265 @@
+package com.oopopps;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.oopopps.command.AnswerCommand;
+import com.oopopps.command.CommandJournal;
+import com.oopopps.command.QuestionSetStamp;
+import com.oopopps.command.RemoteControl;
+
+/**
+ * Unit test suite for the CommandJournal that makes games recoverable.
+ * Plays games through a journaled RemoteControl, then reopens the journal as a
+ * restarted process would and checks the recovered players, scores and undo history.
+ */
+class CommandJournalTest {
+
+    /** Temporary directory holding the journal and its snapshot */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Builds a question set of the given size, each question worth 100 points
+     * with A as the correct answer.
+     * 
+     * @param count the number of questions
+     * @return the questions
+     */
+    private List<Question> questions(int count) {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Question q = new Question("Category" + (i % 5), 100, "Question " + i);
+            q.setCorrectAnswer("A");
+            questions.add(q);
+        }
+        return questions;
+    }
+
+    /**
+     * Tests that a game is recovered from its journal, that a torn record left by
+     * a crash is discarded, and that the recovered game keeps journaling.
+     */
+    @Test
+    void testRecoverAfterCrash() throws Exception {
+        Path file = tempDir.resolve("game.journal");
+        List<Question> questions = questions(10);
+
+        CommandJournal journal = CommandJournal.open(file, questions);
+        Player ada = new Player("P1", "Ada");
+        Player bob = new Player("P2", "Bob");
+        journal.playerJoined(ada);
+        journal.playerJoined(bob);
+
+        RemoteControl remote = new RemoteControl(journal);
+        remote.executeCommand(new AnswerCommand(ada, questions.get(0), "A", null, null));
+        remote.executeCommand(new AnswerCommand(bob, questions.get(1), "B", null, null));
+        remote.executeCommand(new AnswerCommand(ada, questions.get(2), "OptionA", null, null));
+        remote.undoLast();
+        // No close: the process dies here, halfway through writing another record
+        Files.write(file, new byte[] { 0, 0, 0, 40, 1, 2 }, StandardOpenOption.APPEND);
+
+        try (CommandJournal reopened = CommandJournal.open(file, questions)) {
+            CommandJournal.Recovery recovery = reopened.recover(null);
+            List<Player> players = recovery.getPlayers();
+            assertEquals(2, players.size());
+            assertEquals("Ada", players.get(0).getName());
+            assertEquals(100, players.get(0).getScore());
+            assertEquals(-100, players.get(1).getScore());
+            assertEquals(List.of(questions.get(0), questions.get(1), questions.get(2)), recovery.getAnsweredQuestions());
+
+            recovery.getRemoteControl().undoLast();
+            assertEquals(0, players.get(1).getScore());
+        }
+        journal.close();
+
+        try (CommandJournal reopened = CommandJournal.open(file, questions)) {
+            List<Player> players = reopened.recover(null).getPlayers();
+            assertEquals(100, players.get(0).getScore());
+            assertEquals(0, players.get(1).getScore());
+        }
+    }
+
+    /**
+     * Tests that recovery from a snapshot plus the records after it gives the
+     * same state as the full game.
+     */
+    @Test
+    void testRecoverFromSnapshot() throws Exception {
+        Path file = tempDir.resolve("long.journal");
+        List<Question> questions = questions(500);
+        Player ada = new Player("P1", "Ada");
+        Player bob = new Player("P2", "Bob");
+
+        try (CommandJournal journal = CommandJournal.open(file, questions, 64)) {
+            RemoteControl remote = new RemoteControl(journal);
+            for (int i = 0; i < questions.size(); i++) {
+                Player player = i % 2 == 0 ? ada : bob;
+                remote.executeCommand(new AnswerCommand(player, questions.get(i), i % 3 == 0 ? "B" : "A", null, null));
+                if (i % 7 == 0) {
+                    remote.undoLast();
+                }
+            }
+        }
+        assertTrue(Files.exists(tempDir.resolve("long.journal.snap")));
+
+        try (CommandJournal reopened = CommandJournal.open(file, questions)) {
+            CommandJournal.Recovery recovery = reopened.recover(null);
+            assertEquals(ada.getScore(), recovery.getPlayers().get(0).getScore());
+            assertEquals(bob.getScore(), recovery.getPlayers().get(1).getScore());
+            assertEquals(questions.size(), recovery.getAnsweredQuestions().size());
+        }
+    }
+
+    /**
+     * Tests that a batch holding an answer outside the journaled question set is
+     * rejected before any of its commands runs, and that answers the journal cannot
+     * record are rolled back without notifying anyone.
+     */
+    @Test
+    void testUnjournaledAnswersAreRolledBack() throws Exception {
+        Path file = tempDir.resolve("atomic.journal");
+        List<Question> questions = questions(3);
+        Question stranger = questions(1).get(0);
+        Player ada = new Player("P1", "Ada");
+        List<String> notified = new ArrayList<>();
+
+        CommandJournal journal = CommandJournal.open(file, questions);
+        RemoteControl remote = new RemoteControl(journal);
+        List<AnswerCommand> batch = List.of(
+                new AnswerCommand(ada, questions.get(0), "A", null, p -> notified.add(p.getName())),
+                new AnswerCommand(ada, stranger, "A", null, p -> notified.add(p.getName())));
+        assertThrows(IllegalArgumentException.class, () -> remote.executeBatch(batch));
+        assertEquals(0, ada.getScore());
+        assertEquals(0, remote.getUndoDepth());
+
+        journal.close();
+        assertThrows(IllegalStateException.class, () -> remote.executeCommand(
+                new AnswerCommand(ada, questions.get(1), "A", null, p -> notified.add(p.getName()))));
+        assertEquals(0, ada.getScore());
+        assertEquals(0, remote.getUndoDepth());
+        assertTrue(notified.isEmpty());
+
+        try (CommandJournal reopened = CommandJournal.open(file, questions)) {
+            CommandJournal.Recovery recovery = reopened.recover(null);
+            assertTrue(recovery.getPlayers().isEmpty());
+            assertTrue(recovery.getAnsweredQuestions().isEmpty());
+        }
+    }
+
+    /**
+     * Tests that answers evicted from the remote control's history are dropped
+     * from the journal's history too, that their points and turns survive recovery,
+     * and that recovery honours the requested history capacity.
+     */
+    @Test
+    void testEvictedAnswersKeepTheirPoints() throws Exception {
+        Path file = tempDir.resolve("bounded.journal");
+        List<Question> questions = questions(40);
+        Player ada = new Player("P1", "Ada");
+        Player bob = new Player("P2", "Bob");
+
+        try (CommandJournal journal = CommandJournal.open(file, questions, 7)) {
+            RemoteControl remote = new RemoteControl(4, journal, null);
+            for (int i = 0; i < questions.size(); i++) {
+                Player player = i % 2 == 0 ? ada : bob;
+                remote.executeCommand(new AnswerCommand(player, questions.get(i), i % 3 == 0 ? "B" : "A", null, null));
+            }
+            assertEquals(4, remote.getUndoDepth());
+        }
+
+        try (CommandJournal reopened = CommandJournal.open(file, questions)) {
+            CommandJournal.Recovery recovery = reopened.recover(null, 4);
+            assertEquals(4, recovery.getRemoteControl().getUndoDepth());
+            assertEquals(ada.getScore(), recovery.getPlayers().get(0).getScore());
+            assertEquals(bob.getScore(), recovery.getPlayers().get(1).getScore());
+
+            // Every turn is kept for the reports, evicted or not, with running scores adding up
+            List<CommandJournal.Turn> turns = recovery.getTurns();
+            assertEquals(questions.size(), turns.size());
+            assertEquals(questions.get(0), turns.get(0).getQuestion());
+            assertEquals(ada.getScore(), turns.get(38).getScoreAfter());
+            assertEquals(bob.getScore(), turns.get(39).getScoreAfter());
+
+            // The last answer was Bob's wrong answer to a question worth 100
+            assertEquals(1, recovery.getRemoteControl().undo(1));
+            assertEquals(bob.getScore() + 100, recovery.getPlayers().get(1).getScore());
+        }
+
+        try (CommandJournal reopened = CommandJournal.open(file, questions)) {
+            CommandJournal.Recovery recovery = reopened.recover(null, 2);
+            assertEquals(2, recovery.getRemoteControl().getUndoDepth());
+            assertEquals(ada.getScore(), recovery.getPlayers().get(0).getScore());
+            assertEquals(bob.getScore() + 100, recovery.getPlayers().get(1).getScore());
+            assertEquals(questions.size() - 1, recovery.getTurns().size());
+        }
+    }
+
+    /**
+     * Tests that a journal is only replayed onto the question set it was written
+     * against, and is discarded when the questions or their file have changed.
+     */
+    @Test
+    void testJournalOfOtherQuestionsIsDiscarded() throws Exception {
+        Path file = tempDir.resolve("stamped.journal");
+        List<Question> questions = questions(5);
+        QuestionSetStamp stamp = QuestionSetStamp.of(questions, 1000);
+
+        try (CommandJournal journal = CommandJournal.open(file, questions, stamp)) {
+            assertFalse(journal.isDiscarded());
+            new RemoteControl(journal).executeCommand(
+                    new AnswerCommand(new Player("P1", "Ada"), questions.get(0), "A", null, null));
+        }
+
+        try (CommandJournal same = CommandJournal.open(file, questions, QuestionSetStamp.of(questions(5), 1000))) {
+            assertFalse(same.isDiscarded());
+            assertEquals(100, same.recover(null).getPlayers().get(0).getScore());
+        }
+
+        try (CommandJournal touched = CommandJournal.open(file, questions, QuestionSetStamp.of(questions, 2000))) {
+            assertTrue(touched.isDiscarded());
+            assertTrue(touched.recover(null).getPlayers().isEmpty());
+        }
+
+        List<Question> edited = questions(5);
+        edited.get(3).setCorrectAnswer("B");
+        try (CommandJournal journal = CommandJournal.open(file, questions, stamp)) {
+            new RemoteControl(journal).executeCommand(
+                    new AnswerCommand(new Player("P1", "Ada"), questions.get(0), "A", null, null));
+        }
+        try (CommandJournal other = CommandJournal.open(file, edited, QuestionSetStamp.of(edited, 1000))) {
+            assertTrue(other.isDiscarded());
+            assertTrue(other.recover(null).getPlayers().isEmpty());
+        }
+    }
+
+    /**
+     * Tests that an answer is only undone once its undo is journaled, so a journal
+     * that cannot be written leaves the answer, its score and the history unchanged.
+     */
+    @Test
+    void testUndoIsJournaledFirst() throws Exception {
+        List<Question> questions = questions(3);
+        Player ada = new Player("P1", "Ada");
+
+        CommandJournal journal = CommandJournal.open(tempDir.resolve("undo.journal"), questions);
+        RemoteControl remote = new RemoteControl(journal);
+        remote.executeCommand(new AnswerCommand(ada, questions.get(0), "A", null, null));
+        journal.close();
+
+        assertThrows(IllegalStateException.class, remote::undoLast);
+        assertEquals(100, ada.getScore());
+        assertEquals(1, remote.getUndoDepth());
+        assertEquals(0, remote.getRedoDepth());
+    }
+}
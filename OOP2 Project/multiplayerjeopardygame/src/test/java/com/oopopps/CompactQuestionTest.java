@@ -0,0 +1,109 @@
+package com.oopopps;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for the compact question representation and its category dictionary.
+ */
+class CompactQuestionTest {
+
+    /**
+     * Temporary directory for isolated file parsing tests with automatic cleanup.
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests compact parsing: shared categories and option keys, resolved answers,
+     * and conversion back to a Question, alone or through the list view.
+     * 
+     * @throws Exception if file I/O operations fail or parsing fails
+     */
+    @Test
+    void testParseCompact() throws Exception {
+        Path file = tempDir.resolve("compact.csv");
+        Files.writeString(file, "Category,Value,Question,OptionA,OptionB,CorrectAnswer\n"
+                + "Arrays,100,First index?,0,1,A\n"
+                + "Loops,200,Runs at least once?,for,do-while, optionb \n"
+                + "Arrays,300,Trick question?,yes,no,Maybe\n");
+
+        CategoryDictionary categories = new CategoryDictionary();
+        List<CompactQuestion> questions = new CSVQuestionParser().parseCompact(file, categories);
+        assertEquals(3, questions.size());
+        assertEquals(2, categories.size());
+
+        CompactQuestion first = questions.get(0);
+        CompactQuestion second = questions.get(1);
+        CompactQuestion third = questions.get(2);
+        assertEquals(first.getCategoryId(), third.getCategoryId());
+        assertEquals("Loops", second.getCategory());
+        assertSame(first.getOptionKey(1), second.getOptionKey(1));
+
+        assertEquals(0, first.getCorrectIndex());
+        assertEquals(1, second.getCorrectIndex());
+        assertEquals("OptionB", second.getCorrectAnswer());
+        assertEquals(-1, third.getCorrectIndex());
+        assertEquals("Maybe", third.getCorrectAnswer());
+
+        Question q = second.toQuestion();
+        assertEquals("Loops", q.getCategory());
+        assertEquals(200, q.getValue());
+        assertEquals("do-while", q.getOptions().get("OptionB"));
+        assertEquals(new ArrayList<>(List.of("OptionA", "OptionB")), new ArrayList<>(q.getOptions().keySet()));
+
+        List<Question> view = CompactQuestion.asQuestions(questions);
+        assertEquals(3, view.size());
+        assertSame(view.get(1), view.get(1));
+        assertTrue(view.get(1).getAnswerKey().matches("B"));
+        assertSame(second, view.get(1));
+        assertEquals("do-while", view.get(1).getOptions().get("OptionB"));
+        assertEquals(new ArrayList<>(List.of("OptionA", "OptionB")), new ArrayList<>(view.get(1).getOptions().keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> view.get(1).getOptions().put("OptionC", "goto"));
+        assertThrows(UnsupportedOperationException.class, () -> view.get(1).setCorrectAnswer("OptionA"));
+    }
+
+    /**
+     * Tests that concurrent interning assigns every category exactly one id.
+     * 
+     * @throws Exception if a worker thread fails
+     */
+    @Test
+    void testConcurrentCategoryInterning() throws Exception {
+        CategoryDictionary categories = new CategoryDictionary();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<int[]>> results = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            results.add(pool.submit(() -> {
+                int[] ids = new int[100];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = categories.idOf("Category " + i);
+                }
+                return ids;
+            }));
+        }
+
+        int[] expected = results.get(0).get();
+        for (Future<int[]> result : results) {
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], result.get()[i]);
+                assertEquals("Category " + i, categories.nameOf(expected[i]));
+            }
+        }
+        pool.shutdown();
+        assertEquals(100, categories.size());
+    }
+}
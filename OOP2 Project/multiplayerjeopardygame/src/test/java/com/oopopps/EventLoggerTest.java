@@ -2,12 +2,25 @@ package com.oopopps;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.oopopps.log.AsyncEventSink;
+import com.oopopps.log.Backpressure;
+import com.oopopps.log.CsvEventSink;
+import com.oopopps.log.EventSink;
+import com.oopopps.log.LogEvent;
+
 /**
  * Unit tests for the EventLogger class functionality
  * Validates CSV log file creation, event recording, and process mining format compliance
@@ -90,4 +103,159 @@ class EventLoggerTest {
         assertTrue(content.contains("Result"));
         assertTrue(content.contains("Score_After_Play"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests asynchronous logging from several concurrent sessions sharing one file.
+     * Verifies that closing the logger drains every queued event to disk and that
+     * each session's events carry its own case ID.
+     * 
+     * @throws Exception if file I/O operations fail or a logging thread fails
+     */
+    @Test
+    void testAsyncLoggingDrainsOnClose() throws Exception {
+        Path logFile = tempDir.resolve("async_log.csv");
+        EventLogger shared = new EventLogger(
+                new AsyncEventSink(new CsvEventSink(logFile.toString()), 64, 16, 5, Backpressure.BLOCK), "SERVER");
+
+        int threads = 8;
+        int eventsPerThread = 2000;
+        List<Thread> sessions = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            EventLogger session = shared.forCase("GAME-" + t);
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < eventsPerThread; i++) {
+                    session.log("P1", "Answer Question", "Math", "100", "A", "Correct", i);
+                }
+            });
+            sessions.add(thread);
+            thread.start();
+        }
+        for (Thread thread : sessions) {
+            thread.join();
+        }
+        shared.close();
+
+        List<String> lines = Files.readAllLines(logFile);
+        assertEquals(1 + threads * eventsPerThread, lines.size());
+        assertEquals(eventsPerThread, lines.stream().filter(l -> l.startsWith("GAME-3,")).count());
+    }
+
+    /**
+     * Tests the drop policy of the asynchronous sink against a slow destination.
+     * Verifies that the caller is never blocked into losing track of events:
+     * every event is either written or counted as dropped.
+     */
+    @Test
+    void testAsyncDropPolicyCountsDroppedEvents() {
+        AtomicInteger written = new AtomicInteger();
+        EventSink slowSink = new EventSink() {
+            @Override
+            public void write(LogEvent event) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.incrementAndGet();
+            }
+
+            @Override
+            public void close() { }
+        };
+
+        AsyncEventSink sink = new AsyncEventSink(slowSink, 8, 4, 1, Backpressure.DROP);
+        int total = 500;
+        for (int i = 0; i < total; i++) {
+            sink.write(new LogEvent("CASE", "P1", "Answer Question", Instant.now(), "", "", "", "", i));
+        }
+        sink.close();
+
+        assertTrue(sink.getDroppedCount() > 0);
+        assertEquals(total, written.get() + sink.getDroppedCount());
+    }
+
+    /**
+     * Tests that the writer of an idle asynchronous sink is woken by the next write,
+     * and that a batch filled by later writes is written without waiting for the
+     * flush interval.
+     * 
+     * @throws Exception if the test is interrupted
+     */
+    @Test
+    void testAsyncWriterWakesOnWrite() throws Exception {
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch allWritten = new CountDownLatch(5);
+        EventSink countingSink = new EventSink() {
+            @Override
+            public void write(LogEvent event) {
+                firstWritten.countDown();
+                allWritten.countDown();
+            }
+
+            @Override
+            public void close() { }
+        };
+
+        // A batch of one is written at once; the hour-long flush interval never passes
+        AsyncEventSink single = new AsyncEventSink(countingSink, 64, 1, 3_600_000, Backpressure.BLOCK);
+        Thread.sleep(50);
+        single.write(new LogEvent("CASE", "P1", "Answer Question", Instant.now(), "", "", "", "", 0));
+        assertTrue(firstWritten.await(5, TimeUnit.SECONDS));
+        single.close();
+
+        AsyncEventSink batched = new AsyncEventSink(countingSink, 64, 4, 3_600_000, Backpressure.BLOCK);
+        Thread.sleep(50);
+        for (int i = 0; i < 4; i++) {
+            batched.write(new LogEvent("CASE", "P1", "Answer Question", Instant.now(), "", "", "", "", i));
+            Thread.sleep(10);
+        }
+        assertTrue(allWritten.await(5, TimeUnit.SECONDS));
+        batched.close();
+    }
+
+    /**
+     * Tests closing the asynchronous sink while other threads are still writing.
+     * Validates that no event is lost in the race: every event is either written
+     * or counted as dropped.
+     * 
+     * @throws Exception if a writing thread fails
+     */
+    @Test
+    void testAsyncCloseDuringConcurrentWrites() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            AtomicInteger written = new AtomicInteger();
+            EventSink countingSink = new EventSink() {
+                @Override
+                public void write(LogEvent event) {
+                    written.incrementAndGet();
+                }
+
+                @Override
+                public void close() { }
+            };
+
+            AsyncEventSink sink = new AsyncEventSink(countingSink, 64, 16, 1, Backpressure.BLOCK);
+            int threads = 4;
+            int eventsPerThread = 5000;
+            CountDownLatch started = new CountDownLatch(threads);
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread thread = new Thread(() -> {
+                    started.countDown();
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        sink.write(new LogEvent("CASE", "P1", "Answer Question", Instant.now(), "", "", "", "", i));
+                    }
+                });
+                writers.add(thread);
+                thread.start();
+            }
+            started.await();
+            sink.close();
+            for (Thread thread : writers) {
+                thread.join();
+            }
+
+            assertEquals(threads * eventsPerThread, written.get() + sink.getDroppedCount());
+        }
+    }
+}
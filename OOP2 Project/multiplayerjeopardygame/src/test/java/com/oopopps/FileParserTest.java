@@ -2,6 +2,7 @@ package com.oopopps;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -48,6 +49,39 @@ class FileParserTest {
         assertEquals("A", q.getCorrectAnswer());
     }
 
+    /**
+     * Tests streaming CSV parsing with quoted fields, escaped quotes, blank lines
+     * and a question text that spans multiple lines.
+     * Validates that each row reaches the consumer with header columns bound correctly.
+     * 
+     * @throws Exception if file I/O operations fail or CSV parsing encounters format errors
+     */
+    @Test
+    void testCSVParserStreaming() throws Exception {
+        Path file = tempDir.resolve("stream_questions.csv");
+        String content = "Category,Value,QuestionText,OptionA,OptionB,CorrectAnswer\r\n"
+                + "\"Math, Basic\",100,\"What is \"\"1+1\"\"?\",2,3,OptionA\r\n"
+                + "\r\n"
+                + "Science,oops,\"Line one\nline two\", H2O , CO2 ,B";
+        Files.writeString(file, content);
+
+        List<Question> questions = new ArrayList<>();
+        new CSVQuestionParser().stream(file.toAbsolutePath(), questions::add);
+        assertEquals(2, questions.size());
+
+        Question first = questions.get(0);
+        assertEquals("Math, Basic", first.getCategory());
+        assertEquals("What is \"1+1\"?", first.getQuestionText());
+        assertEquals("2", first.getOptions().get("OptionA"));
+        assertEquals("OptionA", first.getCorrectAnswer());
+
+        Question second = questions.get(1);
+        assertEquals(0, second.getValue());
+        assertEquals("Line one\nline two", second.getQuestionText());
+        assertEquals("CO2", second.getOptions().get("OptionB"));
+        assertEquals("B", second.getCorrectAnswer());
+    }
+
     /**
      * Tests XML question file parsing using DOM document object model.
      * Validates hierarchical XML structure parsing with nested option elements
@@ -86,6 +120,49 @@ class FileParserTest {
         assertEquals("B", q.getCorrectAnswer());
     }
 
+    /**
+     * Tests that the streaming XML parser reads the same questions as the DOM parser,
+     * including escaped characters and options in document order.
+     * 
+     * @throws Exception if XML file is malformed, inaccessible, or parsing fails
+     */
+    @Test
+    void testStreamingXMLParser() throws Exception {
+        Path file = tempDir.resolve("stream_questions.xml");
+        String content = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <JeopardyQuestions>
+            <QuestionItem><Category>Loops &amp; Arrays</Category><Value>300</Value>
+                <QuestionText>Is 3 &lt; 4?</QuestionText>
+                <Options><OptionD>no</OptionD><OptionA><![CDATA[yes]]></OptionA></Options>
+                <CorrectAnswer>A</CorrectAnswer></QuestionItem>
+            <QuestionItem><Category>Functions</Category><Value>100</Value>
+                <QuestionText>Which keyword returns a value?</QuestionText>
+                <Options><OptionA>return</OptionA><OptionB>void</OptionB></Options>
+                <CorrectAnswer>OptionA</CorrectAnswer></QuestionItem>
+            </JeopardyQuestions>
+            """;
+        Files.writeString(file, content);
+
+        List<Question> expected = new XMLQuestionParser().parse(file);
+        List<Question> questions = ParserFactory.getStreamingParser(file).parse(file);
+        assertEquals(expected.size(), questions.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getCategory(), questions.get(i).getCategory());
+            assertEquals(expected.get(i).getQuestionText(), questions.get(i).getQuestionText());
+            assertEquals(expected.get(i).getCorrectAnswer(), questions.get(i).getCorrectAnswer());
+            assertEquals(new ArrayList<>(expected.get(i).getOptions().entrySet()),
+                    new ArrayList<>(questions.get(i).getOptions().entrySet()));
+        }
+
+        Question first = questions.get(0);
+        assertEquals("Loops & Arrays", first.getCategory());
+        assertEquals(300, first.getValue());
+        assertEquals("Is 3 < 4?", first.getQuestionText());
+        assertEquals("yes", first.getOptions().get("OptionA"));
+    }
+
     /**
      * Tests JSON question file parsing with JavaScript Object Notation format.
      * Validates JSON object mapping, nested option objects, and array structure
@@ -123,6 +200,42 @@ class FileParserTest {
         assertEquals("3", q.getOptions().get("D"));
     }
 
+    /**
+     * Tests that the streaming JSON parser reads both supported document shapes
+     * the same way as the tree-based JSON parser.
+     * 
+     * @throws Exception if JSON syntax is invalid, file missing, or parsing fails
+     */
+    @Test
+    void testStreamingJSONParser() throws Exception {
+        String items = """
+            [
+              {"Category": "Math", "Value": 100, "Question": "What is 1 + 1?",
+               "Options": {"A": "1", "B": "2"}, "CorrectAnswer": "B"},
+              {"Category": "Science", "Value": 200, "QuestionText": "Water is [H2O]?",
+               "Options": {"A": "yes", "B": "no"}, "CorrectAnswer": "A"}
+            ]
+            """;
+        Path rawArray = tempDir.resolve("stream_array.json");
+        Files.writeString(rawArray, items);
+        Path wrapped = tempDir.resolve("stream_wrapped.json");
+        Files.writeString(wrapped, "{\"meta\": {\"title\": \"Quiz\", \"tags\": [1, 2]}, \"questions\": " + items + "}");
+
+        for (Path file : List.of(rawArray, wrapped)) {
+            List<Question> expected = new JSONQuestionParser().parse(file);
+            List<Question> questions = ParserFactory.getStreamingParser(file).parse(file);
+            assertEquals(2, questions.size());
+
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getCategory(), questions.get(i).getCategory());
+                assertEquals(expected.get(i).getValue(), questions.get(i).getValue());
+                assertEquals(expected.get(i).getQuestionText(), questions.get(i).getQuestionText());
+                assertEquals(expected.get(i).getCorrectAnswer(), questions.get(i).getCorrectAnswer());
+                assertEquals(expected.get(i).getOptions(), questions.get(i).getOptions());
+            }
+        }
+    }
+
     /**
      * Tests basic Question class functionality and data integrity.
      * Validates constructor initialization, property accessors/mutators,
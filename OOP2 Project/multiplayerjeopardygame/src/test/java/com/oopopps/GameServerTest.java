@@ -0,0 +1,224 @@
+package com.oopopps;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.oopopps.server.GameServer;
+
+/**
+ * Integration test suite for the multi-session GameServer.
+ * Plays scripted games concurrently over in-memory streams and over a local
+ * TCP socket, validating that sessions stay independent while sharing one
+ * question set and one event log.
+ */
+class GameServerTest {
+
+    /**
+     * Temporary directory holding the shared event log and per-session reports.
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Builds a tiny question set shared by every session.
+     * 
+     * @return two questions in one category
+     */
+    private List<Question> questions() {
+        Question q1 = new Question("Math", 100, "1+1?");
+        q1.getOptions().put("A", "2");
+        q1.getOptions().put("B", "3");
+        q1.setCorrectAnswer("A");
+
+        Question q2 = new Question("Math", 200, "2+2?");
+        q2.getOptions().put("A", "3");
+        q2.getOptions().put("B", "4");
+        q2.setCorrectAnswer("B");
+        return List.of(q1, q2);
+    }
+
+    /**
+     * Tests many concurrent in-memory sessions, each answering both questions.
+     * Validates that every session finishes with its own score, that the
+     * shared log records a start event per session, and that closing the server
+     * waits for every session's reports, whose outcome reaches the session's output.
+     * 
+     * @throws Exception if a session fails or log reading fails
+     */
+    @Test
+    void testConcurrentInMemorySessions() throws Exception {
+        int sessionCount = 20;
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (GameServer server = new GameServer(questions(), tempDir)) {
+            for (int i = 0; i < sessionCount; i++) {
+                String answer = i % 2 == 0 ? "B" : "A";
+                String script = "1\nPlayer" + i + "\nMath\n100\nA\nmath\n200\n" + answer + "\n";
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                outputs.add(out);
+                futures.add(server.startSession(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), out));
+            }
+
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        }
+
+        for (int i = 0; i < sessionCount; i++) {
+            String output = outputs.get(i).toString(StandardCharsets.UTF_8);
+            assertTrue(output.contains("=== GAME OVER ==="));
+            assertTrue(output.contains("Player" + i + ": " + (i % 2 == 0 ? 300 : -100)));
+            assertTrue(output.contains("Reports generated: game_report.txt, game_report.pdf"));
+        }
+
+        String log = Files.readString(tempDir.resolve("game_log.csv"));
+        assertEquals(sessionCount, log.split("Game Started", -1).length - 1);
+        assertEquals(sessionCount, log.split("Reports Generated", -1).length - 1);
+
+        try (Stream<Path> reports = Files.list(tempDir.resolve("reports"))) {
+            assertEquals(sessionCount, reports.filter(d -> Files.exists(d.resolve("game_report.pdf"))).count());
+        }
+    }
+
+    /**
+     * Tests that a game cut short when its players disconnect is resumed by a
+     * restarted server from its journal, with its players, scores, turn order and
+     * remaining questions, and that the journal is deleted once the game is over.
+     * 
+     * @throws Exception if a session fails
+     */
+    @Test
+    void testResumeGameAfterRestart() throws Exception {
+        Path journal = tempDir.resolve("journals").resolve("GAME-resume.journal");
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        try (GameServer server = new GameServer(questions(), tempDir)) {
+            // The input ends after the first answer, as if the players disconnected
+            String script = "2\nAda\nBob\nMath\n100\nA\n";
+            server.startSession("GAME-resume", new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), first)
+                    .get();
+        }
+        assertTrue(first.toString(StandardCharsets.UTF_8).contains("Result: Correct!"));
+        assertFalse(first.toString(StandardCharsets.UTF_8).contains("Error during game"));
+        assertTrue(Files.readString(tempDir.resolve("game_log.csv")).contains("GAME-resume,,Game Interrupted,"));
+        assertTrue(Files.exists(journal));
+
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        try (GameServer server = new GameServer(questions(), tempDir)) {
+            String script = "Math\n200\nB\n";
+            server.startSession("GAME-resume", new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), second)
+                    .get();
+        }
+
+        String output = second.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("Resuming game GAME-resume with 1 questions left."));
+        assertTrue(output.contains("Bob's Turn"));
+        assertTrue(output.contains("=== GAME OVER ==="));
+        assertTrue(output.contains("Ada: 100"));
+        assertTrue(output.contains("Bob: 200"));
+        assertFalse(Files.exists(journal));
+
+        // The report covers the turn played before the restart too
+        String report = Files.readString(tempDir.resolve("reports").resolve("GAME-resume").resolve("game_report.txt"));
+        assertTrue(report.contains("Turn 1: Ada selected Math for 100 pts"));
+        assertTrue(report.contains("Score after turn: Ada = 100"));
+        assertTrue(report.contains("Turn 2: Bob selected Math for 200 pts"));
+        assertTrue(report.contains("Score after turn: Bob = 200"));
+    }
+
+    /**
+     * Tests that a game ID cannot be played by two sessions at once, and is free
+     * again once its session has ended.
+     * 
+     * @throws Exception if a session fails
+     */
+    @Test
+    void testDuplicateLiveGameIdIsRejected() throws Exception {
+        try (GameServer server = new GameServer(questions(), tempDir)) {
+            PipedOutputStream players = new PipedOutputStream();
+            Future<?> session = server.startSession("GAME-dup", new PipedInputStream(players), new ByteArrayOutputStream());
+            while (server.getActiveSessions() == 0) {
+                Thread.sleep(5);
+            }
+
+            assertThrows(IllegalStateException.class, () ->
+                    server.startSession("GAME-dup", new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream()));
+
+            players.close();
+            session.get();
+            server.startSession("GAME-dup", new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream()).get();
+        }
+    }
+
+    /**
+     * Tests game sessions played over local TCP connections: a new game, and a game
+     * whose client disconnects and then reconnects with the game ID it was given.
+     * 
+     * @throws Exception if the socket cannot be opened or the session fails
+     */
+    @Test
+    void testSocketSession() throws Exception {
+        try (GameServer server = new GameServer(questions(), tempDir)) {
+            int port = server.listen(0);
+
+            String output = play(port, "\n1\nAda\nMath\n100\nA\nquit\n");
+            assertTrue(output.contains("Game ID: GAME-"));
+            assertTrue(output.contains("Result: Correct!"));
+            assertTrue(output.contains("Winner: Ada!"));
+
+            // The client disconnects after its first answer
+            output = play(port, "sock-1\n2\nAda\nBob\nMath\n100\nA\n");
+            assertTrue(output.contains("Game ID: sock-1 "));
+            assertTrue(output.contains("Result: Correct!"));
+
+            output = play(port, "sock-1\nMath\n200\nB\n");
+            assertTrue(output.contains("Resuming game sock-1 with 1 questions left."));
+            assertTrue(output.contains("Bob: 200"));
+            assertTrue(output.contains("=== GAME OVER ==="));
+
+            assertTrue(play(port, "../evil\n").contains("Invalid game ID: ../evil"));
+        }
+        assertFalse(Files.exists(tempDir.resolve("journals").resolve("sock-1.journal")));
+    }
+
+    /**
+     * Sends a script to the server over a new connection and reads everything it answers
+     * until the session ends.
+     * 
+     * @param port the server's port
+     * @param script the player input, starting with the game ID line
+     * @return the session's output
+     * @throws Exception if the connection fails
+     */
+    private String play(int port, String script) throws Exception {
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream toServer = socket.getOutputStream();
+            toServer.write(script.getBytes(StandardCharsets.UTF_8));
+            toServer.flush();
+            socket.shutdownOutput();
+
+            InputStream fromServer = socket.getInputStream();
+            return new String(fromServer.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.oopopps;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.oopopps.command.AnswerCommand;
+import com.oopopps.display.ScoreBoard;
+import com.oopopps.display.ScoreObserverGroup;
+import com.oopopps.leaderboard.Leaderboard;
+import com.oopopps.log.EventSink;
+import com.oopopps.log.LogEvent;
+
+/**
+ * Unit test suite for the process-wide Leaderboard.
+ * Validates aggregation of concurrent score changes from many games into
+ * all-time, daily and per-category rankings, and persistence across restarts.
+ */
+class LeaderboardTest {
+
+    /** Temporary directory holding the leaderboard file */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Builds a question worth 100 points whose correct answer is A.
+     * 
+     * @param category the question's category
+     * @return the question
+     */
+    private Question question(String category) {
+        Question q = new Question(category, 100, category + "?");
+        q.setCorrectAnswer("A");
+        return q;
+    }
+
+    /**
+     * Tests many games scoring at once through their observer groups, including
+     * an undone answer, and checks the rankings published by compaction.
+     */
+    @Test
+    void testConcurrentGamesAreAggregated() throws Exception {
+        Leaderboard leaderboard = new Leaderboard(tempDir.resolve("leaderboard.dat"));
+        Question math = question("Math");
+        Question science = question("Science");
+
+        int games = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] results = new Future<?>[games];
+            for (int g = 0; g < games; g++) {
+                results[g] = pool.submit(() -> {
+                    Player ada = new Player("P1", "Ada");
+                    Player bob = new Player("P2", "Bob");
+                    ScoreObserverGroup observers = new ScoreObserverGroup(new ScoreBoard(), leaderboard);
+                    for (int i = 0; i < 1000; i++) {
+                        new AnswerCommand(ada, math, "A", null, observers).execute();
+                        new AnswerCommand(bob, science, i % 2 == 0 ? "A" : "B", null, observers).execute();
+                    }
+                    AnswerCommand undone = new AnswerCommand(bob, math, "A", null, observers);
+                    undone.execute();
+                    undone.undo();
+                });
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(0, leaderboard.rank("Ada"));
+        leaderboard.compact();
+
+        List<Leaderboard.Standing> top = leaderboard.top(10);
+        assertEquals(2, top.size());
+        assertEquals("Ada", top.get(0).getName());
+        assertEquals(games * 100_000L, top.get(0).getScore());
+        assertEquals(0L, top.get(1).getScore());
+        assertEquals(2, leaderboard.rank("Bob"));
+        assertEquals(1, leaderboard.rankToday("Ada"));
+        assertEquals(1, leaderboard.rankInCategory("science", "Bob"));
+        assertEquals(0, leaderboard.rankInCategory("Science", "Ada"));
+        // Bob's undone Math answer nets to zero but still places him in the category
+        assertEquals(2, leaderboard.rankInCategory("Math", "Bob"));
+        assertEquals(0L, leaderboard.topInCategory("Math", 5).get(1).getScore());
+    }
+
+    /**
+     * Tests that totals survive a restart while the daily ranking starts over
+     * on a new day.
+     */
+    @Test
+    void testPersistenceAndDailyReset() throws Exception {
+        Path file = tempDir.resolve("leaderboard.dat");
+        Instant monday = Instant.parse("2026-10-12T23:00:00Z");
+
+        try (Leaderboard leaderboard = new Leaderboard(file, Clock.fixed(monday, ZoneOffset.UTC))) {
+            leaderboard.record("Ada", "Math", 300);
+            leaderboard.record("Bob", "History", 500);
+        }
+
+        Leaderboard sameDay = new Leaderboard(file, Clock.fixed(monday.plusSeconds(60), ZoneOffset.UTC));
+        assertEquals(1, sameDay.rankToday("Bob"));
+        assertEquals(2, sameDay.rank("Ada"));
+
+        Leaderboard nextDay = new Leaderboard(file, Clock.fixed(monday.plusSeconds(3600), ZoneOffset.UTC));
+        assertTrue(nextDay.topToday(10).isEmpty());
+        assertEquals(1, nextDay.rank("Bob"));
+        assertEquals(500L, nextDay.top(1).get(0).getScore());
+        assertEquals(1, nextDay.rankInCategory("Math", "Ada"));
+    }
+
+    /**
+     * Tests that a truncated or foreign leaderboard file is ignored, so the
+     * leaderboard starts empty and the next compaction replaces the file, and
+     * that the damaged file is reported to the leaderboard's event logger.
+     */
+    @Test
+    void testDamagedFileStartsEmpty() throws Exception {
+        Path file = tempDir.resolve("leaderboard.dat");
+        try (Leaderboard leaderboard = new Leaderboard(file)) {
+            leaderboard.record("Ada", "Math", 300);
+            leaderboard.record("Bob", "History", 500);
+        }
+        byte[] saved = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(saved, saved.length - 5));
+
+        List<LogEvent> events = new ArrayList<>();
+        EventLogger logger = new EventLogger(new EventSink() {
+            @Override
+            public void write(LogEvent event) { events.add(event); }
+
+            @Override
+            public void close() { }
+        }, "SERVER");
+        try (Leaderboard truncated = new Leaderboard(file, logger)) {
+            assertTrue(truncated.top(10).isEmpty());
+            assertEquals(1, events.size());
+            assertEquals("Leaderboard Load Error", events.get(0).getActivity());
+            assertEquals("EOFException", events.get(0).getResult());
+            truncated.record("Ada", "Math", 100);
+        }
+        assertEquals(100L, new Leaderboard(file).top(1).get(0).getScore());
+
+        Files.writeString(file, "not a leaderboard");
+        assertTrue(new Leaderboard(file).top(10).isEmpty());
+    }
+}
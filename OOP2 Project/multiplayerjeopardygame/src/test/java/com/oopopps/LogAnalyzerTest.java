@@ -0,0 +1,73 @@
+package com.oopopps;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.oopopps.analytics.LogAnalyzer;
+import com.oopopps.analytics.LogSummary;
+import com.oopopps.log.CsvEventSink;
+import com.oopopps.log.LogEvent;
+
+/**
+ * Test suite for the memory-mapped event log analytics.
+ * Builds a process-mining log with known content, including a repeated header
+ * from a second logging session, and checks the aggregated statistics when the
+ * file is split into many small chunks parsed in parallel.
+ */
+class LogAnalyzerTest {
+
+    /**
+     * Temporary directory for isolated log file testing with automatic cleanup.
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests activity counts, per-category correct ratios and session durations.
+     * 
+     * @throws Exception if file I/O operations fail
+     */
+    @Test
+    void testAnalyzeChunkedLog() throws Exception {
+        Path logFile = tempDir.resolve("game_log.csv");
+        Instant start = Instant.parse("2026-03-01T12:00:00.250Z");
+        int games = 40;
+
+        for (int session = 0; session < 2; session++) {
+            List<LogEvent> events = new ArrayList<>();
+            for (int g = session * games / 2; g < (session + 1) * games / 2; g++) {
+                String caseId = "GAME-" + g;
+                events.add(new LogEvent(caseId, null, "Game Started", start, null, null, null, "", 0));
+                for (int turn = 0; turn < 4; turn++) {
+                    String category = turn % 2 == 0 ? "Arrays" : "Pointers";
+                    String result = turn == 0 || turn == 1 ? "Correct" : "Incorrect";
+                    events.add(new LogEvent(caseId, "P1", "Answer Question", start.plusSeconds(turn + 1),
+                            category, "100", "A", result, 0));
+                }
+                events.add(new LogEvent(caseId, "P1", "Exit Game", start.plusSeconds(g + 10).plusNanos(5),
+                        null, null, null, "", 0));
+            }
+            try (CsvEventSink sink = new CsvEventSink(logFile.toString())) {
+                sink.writeAll(events);
+            }
+        }
+
+        LogSummary summary = new LogAnalyzer(512, new ForkJoinPool(4)).analyze(logFile);
+
+        assertEquals(games * 6, summary.getEventCount());
+        assertEquals(games, summary.getActivityCounts().get("Game Started").longValue());
+        assertEquals(games * 4, summary.getActivityCounts().get("Answer Question").longValue());
+        assertEquals(games * 2, summary.getAttempts("Arrays"));
+        assertEquals(0.5, summary.getCorrectRatio("Pointers"), 1e-9);
+        assertEquals(Duration.ofSeconds(17).plusNanos(5), summary.getCaseDuration("GAME-7"));
+        assertEquals(Duration.ofSeconds(49).plusNanos(5), summary.getCaseDuration("GAME-39"));
+    }
+}
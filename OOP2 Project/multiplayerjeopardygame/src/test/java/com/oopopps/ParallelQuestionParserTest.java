@@ -0,0 +1,142 @@
+package com.oopopps;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for parallel chunked question parsing.
+ * Writes the same question bank in every supported format, including fields that
+ * contain record separators, and checks that parsing it in many small chunks gives
+ * exactly the questions, in the same order, that the sequential parsers produce.
+ */
+class ParallelQuestionParserTest {
+    private static final int COUNT = 500;
+
+    /**
+     * Temporary directory for isolated file parsing tests with automatic cleanup.
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests chunked CSV parsing with quoted commas, quotes and line breaks in fields.
+     * 
+     * @throws Exception if file I/O operations fail or parsing fails
+     */
+    @Test
+    void testParallelCSV() throws Exception {
+        StringBuilder sb = new StringBuilder("Category,Value,Question,OptionA,OptionB,CorrectAnswer\r\n");
+        for (int i = 0; i < COUNT; i++) {
+            sb.append("\"Cat, ").append(i % 7).append("\",").append(100 * (i % 5 + 1))
+              .append(",\"Line one of ").append(i).append("\nsays \"\"hi\"\"\",yes,no,A\r\n");
+            if (i % 50 == 0) sb.append("\r\n");
+        }
+        assertSameAsSequential(write("bank.csv", sb.toString()));
+    }
+
+    /**
+     * Tests chunked JSON parsing of a wrapped array whose strings contain brackets and commas.
+     * 
+     * @throws Exception if file I/O operations fail or parsing fails
+     */
+    @Test
+    void testParallelJSON() throws Exception {
+        StringBuilder sb = new StringBuilder("{\"title\": \"Bank [1]\", \"JeopardyQuestions\": [\n");
+        for (int i = 0; i < COUNT; i++) {
+            sb.append(i == 0 ? "" : ",\n")
+              .append("{\"Category\": \"Cat ").append(i % 7).append("\", \"Value\": ").append(100 * (i % 5 + 1))
+              .append(", \"Question\": \"Is {").append(i).append("}, \\\"quoted\\\" ]?\",")
+              .append(" \"Options\": {\"A\": \"yes\", \"B\": \"no\"}, \"CorrectAnswer\": \"A\"}");
+        }
+        sb.append("\n], \"version\": 2}");
+        assertSameAsSequential(write("bank.json", sb.toString()));
+    }
+
+    /**
+     * Tests chunked XML parsing, including escaped characters in question text.
+     * 
+     * @throws Exception if file I/O operations fail or parsing fails
+     */
+    @Test
+    void testParallelXML() throws Exception {
+        StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<JeopardyQuestions>\n");
+        for (int i = 0; i < COUNT; i++) {
+            sb.append("<QuestionItem><Category>Cat ").append(i % 7).append("</Category><Value>")
+              .append(100 * (i % 5 + 1)).append("</Value><QuestionText>Is ").append(i)
+              .append(" &lt; &amp; ?</QuestionText><Options><OptionA>yes</OptionA><OptionB>no</OptionB>")
+              .append("</Options><CorrectAnswer>A</CorrectAnswer></QuestionItem>\n");
+        }
+        sb.append("</JeopardyQuestions>\n");
+        assertSameAsSequential(write("bank.xml", sb.toString()));
+    }
+
+    /**
+     * Tests chunked XML parsing of files in other encodings than UTF-8, whose
+     * items sit inside a QuestionItems element that must not be taken for an item.
+     * 
+     * @throws Exception if file I/O operations fail or parsing fails
+     */
+    @Test
+    void testParallelXMLEncodings() throws Exception {
+        for (Charset charset : List.of(StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16)) {
+            StringBuilder sb = new StringBuilder("<?xml version=\"1.0\" encoding=\"").append(charset.name())
+                    .append("\"?>\n<JeopardyQuestions><QuestionItems>\n");
+            for (int i = 0; i < COUNT; i++) {
+                sb.append("<QuestionItem><Category>Caf\u00e9 ").append(i % 7).append("</Category><Value>")
+                  .append(100 * (i % 5 + 1)).append("</Value><QuestionText>Na\u00efve ").append(i)
+                  .append("?</QuestionText><Options><OptionA>yes</OptionA><OptionB>no</OptionB>")
+                  .append("</Options><CorrectAnswer>A</CorrectAnswer></QuestionItem>\n");
+            }
+            sb.append("</QuestionItems></JeopardyQuestions>\n");
+
+            Path file = tempDir.resolve("bank-" + charset.name() + ".xml");
+            Files.writeString(file, sb.toString(), charset);
+            assertSameAsSequential(file);
+            assertEquals("Caf\u00e9 0", new ParallelQuestionParser(512, new ForkJoinPool(4)).parse(file).get(0).getCategory());
+        }
+    }
+
+    /**
+     * Tests that a malformed chunk surfaces the parser's own exception.
+     * 
+     * @throws Exception if file I/O operations fail
+     */
+    @Test
+    void testParallelParseFailure() throws Exception {
+        Path file = write("broken.xml", "<JeopardyQuestions><QuestionItem><Value>abc</Value></QuestionItem></JeopardyQuestions>");
+        assertThrows(NumberFormatException.class, () -> new ParallelQuestionParser(64, new ForkJoinPool(2)).parse(file));
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private void assertSameAsSequential(Path file) throws Exception {
+        List<Question> expected = ParserFactory.getParser(file).parse(file);
+        List<Question> questions = new ParallelQuestionParser(512, new ForkJoinPool(4)).parse(file);
+
+        assertEquals(COUNT, expected.size());
+        assertEquals(expected.size(), questions.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Question e = expected.get(i);
+            Question q = questions.get(i);
+            assertEquals(e.getCategory(), q.getCategory());
+            assertEquals(e.getValue(), q.getValue());
+            assertEquals(e.getQuestionText(), q.getQuestionText());
+            assertEquals(e.getCorrectAnswer(), q.getCorrectAnswer());
+            assertEquals(new ArrayList<>(e.getOptions().entrySet()), new ArrayList<>(q.getOptions().entrySet()));
+        }
+    }
+}
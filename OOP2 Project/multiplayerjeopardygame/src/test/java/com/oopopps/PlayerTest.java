@@ -1,9 +1,19 @@
 package com.oopopps;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import org.junit.jupiter.api.Test;
 
+import com.oopopps.command.AnswerCommand;
+import com.oopopps.display.ScoreBoard;
+
 /**
  * Unit test suite for Player entity validation and behavior verification.
  * Tests core player functionality including identity management, score tracking,
@@ -67,4 +77,60 @@ public class PlayerTest {
         assertEquals("Butch", player.getName());
         assertEquals(200, player.getScore());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests buzz-in style scoring where many threads answer for the same players
+     * at once. Every update must be counted exactly once, and the scoreboard must
+     * show the final scores once all threads have finished.
+     */
+    @Test
+    public void testConcurrentScoringLosesNoUpdates() throws Exception {
+        int threads = 64;
+        int answersPerThread = 500;
+
+        Question question = new Question();
+        question.setCategory("Speed");
+        question.setValue(100);
+        question.setCorrectAnswer("A");
+
+        List<Player> players = List.of(new Player("P1", "Vincent"), new Player("P2", "Jules"));
+        ScoreBoard scoreBoard = new ScoreBoard();
+        scoreBoard.initPlayers(players);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] results = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                results[t] = pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < answersPerThread; i++) {
+                        // Even threads always answer correctly, odd threads wrong on every third answer
+                        String answer = thread % 2 == 0 || i % 3 != 0 ? "A" : "B";
+                        new AnswerCommand(players.get(i % 2), question, answer, null, scoreBoard).execute();
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        int expected = 0;
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < answersPerThread; i += 2) {
+                expected += t % 2 == 0 || i % 3 != 0 ? 100 : -100;
+            }
+        }
+
+        assertEquals(expected, players.get(0).getScore());
+        Map<String, Integer> board = scoreBoard.getScores();
+        assertEquals(players.get(0).getScore(), board.get("Vincent").intValue());
+        assertEquals(players.get(1).getScore(), board.get("Jules").intValue());
+    }
+}
@@ -0,0 +1,105 @@
+package com.oopopps;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for compiled question-bank snapshots.
+ * Verifies that a snapshot reproduces the parsed questions, is reused while the
+ * source is unchanged, survives a touched modification time, and is rebuilt
+ * when the source content changes.
+ */
+class QuestionBankSnapshotTest {
+
+    /**
+     * Temporary directory for isolated snapshot testing with automatic cleanup.
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests compiling, reusing and rebuilding a snapshot.
+     * 
+     * @throws Exception if file I/O operations fail or parsing fails
+     */
+    @Test
+    void testSnapshotLifecycle() throws Exception {
+        Path source = tempDir.resolve("bank.csv");
+        Files.writeString(source, "Category,Value,Question,OptionA,OptionB,CorrectAnswer\n"
+                + "Arrays,100,\"Index of the first élément?\",0,1,A\n"
+                + "Loops,200,Which loop runs at least once?,do-while,for,OptionA\n"
+                + "Arrays,300,,x,y,B\n");
+        Path snapshot = QuestionBankSnapshot.snapshotPath(source);
+
+        List<Question> expected = new CSVQuestionParser().parse(source);
+        List<Question> questions = QuestionBankSnapshot.load(source);
+        assertTrue(Files.exists(snapshot));
+        assertEquals(expected.size(), questions.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Question e = expected.get(i);
+            Question q = questions.get(i);
+            assertEquals(e.getCategory(), q.getCategory());
+            assertEquals(e.getValue(), q.getValue());
+            assertEquals(e.getQuestionText(), q.getQuestionText());
+            assertEquals(e.getCorrectAnswer(), q.getCorrectAnswer());
+            assertEquals(new ArrayList<>(e.getOptions().entrySet()), new ArrayList<>(q.getOptions().entrySet()));
+        }
+        assertSame(questions.get(0).getCategory(), questions.get(2).getCategory());
+        assertSame(questions.get(1), questions.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> questions.get(1).setCorrectAnswer("B"));
+        assertThrows(UnsupportedOperationException.class, () -> questions.get(1).getOptions().clear());
+
+        // Touching the source keeps the snapshot, changing it rebuilds the snapshot
+        Object built = Files.readAttributes(snapshot, BasicFileAttributes.class).fileKey();
+        Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 5000));
+        assertEquals(3, QuestionBankSnapshot.load(source).size());
+        assertEquals(built, Files.readAttributes(snapshot, BasicFileAttributes.class).fileKey());
+
+        Files.writeString(source, "Category,Value,Question,OptionA,CorrectAnswer\nStrings,500,Length of an empty string?,0,A\n");
+        List<Question> rebuilt = QuestionBankSnapshot.load(source);
+        assertEquals(1, rebuilt.size());
+        assertEquals("Strings", rebuilt.get(0).getCategory());
+        assertEquals("Length of an empty string?", rebuilt.get(0).getQuestionText());
+        assertNull(Files.list(tempDir).filter(p -> p.toString().endsWith(".tmp")).findFirst().orElse(null));
+    }
+
+    /**
+     * Tests that a snapshot whose header is current but whose body is damaged is
+     * rebuilt instead of failing the load or falling back to the parser for good.
+     * 
+     * @throws Exception if file I/O operations fail or parsing fails
+     */
+    @Test
+    void testDamagedSnapshotIsRebuilt() throws Exception {
+        Path source = tempDir.resolve("damaged.csv");
+        Files.writeString(source, "Category,Value,Question,OptionA,OptionB,CorrectAnswer\n"
+                + "Arrays,100,First index?,0,1,A\n"
+                + "Loops,200,Runs at least once?,do-while,for,A\n");
+        Path snapshot = QuestionBankSnapshot.snapshotPath(source);
+        assertEquals(2, QuestionBankSnapshot.load(source).size());
+
+        // Point the footer's category table far past the end of the file
+        byte[] bytes = Files.readAllBytes(snapshot);
+        ByteBuffer.wrap(bytes).putLong(bytes.length - 24, Long.MAX_VALUE / 2);
+        Files.write(snapshot, bytes);
+
+        List<Question> questions = QuestionBankSnapshot.load(source);
+        assertEquals(2, questions.size());
+        assertEquals("Runs at least once?", questions.get(1).getQuestionText());
+        byte[] rebuilt = Files.readAllBytes(snapshot);
+        assertTrue(ByteBuffer.wrap(rebuilt).getLong(rebuilt.length - 24) < rebuilt.length);
+    }
+}
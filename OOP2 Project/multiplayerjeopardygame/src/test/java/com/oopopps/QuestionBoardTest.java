@@ -0,0 +1,84 @@
+package com.oopopps;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test suite for the QuestionBoard of remaining game questions.
+ * Validates case-insensitive lookup by category and value, removal of answered
+ * questions, and the sorted per-category rendering shown to players each turn.
+ */
+class QuestionBoardTest {
+
+    /** Board under test with two categories and values added out of order */
+    private QuestionBoard board;
+    private Question math200;
+    private Question math100;
+    private Question science100;
+
+    /**
+     * Test fixture setup executed before each test method.
+     * Builds a fresh board so that removals in one test do not affect another.
+     */
+    @BeforeEach
+    void setup() {
+        math200 = new Question("Math", 200, "2+2?");
+        math100 = new Question("Math", 100, "1+1?");
+        science100 = new Question("Science", 100, "H2O?");
+        board = new QuestionBoard(Arrays.asList(math200, science100, math100));
+    }
+
+    /**
+     * Tests that questions are found regardless of category case and
+     * that unknown categories or values return null.
+     */
+    @Test
+    void testFindIgnoresCategoryCase() {
+        assertSame(math100, board.find("math", 100));
+        assertSame(math200, board.find("MATH", 200));
+        assertSame(science100, board.find("Science", 100));
+        assertNull(board.find("Science", 200));
+        assertNull(board.find("History", 100));
+    }
+
+    /**
+     * Tests that removing questions shrinks the board, hides them from lookup
+     * and eventually leaves the board empty.
+     */
+    @Test
+    void testRemove() {
+        assertEquals(3, board.size());
+        assertTrue(board.remove(math100));
+        assertFalse(board.remove(math100));
+        assertNull(board.find("Math", 100));
+        assertEquals(2, board.size());
+
+        board.remove(math200);
+        board.remove(science100);
+        assertTrue(board.isEmpty());
+    }
+
+    /**
+     * Tests that the rendered board lists values in ascending order per category
+     * and drops categories once all their questions are taken.
+     */
+    @Test
+    void testRenderSortedAndUpdated() {
+        String first = board.render();
+        assertTrue(first.contains("Math"));
+        assertTrue(first.contains(" 100 200"));
+        assertSame(first, board.render());
+
+        board.remove(science100);
+        String second = board.render();
+        assertFalse(second.contains("Science"));
+        assertTrue(second.contains(" 100 200"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.oopopps;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.oopopps.report.QuestionRegistry;
+
+/**
+ * Test suite for the question registry reports use to look up the question of each turn.
+ */
+class QuestionRegistryTest {
+
+    /**
+     * Tests lookups over a bank with thousands of categories whose questions are
+     * interleaved: every question is found by identity and listed under its own
+     * category in load order, and questions outside the bank are not found.
+     */
+    @Test
+    void testLookupByCategoryId() {
+        int categoryCount = 5000;
+        List<Question> questions = new ArrayList<>();
+        for (int value = 100; value <= 300; value += 100) {
+            for (int c = 0; c < categoryCount; c++) {
+                questions.add(new Question("Category " + c, value, "Q" + c + "-" + value));
+            }
+        }
+
+        QuestionRegistry registry = new QuestionRegistry(questions);
+
+        assertEquals(questions.size(), registry.size());
+        assertEquals(categoryCount, registry.getCategories().size());
+        for (int id = 0; id < questions.size(); id++) {
+            assertEquals(id, registry.idOf(questions.get(id)));
+        }
+
+        int category = registry.getCategories().find("Category 4321");
+        assertEquals(3, registry.countIn(category));
+        for (int i = 0; i < 3; i++) {
+            Question q = registry.getQuestion(registry.questionIn(category, i));
+            assertSame(questions.get(i * categoryCount + 4321), q);
+            assertEquals(category, registry.getCategory(registry.idOf(q)));
+        }
+
+        assertEquals(-1, registry.idOf(new Question("Category 1", 100, "Q1-100")));
+        assertEquals(0, registry.countIn(categoryCount));
+    }
+}
@@ -0,0 +1,140 @@
+package com.oopopps;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test suite for the shared question-set cache.
+ * Uses a counting loader to verify single-flight loading, version-based keys,
+ * size-bounded eviction and the hit/miss/eviction counters.
+ */
+class QuestionSetCacheTest {
+    private static final String HEADER = "Category,Value,Question,OptionA,CorrectAnswer\n";
+
+    /**
+     * Temporary directory for isolated cache testing with automatic cleanup.
+     */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that concurrent requests for one file share a single load.
+     * 
+     * @throws Exception if file I/O operations fail or a request fails
+     */
+    @Test
+    void testConcurrentRequestsLoadOnce() throws Exception {
+        Path file = write("shared.csv", 3);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        QuestionSetCache cache = new QuestionSetCache(100, f -> {
+            loads.incrementAndGet();
+            release.await();
+            return new CSVQuestionParser().parse(f);
+        });
+
+        int threads = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<List<Question>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(pool.submit(() -> cache.get(file)));
+        }
+        while (cache.getHitCount() + cache.getMissCount() < threads) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        List<Question> first = results.get(0).get();
+        for (Future<List<Question>> result : results) {
+            assertSame(first, result.get());
+        }
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(threads - 1, cache.getHitCount());
+        assertEquals(3, cache.getWeight());
+        assertThrows(UnsupportedOperationException.class, () -> first.add(new Question()));
+    }
+
+    /**
+     * Tests least-recently-used eviction and reloading of changed files.
+     * 
+     * @throws Exception if file I/O operations fail or loading fails
+     */
+    @Test
+    void testEvictionAndChangedContent() throws Exception {
+        Path a = write("a.csv", 3);
+        Path b = write("b.csv", 3);
+        Path c = write("c.csv", 3);
+        QuestionSetCache cache = new QuestionSetCache(6, f -> new CSVQuestionParser().parse(f));
+
+        List<Question> setA = cache.get(a);
+        cache.get(b);
+        assertSame(setA, cache.get(a));
+        cache.get(c);
+
+        // b was least recently used
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(6, cache.getWeight());
+        assertSame(setA, cache.get(a));
+        assertEquals(3, cache.getMissCount());
+
+        Files.writeString(a, HEADER + "Changed,100,New question?,x,A\n");
+        List<Question> changed = cache.get(a);
+        assertNotSame(setA, changed);
+        assertEquals(1, changed.size());
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(4, cache.getWeight());
+    }
+
+    /**
+     * Tests that questions from a loader of mutable Questions are cached in a
+     * read-only form, so one game cannot change the questions of another.
+     * 
+     * @throws Exception if file I/O operations fail or loading fails
+     */
+    @Test
+    void testCachedQuestionsAreImmutable() throws Exception {
+        Path file = write("shared.csv", 2);
+        QuestionSetCache cache = new QuestionSetCache(100, f -> new CSVQuestionParser().parse(f));
+
+        Question q = cache.get(file).get(1);
+        assertEquals("shared.csv", q.getCategory());
+        assertEquals(200, q.getValue());
+        assertEquals("Question 1?", q.getQuestionText());
+        assertEquals("x", q.getOptions().get("OptionA"));
+        assertTrue(q.getAnswerKey().matches("A"));
+        assertThrows(UnsupportedOperationException.class, () -> q.setValue(1000));
+        assertThrows(UnsupportedOperationException.class, () -> q.setQuestionText("Changed?"));
+        assertThrows(UnsupportedOperationException.class, () -> q.getOptions().put("OptionB", "y"));
+        assertSame(q, cache.get(file).get(1));
+    }
+
+    private Path write(String name, int count) throws Exception {
+        StringBuilder sb = new StringBuilder(HEADER);
+        for (int i = 0; i < count; i++) {
+            sb.append(name).append(',').append(100 * (i + 1)).append(",Question ").append(i).append("?,x,A\n");
+        }
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, sb.toString());
+        return file;
+    }
+}
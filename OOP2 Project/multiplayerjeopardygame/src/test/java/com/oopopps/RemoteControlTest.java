@@ -1,6 +1,10 @@
 package com.oopopps;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
@@ -127,4 +131,60 @@ class RemoteControlTest {
         remote.undoLast();
         assertTrue(true);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests multi-level undo and redo, and that executing a new command
+     * discards the commands that could still have been redone.
+     */
+    @Test
+    void testRemoteControlUndoRedo() {
+        RemoteControl remote = new RemoteControl();
+        TestCommand cmd1 = new TestCommand();
+        TestCommand cmd2 = new TestCommand();
+        TestCommand cmd3 = new TestCommand();
+
+        remote.executeCommand(cmd1);
+        remote.executeCommand(cmd2);
+        remote.executeCommand(cmd3);
+        assertEquals(2, remote.undo(2));
+        assertEquals(1, cmd3.getUndoCount());
+        assertEquals(1, cmd2.getUndoCount());
+        assertEquals(2, remote.getRedoDepth());
+
+        remote.redoLast();
+        assertEquals(2, cmd2.getExecuteCount());
+        assertEquals(1, cmd3.getExecuteCount());
+
+        TestCommand cmd4 = new TestCommand();
+        remote.executeCommand(cmd4);
+        assertEquals(0, remote.getRedoDepth());
+        assertEquals(0, remote.redo(5));
+        assertEquals(3, remote.undo(10));
+        assertEquals(1, cmd1.getUndoCount());
+    }
+
+    /**
+     * Tests that a bounded history evicts its oldest commands, passes them to
+     * the eviction listener and can only undo the commands it still holds.
+     */
+    @Test
+    void testRemoteControlBoundedHistory() {
+        List<Command> evicted = new ArrayList<>();
+        RemoteControl remote = new RemoteControl(3, null, evicted::add);
+        List<TestCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            TestCommand command = new TestCommand();
+            commands.add(command);
+            remote.executeCommand(command);
+        }
+
+        assertEquals(2, evicted.size());
+        assertSame(commands.get(0), evicted.get(0));
+        assertSame(commands.get(1), evicted.get(1));
+        assertEquals(3, remote.undo(5));
+        assertEquals(0, commands.get(1).getUndoCount());
+        assertEquals(1, commands.get(2).getUndoCount());
+        assertEquals(3, remote.redo(5));
+        assertEquals(2, commands.get(4).getExecuteCount());
+    }
+}
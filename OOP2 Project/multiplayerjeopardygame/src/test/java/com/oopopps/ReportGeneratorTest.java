@@ -3,14 +3,27 @@ package com.oopopps;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.text.PDFTextStripper;
+
 import com.oopopps.report.PDFReportStrategy;
+import com.oopopps.report.QuestionRegistry;
+import com.oopopps.report.ReportStrategy;
+import com.oopopps.report.StreamingPDFReportStrategy;
 import com.oopopps.report.TextReportStrategy;
+import com.oopopps.report.TurnRecord;
 
 
 /**
@@ -61,6 +74,108 @@ class ReportGeneratorTest {
         assertTrue(content.contains("Final Scores:"));
     }
 
+    /**
+     * Tests that a text report built from a TurnRecord shows each turn's category as
+     * recorded, even when it contains the separators of the old string format, and
+     * the score each player had after that turn rather than their final score.
+     * 
+     * @throws Exception if file I/O operations fail or text generation encounters errors
+     */
+    @Test
+    void testTextReportFromTurnRecord() throws Exception {
+        List<Player> players = Arrays.asList(
+            new Player("P1", "Vincent"),
+            new Player("P2", "Jules")
+        );
+        TurnRecord turns = new TurnRecord();
+        turns.add(0, "Math: Algebra for Beginners", 100, true, 100);
+        turns.add(1, "Pop Culture", 200, false, -200);
+        turns.add(0, "Pop Culture", 300, true, 400);
+        
+        Path reportPath = tempDir.resolve("record_report.txt");
+        
+        ReportGenerator.generate(reportPath, "TEST-GAME", players, turns, new TextReportStrategy());
+        
+        String content = Files.readString(reportPath);
+
+        assertTrue(content.contains("Turn 1: Vincent selected Math: Algebra for Beginners for 100 pts"));
+        assertTrue(content.contains("Score after turn: Vincent = 100"));
+        assertTrue(content.contains("Score after turn: Jules = -200"));
+        assertTrue(content.contains("Score after turn: Vincent = 400"));
+    }
+
+    /**
+     * Tests that reports show the question that was actually asked in each turn
+     * and the option the player chose, whichever form the options are keyed by.
+     * 
+     * @throws Exception if report generation fails or file operations encounter errors
+     */
+    @Test
+    void testReportShowsAskedQuestionAndAnswer() throws Exception {
+        Question sum = new Question("Math", 100, "1+1?");
+        sum.getOptions().put("A", "2");
+        sum.getOptions().put("B", "3");
+        Question declare = new Question("Variables & Data Types", 100, "Which declares an int?");
+        declare.getOptions().put("OptionA", "int num;");
+        declare.getOptions().put("OptionB", "float num;");
+
+        List<Player> players = Arrays.asList(new Player("P1", "Vincent"));
+        TurnRecord turns = new TurnRecord(new QuestionRegistry(Arrays.asList(sum, declare)));
+        turns.add(0, sum, "A", true, 100);
+        turns.add(0, declare, "B", false, 0);
+
+        Path textPath = tempDir.resolve("questions_report.txt");
+        Path pdfPath = tempDir.resolve("questions_report.pdf");
+        ReportGenerator.generate(textPath, "TEST-GAME", players, turns, new TextReportStrategy());
+        ReportGenerator.generate(pdfPath, "TEST-GAME", players, turns, new StreamingPDFReportStrategy());
+
+        String content = Files.readString(textPath);
+        assertTrue(content.contains("Question: 1+1?"));
+        assertTrue(content.contains("Answer: A (2) "));
+        assertTrue(content.contains("Question: Which declares an int?"));
+        assertTrue(content.contains("Answer: B (float num;) "));
+
+        try (PDDocument pdf = PDDocument.load(pdfPath.toFile())) {
+            assertTrue(new PDFTextStripper().getText(pdf).contains("Answer: B (float num;) — Incorrect (-100 pts)"));
+        }
+    }
+
+    /**
+     * Tests that both PDF strategies accept question text the standard fonts cannot
+     * show: a character outside WinAnsiEncoding is printed as '?', a line break as
+     * a space, and a long question is wrapped so no line runs past the margins.
+     * 
+     * @throws Exception if report generation fails or file operations encounter errors
+     */
+    @Test
+    void testPDFReportsHandleUnprintableAndLongQuestions() throws Exception {
+        StringBuilder longText = new StringBuilder("Is a <= b written as a \u2264 b?\nExplain");
+        for (int i = 0; i < 60; i++) {
+            longText.append(" why");
+        }
+        Question question = new Question("Math", 100, longText.toString());
+        question.getOptions().put("A", "Yes");
+
+        List<Player> players = Arrays.asList(new Player("P1", "Vincent"));
+        TurnRecord turns = new TurnRecord(new QuestionRegistry(Arrays.asList(question)));
+        turns.add(0, question, "A", true, 100);
+
+        for (ReportStrategy strategy : Arrays.asList(new PDFReportStrategy(), new StreamingPDFReportStrategy())) {
+            Path reportPath = tempDir.resolve("unprintable_report.pdf");
+            ReportGenerator.generate(reportPath, "TEST-GAME", players, turns, strategy);
+
+            try (PDDocument pdf = PDDocument.load(reportPath.toFile())) {
+                String text = new PDFTextStripper().getText(pdf);
+                assertTrue(text.contains("Question: Is a <= b written as a ? b? Explain why"));
+                assertTrue(text.contains("Answer: A (Yes)"));
+                for (String line : text.split("\\R")) {
+                    float width = PDType1Font.HELVETICA.getStringWidth(line) / 1000 * 10;
+                    assertTrue(width <= 500, "Line runs off the page: " + line);
+                }
+            }
+        }
+    }
+
     /**
      * Tests PDF report generation using the PDFReportStrategy.
      * Validates that PDF reports are successfully created as binary files
@@ -87,6 +202,107 @@ class ReportGeneratorTest {
         assertTrue(Files.size(reportPath) > 0);
     }
 
+    /**
+     * Tests that a report generated from the string turn history shows each
+     * player's running score after every turn, not their final score.
+     * 
+     * @throws Exception if file I/O operations fail or text generation encounters errors
+     */
+    @Test
+    void testLegacyTurnHistoryShowsProgressiveScores() throws Exception {
+        Player vincent = new Player("P1", "Vincent");
+        Player jules = new Player("P2", "Jules");
+        vincent.updateScore(200);
+        jules.updateScore(-200);
+        List<String> turnHistory = Arrays.asList(
+            "Vincent: Math for 100 points — WRONG (-100 points)",
+            "Jules: Pop Culture for 200 points — WRONG (-200 points)",
+            "Vincent: Math for 300 points — CORRECT (+300 points)"
+        );
+        
+        Path reportPath = tempDir.resolve("legacy_report.txt");
+        
+        ReportGenerator.generate(reportPath, "TEST-GAME", Arrays.asList(vincent, jules), turnHistory, new TextReportStrategy());
+        
+        String content = Files.readString(reportPath);
+
+        int first = content.indexOf("Score after turn: Vincent = -100");
+        int second = content.indexOf("Score after turn: Jules = -200");
+        int third = content.indexOf("Score after turn: Vincent = 200");
+        assertTrue(first >= 0 && first < second && second < third);
+    }
+
+    /**
+     * Tests that the streaming PDF strategy writes a document PDFBox can read back,
+     * paginated like the in-memory PDF report and containing every turn through the
+     * final scores.
+     * 
+     * @throws Exception if PDF generation fails or file operations encounter errors
+     */
+    @Test
+    void testStreamingPDFReportMatchesPDFReport() throws Exception {
+        List<Player> players = Arrays.asList(
+            new Player("P1", "Joe"),
+            new Player("P2", "Mama")
+        );
+        TurnRecord turns = new TurnRecord();
+        int score = 0;
+        for (int i = 0; i < 300; i++) {
+            boolean correct = i % 3 != 0;
+            score += correct ? 100 : -100;
+            turns.add(i % 2, i % 2 == 0 ? "Functions" : "Pop Culture (90's)", 100, correct, score);
+        }
+        
+        Path streamed = tempDir.resolve("streamed_report.pdf");
+        Path buffered = tempDir.resolve("buffered_report.pdf");
+        
+        ReportGenerator.generate(streamed, "TEST-GAME", players, turns, new StreamingPDFReportStrategy());
+        ReportGenerator.generate(buffered, "TEST-GAME", players, turns, new PDFReportStrategy());
+        
+        try (PDDocument expected = PDDocument.load(buffered.toFile());
+             PDDocument actual = PDDocument.load(streamed.toFile())) {
+            assertTrue(actual.getNumberOfPages() > 1);
+            assertEquals(expected.getNumberOfPages(), actual.getNumberOfPages());
+
+            String text = new PDFTextStripper().getText(actual);
+            assertTrue(text.contains("Case ID: TEST-GAME"));
+            assertTrue(text.contains("Turn 300: Mama selected Pop Culture (90's) for 100 pts"));
+            assertTrue(text.contains("Answer: (not recorded) — Correct (+100 pts)"));
+            assertTrue(text.contains("Final Scores:"));
+        }
+    }
+
+    /**
+     * Tests that asynchronous generation writes every requested report from a
+     * snapshot taken when it was started, unaffected by turns and scores that
+     * change while the reports are being rendered.
+     * 
+     * @throws Exception if report generation fails or file operations encounter errors
+     */
+    @Test
+    void testGenerateAsyncRendersSnapshot() throws Exception {
+        Player vincent = new Player("P1", "Vincent");
+        List<Player> players = Arrays.asList(vincent);
+        vincent.updateScore(200);
+        TurnRecord turns = new TurnRecord();
+        turns.add(0, "Math", 200, true, 200);
+
+        Map<Path, ReportStrategy> reports = new LinkedHashMap<>();
+        reports.put(tempDir.resolve("async_report.txt"), new TextReportStrategy());
+        reports.put(tempDir.resolve("async_report.pdf"), new PDFReportStrategy());
+
+        CompletableFuture<Void> done = ReportGenerator.generateAsync("ASYNC-GAME", players, turns, reports);
+        vincent.updateScore(-500);
+        turns.add(0, "Math", 500, false, -300);
+        done.get();
+
+        String content = Files.readString(tempDir.resolve("async_report.txt"));
+        assertTrue(content.contains("Vincent: 200"));
+        assertTrue(content.contains("Turn 1:"));
+        assertFalse(content.contains("Turn 2:"));
+        assertTrue(Files.size(tempDir.resolve("async_report.pdf")) > 0);
+    }
+
     /**
      * Tests report generation with minimal data scenarios and empty collections.
      * Validates that the reporting system gracefully handles edge cases where
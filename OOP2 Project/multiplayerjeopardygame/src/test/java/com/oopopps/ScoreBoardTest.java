@@ -0,0 +1,80 @@
+package com.oopopps;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import com.oopopps.display.ScoreBoard;
+
+/**
+ * Unit test suite for the ranked ScoreBoard shown to players each turn.
+ * Validates the ranking order, rank lookups and reuse of the rendered board.
+ */
+class ScoreBoardTest {
+
+    /**
+     * Tests that the board lists players by score, highest first, with ties in
+     * joining order, and that it is only re-rendered after a score changes.
+     */
+    @Test
+    void testRankedRenderIsCached() {
+        Player vincent = new Player("P1", "Vincent");
+        Player jules = new Player("P2", "Jules");
+        Player mia = new Player("P3", "Mia");
+        ScoreBoard board = new ScoreBoard();
+        board.initPlayers(List.of(vincent, jules, mia));
+
+        String first = board.render();
+        assertEquals("ScoreBoard\nVincent: 0\nJules: 0\nMia: 0\n", first);
+        assertSame(first, board.render());
+
+        jules.updateScore(200);
+        board.update(jules);
+        board.update(vincent);
+        String second = board.render();
+        assertNotSame(first, second);
+        assertEquals("ScoreBoard\nJules: 200\nVincent: 0\nMia: 0\n", second);
+
+        mia.updateScore(-100);
+        board.update(mia);
+        assertEquals("ScoreBoard\nJules: 200\nVincent: 0\nMia: -100\n", board.render());
+        assertEquals(1, board.getRank("Jules"));
+        assertEquals(3, board.getRank("Mia"));
+        assertEquals(0, board.getRank("Nobody"));
+    }
+
+    /**
+     * Tests that ranks stay correct over many random score changes on a board
+     * with thousands of players.
+     */
+    @Test
+    void testRanksMatchSortedScores() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            players.add(new Player("P" + i, "Player" + i));
+        }
+        ScoreBoard board = new ScoreBoard();
+        board.initPlayers(players);
+
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            Player player = players.get(random.nextInt(players.size()));
+            player.updateScore((random.nextInt(11) - 5) * 100);
+            board.update(player);
+        }
+
+        // Stable sort keeps joining order among equal scores
+        List<Player> expected = new ArrayList<>(players);
+        expected.sort(Comparator.comparingInt(Player::getScore).reversed());
+        for (int i = 0; i < expected.size(); i += 97) {
+            assertEquals(i + 1, board.getRank(expected.get(i).getName()));
+        }
+        assertEquals(expected.get(0).getName(), board.getScores().keySet().iterator().next());
+    }
+}